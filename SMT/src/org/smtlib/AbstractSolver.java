@@ -5,6 +5,8 @@
  */
 package org.smtlib;
 
+import java.time.Duration;
+
 import org.smtlib.ICommand.Ideclare_const;
 import org.smtlib.ICommand.Ideclare_datatypes;
 import org.smtlib.ICommand.Ideclare_fun;
@@ -122,6 +124,18 @@ public class AbstractSolver implements ISolver {
 		throw new UnsupportedOperationException("AbstractSolver.check_sat");
 	}
 
+	/** @see org.smtlib.ISolver#check_sat(Duration)*/
+	@Override
+	public IResponse check_sat(Duration timeout) {
+		throw new UnsupportedOperationException("AbstractSolver.check_sat");
+	}
+
+	/** @see org.smtlib.ISolver#cancel()*/
+	@Override
+	public void cancel() {
+		throw new UnsupportedOperationException("AbstractSolver.cancel");
+	}
+
 	/** @see org.smtlib.ISolver#check_sat_assuming()*/
 	@Override
 	public IResponse check_sat_assuming(IExpr ... exprs) {
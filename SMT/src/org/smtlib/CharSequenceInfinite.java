@@ -19,6 +19,11 @@ import java.nio.CharBuffer;
  * whether this will cause problems
  * in some uses of the CharSequenceReader is unknown.  The user should not use the value of length()
  * directly; it seems to work in the ways it is called from Pattern.matcher.
+ * <P>
+ * The sequence is also a sliding window: characters that are no longer needed can be discarded
+ * (cf. discard()), after which they can no longer be read, though later characters keep their
+ * indices. The parser discards the text of each command once the command has been executed, so
+ * that a long-lived interactive session holds no more than about one command's worth of input.
  * @author David R. Cok
  *
  */
@@ -63,32 +68,46 @@ public abstract class CharSequenceInfinite implements CharSequence {
 	//@ invariant sizeMultiple >= 1 && (sizeIncrease==0 ==> sizeMultiple > 1);
 	protected double sizeMultiple;
 
-	/** The internal char array that holds characters as they are read */
+	/** The internal char array that holds characters as they are read; buf[0] is the character
+	 * at index 'discarded' of the sequence */
 	protected char /*@NonNull*/[] buf;
 
-	/** The number of characters read so far (and in the char array) */
+	/** The number of characters read and held in the char array */
 	//@ invariant amountRead >= 0 && amountRead <= buf.length;
 	protected int amountRead;
 
+	/** The number of characters at the beginning of the sequence that have been discarded */
+	//@ invariant discarded >= 0;
+	protected int discarded = 0;
+
+	/** The number of line terminations among the discarded characters */
+	protected int discardedLines = 0;
+
+	/** The last character discarded, if any */
+	private char lastDiscarded = 0;
+
 	/** The implicit length of the CharSequence; note that this length may change as characters are read */
-	//@ invariant length >= 0 && length >= amountRead;
+	//@ invariant length >= 0 && length >= discarded+amountRead;
 	protected int length;
 
 	/** The character to use to mark the end of input */
 	final public static char endChar = (char)25;
 
-	//@ constraint (\forall int i; 0 <= i < \old(amountRead); \old(buf[i]) == buf[i]);
-	//@ constraint amountRead >= \old(amountRead);
+	//@ constraint (\forall int i; \old(discarded) <= i < \old(discarded+amountRead); i >= discarded ==> \old(buf[i-\old(discarded)]) == buf[i-discarded]);
+	//@ constraint discarded+amountRead >= \old(discarded+amountRead);
 	
 	/** Returns the char at the given index; this may block while input is read if the char has
 	 * not been read before.  An IOException that occurs while reading input is converted to an
 	 * undeclared RuntimeException. 
+	 * @throws IndexOutOfBoundsException if the character has been discarded
 	 */
-	//@ requires index >= 0;
+	//@ requires index >= discarded;
 	//@ assigns buf, buf[amountRead..], amountRead, length;
-	//@ ensures index < amountRead;
+	//@ ensures index < discarded+amountRead;
 	@Override
 	public char charAt(int index) {
+		if (index < discarded) throw new IndexOutOfBoundsException("Character " + index + " has been discarded");
+		index -= discarded;
 		if (index >= amountRead) {
 			if (index >= buf.length) {
 				// We need +1 because one needs a buffer of at least size 2 to include index=1
@@ -100,7 +119,7 @@ public abstract class CharSequenceInfinite implements CharSequence {
 					if (!readChars()){
 						//SMT.out.println("END OF INPUT READ");
 						buf[amountRead++] = endChar;
-						length = amountRead;
+						length = discarded + amountRead;
 						return endChar;
 					}
 				}
@@ -167,8 +186,42 @@ public abstract class CharSequenceInfinite implements CharSequence {
 	 */
 	@Override
 	public CharSequence subSequence(int start, int end) {
-		charAt(end-1); // Just to be sure it has been read
-		return CharBuffer.wrap(buf,start,end-start);
+		if (start < discarded) throw new IndexOutOfBoundsException("Character " + start + " has been discarded");
+		if (end > start) charAt(end-1); // Just to be sure it has been read
+		return CharBuffer.wrap(buf,start-discarded,end-start);
+	}
+	
+	/** Returns the index of the first character that has not been discarded */
+	public int discarded() {
+		return discarded;
+	}
+	
+	/** Returns the number of line terminations (counting CR-LF as one) before the first character
+	 * that has not been discarded */
+	public int discardedLines() {
+		return discardedLines;
+	}
+	
+	/** Discards the characters before the given index (but no more than have been read), so that
+	 * the memory they occupy can be reused; they may not be read afterwards, but later characters
+	 * keep their indices. The index should be the beginning of a line, so that line numbers, which
+	 * are counted as the characters are discarded, stay correct.
+	 */
+	//@ requires index >= 0;
+	//@ ensures discarded >= \old(discarded);
+	public void discard(int index) {
+		int n = Math.min(index, discarded + amountRead) - discarded;
+		if (n <= 0) return;
+		char prev = lastDiscarded;
+		for (int i = 0; i < n; i++) {
+			char c = buf[i];
+			if (c == '\r' || (c == '\n' && prev != '\r')) discardedLines++;
+			prev = c;
+		}
+		lastDiscarded = prev;
+		System.arraycopy(buf,n,buf,0,amountRead-n);
+		amountRead -= n;
+		discarded += n;
 	}
 	
 }
@@ -0,0 +1,105 @@
+/*
+ * This file is part of the SMT project.
+ * Copyright 2010 David R. Cok
+ * Created August 2010
+ */
+package org.smtlib;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+
+/** This class implements a CharSequence over the contents of a file that is memory-mapped rather
+ * than read: the characters are not copied into the Java heap, and, unlike CharSequenceReader,
+ * the length is known from the start. Each byte of the file is one character, so only files
+ * that are entirely ASCII can be represented; use map(), which checks that.
+ * @author David R. Cok
+ */
+public class CharSequenceMapped implements CharSequence {
+
+	/** The bytes of the file */
+	final protected ByteBuffer bytes;
+
+	/** The position within bytes of the first character of this sequence */
+	final protected int offset;
+
+	/** The number of characters in this sequence */
+	final protected int length;
+
+	/** Creates a sequence of the given number of characters, beginning at the given position of the given bytes */
+	protected CharSequenceMapped(ByteBuffer bytes, int offset, int length) {
+		this.bytes = bytes;
+		this.offset = offset;
+		this.length = length;
+	}
+
+	/** Maps the given file into memory, returning a CharSequence over its contents, or null if the
+	 * file cannot be represented this way (it is not ASCII, is too large to map, or mapping failed),
+	 * in which case the caller should read it with a CharSequenceReader instead.
+	 * @throws FileNotFoundException if the file does not exist or cannot be opened
+	 */
+	static public /*@Nullable*/ CharSequenceMapped map(File file) throws FileNotFoundException {
+		FileInputStream stream = new FileInputStream(file);
+		try {
+			FileChannel channel = stream.getChannel();
+			long size = channel.size();
+			if (size >= Integer.MAX_VALUE) return null;
+			// The mapping remains valid after the channel is closed
+			ByteBuffer bytes = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+			if (!isASCII(bytes)) return null;
+			return new CharSequenceMapped(bytes, 0, (int)size);
+		} catch (IOException e) {
+			return null;
+		} finally {
+			try {
+				stream.close();
+			} catch (IOException e) {
+				// Ignore
+			}
+		}
+	}
+
+	/** Returns true if no byte of the given buffer has its high bit set */
+	static protected boolean isASCII(ByteBuffer bytes) {
+		int n = bytes.limit();
+		int i = 0;
+		for (; i + 8 <= n; i += 8) {
+			if ((bytes.getLong(i) & 0x8080808080808080L) != 0) return false;
+		}
+		for (; i < n; i++) {
+			if (bytes.get(i) < 0) return false;
+		}
+		return true;
+	}
+
+	@Override
+	public int length() {
+		return length;
+	}
+
+	@Override
+	public char charAt(int index) {
+		if (index < 0 || index >= length) throw new IndexOutOfBoundsException("Index: " + index + " Length: " + length);
+		return (char)bytes.get(offset + index);
+	}
+
+	/** Returns a sub-sequence, which shares the mapped bytes of this sequence */
+	@Override
+	public CharSequence subSequence(int start, int end) {
+		if (start < 0 || end > length || start > end) throw new IndexOutOfBoundsException("Range: " + start + " " + end + " Length: " + length);
+		return new CharSequenceMapped(bytes, offset + start, end - start);
+	}
+
+	@Override
+	public String toString() {
+		byte[] b = new byte[length];
+		ByteBuffer view = bytes.duplicate();
+		view.position(offset);
+		view.get(b);
+		return new String(b, StandardCharsets.ISO_8859_1);
+	}
+}
@@ -5,6 +5,8 @@
  */
 package org.smtlib;
 
+import java.time.Duration;
+
 import org.smtlib.ICommand.Ideclare_const;
 import org.smtlib.ICommand.Ideclare_fun;
 import org.smtlib.ICommand.Ideclare_datatypes;
@@ -83,6 +85,23 @@ public interface ISolver {
 	 */
 	IResponse check_sat();
 	
+	/** Checks whether the current state is satisfiable, as check_sat() does, but gives up if the
+	 * solver has not answered within the given time (or if cancel() is called). The deadline is 
+	 * enforced by the adapter, whether or not the solver itself supports a timeout; a solver that
+	 * misses the deadline is killed, so it must be started again before further use. A solver that
+	 * was started with SMT.Configuration.timeout as its own limit is given until 
+	 * SMT.Configuration.cancelDeadline, so that it can answer by itself first.
+	 * @param timeout the maximum time to wait for the solver's answer
+	 * @return sat, unsat, unknown, timeout or error
+	 */
+	IResponse check_sat(Duration timeout);
+	
+	/** Abandons the command, if any, that is currently waiting for the solver; this may be called
+	 * from any thread. The solver process is killed, so the solver must be started again before 
+	 * further use.
+	 */
+	void cancel();
+	
 	/** Checks whether the current state is satisfiable in the current logic, under specified assumptions.
 	 * @return sat, unsat, unknown or error
 	 */
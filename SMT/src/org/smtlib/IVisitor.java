@@ -9,6 +9,10 @@ package org.smtlib;
 // FIXME - figure out how to properly do Nullable for generic types
 // FIXME - do a review of all of the visit methods to be sure we have the structure correct
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
 import org.smtlib.ICommand.IScript;
 import org.smtlib.IExpr.IAsIdentifier;
 import org.smtlib.IExpr.IAttribute;
@@ -281,15 +285,46 @@ public interface IVisitor</*@Nullable*/T extends /*@Nullable*/ Object> {
 	/** This class is an implementation of IVisitor meant fur further derivation:
 	 * each visitor is implemented to visit its children without doing anything else;
 	 * the default return value is null.
+	 * <P>
+	 * The children are visited by descend, which does not visit a child at once but
+	 * schedules it on an explicit stack; the children of a node are visited, in order,
+	 * after the visit method of that node has returned (and before its later siblings),
+	 * so the nodes are still visited in pre-order, but the depth of the Java stack does
+	 * not grow with the depth of the tree.  A derived visit method that calls the
+	 * super method should therefore do its work before the call, not after.
 	 * @param <T> the type of the return value
 	 */
 	public class TreeVisitor</*@Nullable*/T> implements IVisitor</*@Nullable*/T> {
 
+		/** The nodes scheduled to be visited, the next one last, while a walk is under way; null otherwise */
+		private /*@Nullable*/ List<IAccept> pending = null;
+
+		/** Visits the given child of the node being visited: it is scheduled if a walk
+		 * is under way, and otherwise a walk is begun from it */
+		protected void descend(IAccept child) throws VisitorException {
+			if (pending != null) {
+				pending.add(child);
+				return;
+			}
+			List<IAccept> stack = pending = new ArrayList<IAccept>();
+			try {
+				stack.add(child);
+				while (!stack.isEmpty()) {
+					int mark = stack.size() - 1;
+					stack.remove(mark).accept(this);
+					// The children just scheduled were added first to last; the next to visit goes last
+					Collections.reverse(stack.subList(mark,stack.size()));
+				}
+			} finally {
+				pending = null;
+			}
+		}
+
 		@Override
 		public /*@Nullable*/T visit(IAttribute<?> e) throws VisitorException {
-			e.keyword().accept(this);
+			descend(e.keyword());
 			if (e.attrValue() instanceof IAccept) {
-				((IAccept)e.attrValue()).accept(this);
+				descend((IAccept)e.attrValue());
 			}
 			return null;
 		}
@@ -301,8 +336,8 @@ public interface IVisitor</*@Nullable*/T extends /*@Nullable*/ Object> {
 
 		@Override
 		public /*@Nullable*/T visit(IAttributedExpr e) throws VisitorException {
-			e.expr().accept(this);
-			for (IAttribute<?> a: e.attributes()) a.accept(this);
+			descend(e.expr());
+			for (IAttribute<?> a: e.attributes()) descend(a);
 			return null;
 		}
 
@@ -313,8 +348,8 @@ public interface IVisitor</*@Nullable*/T extends /*@Nullable*/ Object> {
 
 		@Override
 		public /*@Nullable*/T visit(IBinding e) throws VisitorException {
-			e.parameter().accept(this);
-			e.expr().accept(this);
+			descend(e.parameter());
+			descend(e.expr());
 			return null;
 		}
 
@@ -335,22 +370,22 @@ public interface IVisitor</*@Nullable*/T extends /*@Nullable*/ Object> {
 
 		@Override
 		public /*@Nullable*/T visit(IExists e) throws VisitorException {
-			for (IDeclaration d: e.parameters()) d.accept(this);
-			e.expr().accept(this);
+			for (IDeclaration d: e.parameters()) descend(d);
+			descend(e.expr());
 			return null;
 		}
 
 		@Override
 		public /*@Nullable*/T visit(IFcnExpr e) throws VisitorException {
-			e.head().accept(this);
-			for (IExpr p: e.args()) p.accept(this);
+			descend(e.head());
+			for (IExpr p: e.args()) descend(p);
 			return null;
 		}
 
 		@Override
 		public /*@Nullable*/T visit(IForall e) throws VisitorException {
-			for (IDeclaration d: e.parameters()) d.accept(this);
-			e.expr().accept(this);
+			for (IDeclaration d: e.parameters()) descend(d);
+			descend(e.expr());
 			return null;
 		}
 
@@ -366,8 +401,8 @@ public interface IVisitor</*@Nullable*/T extends /*@Nullable*/ Object> {
 
 		@Override
 		public /*@Nullable*/T visit(ILet e) throws VisitorException {
-			for (IBinding d: e.bindings()) d.accept(this);
-			e.expr().accept(this);
+			for (IBinding d: e.bindings()) descend(d);
+			descend(e.expr());
 			return null;
 		}
 
@@ -378,22 +413,22 @@ public interface IVisitor</*@Nullable*/T extends /*@Nullable*/ Object> {
 
 		@Override
 		public /*@Nullable*/T visit(IDeclaration e) throws VisitorException {
-			e.parameter().accept(this);
-			e.sort().accept(this);
+			descend(e.parameter());
+			descend(e.sort());
 			return null;
 		}
 
 		@Override
 		public /*@Nullable*/T visit(IParameterizedIdentifier e) throws VisitorException {
-			e.headSymbol().accept(this);
-			for (INumeral n: e.numerals()) n.accept(this);
+			descend(e.headSymbol());
+			for (INumeral n: e.numerals()) descend(n);
 			return null;
 		}
 
 		@Override
 		public /*@Nullable*/T visit(IAsIdentifier e) throws VisitorException {
-			e.head().accept(this);
-			e.qualifier().accept(this);
+			descend(e.head());
+			descend(e.qualifier());
 			return null;
 		}
 
@@ -409,7 +444,7 @@ public interface IVisitor</*@Nullable*/T extends /*@Nullable*/ Object> {
 
 		@Override
 		public /*@Nullable*/T visit(IScript e) throws VisitorException {
-			for (ICommand c: e.commands()) c.accept(this);
+			for (ICommand c: e.commands()) descend(c);
 			return null;
 		}
 
@@ -433,46 +468,46 @@ public interface IVisitor</*@Nullable*/T extends /*@Nullable*/ Object> {
 
 		@Override
 		public /*@Nullable*/T visit(IAbbreviation s) throws VisitorException {
-			s.identifier().accept(this);
-			for (IParameter p: s.parameters()) p.accept(this);
-			s.sortExpression().accept(this);
+			descend(s.identifier());
+			for (IParameter p: s.parameters()) descend(p);
+			descend(s.sortExpression());
 			return null;
 		}
 
 		@Override
 		public /*@Nullable*/T visit(IApplication s) throws VisitorException {
-			s.family().accept(this);
-			for (ISort ss: s.parameters()) ss.accept(this);
+			descend(s.family());
+			for (ISort ss: s.parameters()) descend(ss);
 			return null;
 		}
 
 		@Override
 		public /*@Nullable*/T visit(IFcnSort s) throws VisitorException {
-			for (ISort ss: s.argSorts()) ss.accept(this);
-			s.resultSort().accept(this);
+			for (ISort ss: s.argSorts()) descend(ss);
+			descend(s.resultSort());
 			return null;
 		}
 
 		@Override
 		public /*@Nullable*/T visit(IParameter s) throws VisitorException {
-			s.symbol().accept(this);
+			descend(s.symbol());
 			return null;
 		}
 		
 		@Override
 		public /*@Nullable*/T visit(ILogic s) throws VisitorException {
-			s.logicName().accept(this);
+			descend(s.logicName());
 			for (IAttribute<?> attr: s.attributes().values()) {
-				attr.accept(this);
+				descend(attr);
 			}
 			return null;
 		}
 
 		@Override
 		public /*@Nullable*/T visit(ITheory s) throws VisitorException {
-			s.theoryName().accept(this);
+			descend(s.theoryName());
 			for (IAttribute<?> attr: s.attributes().values()) {
-				attr.accept(this);
+				descend(attr);
 			}
 			return null;
 		}
@@ -480,7 +515,7 @@ public interface IVisitor</*@Nullable*/T extends /*@Nullable*/ Object> {
 		@Override
 		public T visit(IAssertionsResponse e) throws VisitorException {
 			for (IExpr t : e.assertions()) {
-				t.accept(this);
+				descend(t);
 			}
 			return null;
 		}
@@ -488,7 +523,7 @@ public interface IVisitor</*@Nullable*/T extends /*@Nullable*/ Object> {
 		@Override
 		public T visit(IAssignmentResponse e) throws VisitorException {
 			for (IResponse.IPair<ISymbol,Boolean> p : e.assignments()) {
-				p.first().accept(this);
+				descend(p.first());
 			}
 			return null;
 		}
@@ -502,8 +537,8 @@ public interface IVisitor</*@Nullable*/T extends /*@Nullable*/ Object> {
 		@Override
 		public T visit(IValueResponse e) throws VisitorException {
 			for (IResponse.IPair<IExpr,IExpr> p : e.values()) {
-				p.first().accept(this);
-				p.second().accept(this);
+				descend(p.first());
+				descend(p.second());
 			}
 			return null;
 		}
@@ -511,7 +546,7 @@ public interface IVisitor</*@Nullable*/T extends /*@Nullable*/ Object> {
 		@Override
 		public T visit(IUnsatCoreResponse e) throws VisitorException {
 			for (ISymbol s: e.names()) {
-				s.accept(this);
+				descend(s);
 			}
 			return null;
 		}
@@ -519,7 +554,7 @@ public interface IVisitor</*@Nullable*/T extends /*@Nullable*/ Object> {
 		@Override
 		public T visit(IAttributeList e) throws VisitorException {
 			for (IAttribute<?> a : e.attributes()) {
-				a.accept(this);
+				descend(a);
 			}
 			return null;
 		}
@@ -0,0 +1,131 @@
+/*
+ * This file is part of the SMT project.
+ * Copyright 2010 David R. Cok
+ * Created August 2010
+ */
+package org.smtlib;
+
+import java.io.File;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/** A process-wide, thread-safe cache of parsed theory definitions and of the symbol table
+ * background frames that loading a logic produces, so that set-logic need not re-read and
+ * re-parse the logic and theory files each time it is executed; on a hit, set-logic just
+ * attaches the saved frame to the solver's symbol table.
+ * <P>
+ * Entries are keyed by the logic or theory name, the logic path and the SMT-LIB version, and
+ * are discarded when a file they were read from has changed (or disappeared) since. Logic and
+ * theory definitions found on the class path (logicPath == null) are presumed not to change.
+ * Nothing is cached while SMT.logicFinder has been replaced by a finder other than the default one.
+ */
+public class LogicCache {
+
+	/** A cached value, with the stamps (see stamp()) of the files it was read from, by name */
+	static protected class Cached {
+		final public Object value;
+		final public Map<String,Long> stamps;
+
+		public Cached(Object value, Map<String,Long> stamps) {
+			this.value = value;
+			this.stamps = stamps;
+		}
+	}
+
+	/** The parsed theory definitions (ITheory), by key */
+	static final protected ConcurrentHashMap<String,Cached> theories = new ConcurrentHashMap<String,Cached>();
+
+	/** The background frames (SymbolTable.Background) of loaded logics, by key */
+	static final protected ConcurrentHashMap<String,Cached> logics = new ConcurrentHashMap<String,Cached>();
+
+	/** Objects on which to synchronize while a logic is loaded, so that it is only loaded once, by key */
+	static final protected ConcurrentHashMap<String,Object> locks = new ConcurrentHashMap<String,Object>();
+
+	/** The key for the given logic or theory name under the given configuration */
+	static protected String key(SMT.Configuration smtConfig, String name) {
+		return name + File.pathSeparator + smtConfig.logicPath + File.pathSeparator + SMT.Configuration.smtlib;
+	}
+
+	/** Whether the cache is in use: only while SMT.logicFinder is the default finder, since the
+	 * stamps (and the keys) presume that logic and theory files are found where it finds them */
+	static public boolean enabled() {
+		return SMT.logicFinder == SMT.defaultLogicFinder;
+	}
+
+	/** Returns the last-modified time of the file that holds the definition of the given logic or
+	 * theory, found as SMT.logicFinder finds it by default; 0 if the definition is found on the class
+	 * path, and -1 if no such file exists.
+	 */
+	static public long stamp(SMT.Configuration smtConfig, String name) {
+		String path = smtConfig.logicPath;
+		if (path == null) return 0;
+		for (String d: path.split(File.pathSeparator)) {
+			File f = new File(d + File.separator + name + Utils.SUFFIX);
+			if (f.exists()) return f.lastModified();
+		}
+		return -1;
+	}
+
+	/** Returns the value of the given entry, if it is present and none of its files has changed */
+	static protected /*@Nullable*/ Object lookup(ConcurrentHashMap<String,Cached> map, SMT.Configuration smtConfig, String name) {
+		if (!enabled()) return null;
+		String key = key(smtConfig,name);
+		Cached cached = map.get(key);
+		if (cached == null) return null;
+		for (Map.Entry<String,Long> e: cached.stamps.entrySet()) {
+			if (stamp(smtConfig,e.getKey()) != e.getValue()) {
+				map.remove(key,cached);
+				return null;
+			}
+		}
+		return cached.value;
+	}
+
+	/** Returns the cached definition of the named theory, or null if it is not cached or is out of date */
+	static public /*@Nullable*/ ITheory theory(SMT.Configuration smtConfig, String theoryName) {
+		return (ITheory)lookup(theories,smtConfig,theoryName);
+	}
+
+	/** Caches the definition of the named theory, read from a file with the given stamp (which should be
+	 * taken before the file is read) */
+	static public void putTheory(SMT.Configuration smtConfig, String theoryName, ITheory theory, long stamp) {
+		if (!enabled()) return;
+		Map<String,Long> stamps = new HashMap<String,Long>();
+		stamps.put(theoryName,stamp);
+		theories.put(key(smtConfig,theoryName), new Cached(theory,stamps));
+	}
+
+	/** Returns the cached background frame for the named logic, or null if it is not cached or is out of date */
+	static public /*@Nullable*/ SymbolTable.Background logic(SMT.Configuration smtConfig, String logicName) {
+		return (SymbolTable.Background)lookup(logics,smtConfig,logicName);
+	}
+
+	/** Caches the background frame for the named logic, read from a file with the given stamp (which should
+	 * be taken before the file is read); the stamps of the theories the logic loaded are recorded as well */
+	static public void putLogic(SMT.Configuration smtConfig, String logicName, SymbolTable.Background background, long stamp) {
+		if (!enabled()) return;
+		Map<String,Long> stamps = new HashMap<String,Long>();
+		for (String theoryName: background.theories) stamps.put(theoryName,stamp(smtConfig,theoryName));
+		stamps.put(logicName,stamp);
+		logics.put(key(smtConfig,logicName), new Cached(background,stamps));
+	}
+
+	/** Returns the object to synchronize on while loading the named logic */
+	static public Object lock(SMT.Configuration smtConfig, String logicName) {
+		String key = key(smtConfig,logicName);
+		Object lock = locks.get(key);
+		if (lock == null) {
+			Object newLock = new Object();
+			lock = locks.putIfAbsent(key,newLock);
+			if (lock == null) lock = newLock;
+		}
+		return lock;
+	}
+
+	/** Discards everything in the cache */
+	static public void clear() {
+		theories.clear();
+		logics.clear();
+	}
+}
@@ -0,0 +1,416 @@
+/*
+ * This file is part of the SMT project.
+ * Copyright 2010 David R. Cok
+ * Created August 2010
+ */
+package org.smtlib;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.Constructor;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.URL;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+import java.util.zip.CRC32;
+
+import org.smtlib.IExpr.IAttribute;
+import org.smtlib.IExpr.IIdentifier;
+import org.smtlib.IExpr.IKeyword;
+import org.smtlib.IExpr.INumeral;
+import org.smtlib.IExpr.ISymbol;
+import org.smtlib.impl.SMTExpr;
+import org.smtlib.sexpr.ISexpr;
+import org.smtlib.sexpr.Lexer;
+import org.smtlib.sexpr.Sexpr;
+
+/** Reads and writes binary snapshots of loaded logics: the symbol table background frame (see
+ * SymbolTable.Background) that loading a logic produces, in a compact form that is read back
+ * without any lexing or parsing. Snapshots are made at build time (the snapshots target of
+ * build.xml runs main()) and are looked for beside the logic files, as &lt;logic&gt;.snapshot.
+ * A snapshot records a checksum of each logic and theory file it was made from; if any of those
+ * files has changed since, the snapshot is ignored and the logic is read from its text.
+ */
+public class LogicSnapshot {
+
+	/** The suffix of snapshot files */
+	static final public String SUFFIX = ".snapshot";
+
+	/** The first int of a snapshot ("SMTS") */
+	static final protected int MAGIC = 0x534D5453;
+
+	/** The version of the snapshot format, the second int of a snapshot */
+	static final protected int VERSION = 1;
+
+	// Tags for the kinds of attribute values
+	static final protected byte NONE = 0;
+	static final protected byte SEQ = 1;
+	static final protected byte SYMBOL = 2;
+	static final protected byte KEYWORD = 3;
+	static final protected byte STRING = 4;
+	static final protected byte NUMERAL = 5;
+	static final protected byte DECIMAL = 6;
+
+	/** Opens the snapshot of the named logic, looking where SMT.logicFinder looks for logic files by
+	 * default; returns null if there is none */
+	static protected /*@Nullable*/ InputStream find(SMT.Configuration smtConfig, String logicName) throws IOException {
+		String path = smtConfig.logicPath;
+		if (path == null) {
+			URL url = ClassLoader.getSystemResource(logicName + SUFFIX);
+			return url == null ? null : url.openStream();
+		}
+		for (String d: path.split(File.pathSeparator)) {
+			File f = new File(d + File.separator + logicName + SUFFIX);
+			if (f.exists()) return new FileInputStream(f);
+		}
+		return null;
+	}
+
+	/** Returns the CRC-32 checksum of the named logic or theory file, as found by SMT.logicFinder;
+	 * returns -1 if there is no such file */
+	static protected long checksum(SMT.Configuration smtConfig, String name) throws IOException {
+		InputStream input;
+		try {
+			input = SMT.logicFinder.find(smtConfig, name, null);
+		} catch (Utils.SMTLIBException e) {
+			return -1;
+		}
+		if (input == null) return -1;
+		try {
+			CRC32 crc = new CRC32();
+			byte[] buf = new byte[8192];
+			int n;
+			while ((n = input.read(buf)) > 0) crc.update(buf,0,n);
+			return crc.getValue();
+		} finally {
+			input.close();
+		}
+	}
+
+	/** Reads the snapshot of the named logic; returns null if there is none, or if it is out of date or
+	 * cannot be read, in which case the logic should be read from its text instead */
+	static public /*@Nullable*/ SymbolTable.Background read(SMT.Configuration smtConfig, String logicName) {
+		InputStream input = null;
+		try {
+			input = find(smtConfig, logicName);
+			if (input == null) return null;
+			SymbolTable.Background background = read(smtConfig, logicName, new DataInputStream(new BufferedInputStream(input)));
+			if (background != null && smtConfig.verbose != 0) smtConfig.log.logDiag("#Read the snapshot of logic " + logicName);
+			return background;
+		} catch (IOException e) {
+			if (smtConfig.verbose != 0) smtConfig.log.logDiag("#Ignoring the snapshot of logic " + logicName + ": " + e);
+			return null;
+		} finally {
+			try {
+				if (input != null) input.close();
+			} catch (IOException e) {
+				// Ignore
+			}
+		}
+	}
+
+	/** Reads a snapshot of the named logic from the given stream; returns null if it is out of date */
+	static protected /*@Nullable*/ SymbolTable.Background read(SMT.Configuration smtConfig, String logicName, DataInputStream data) throws IOException {
+		if (data.readInt() != MAGIC || data.readInt() != VERSION) throw new IOException("Not a snapshot of format version " + VERSION);
+		if (!logicName.equals(data.readUTF())) throw new IOException("The snapshot is of a different logic");
+		int n = data.readInt();
+		for (int i = 0; i < n; i++) {
+			String name = data.readUTF();
+			if (checksum(smtConfig, name) != data.readLong()) {
+				if (smtConfig.verbose != 0) smtConfig.log.logDiag("#The snapshot of logic " + logicName + " is out of date: " + name + " has changed");
+				return null;
+			}
+		}
+		ISymbol name = (ISymbol)Lexer.symbolToken(data.readUTF());
+		ILogic logic = createLogic(name, readAttributes(smtConfig, data));
+		boolean arrayTheorySet = data.readBoolean();
+		boolean bitVectorTheorySet = data.readBoolean();
+		boolean realsIntsTheorySet = data.readBoolean();
+		n = data.readInt();
+		List<String> theories = new LinkedList<String>();
+		for (int i = 0; i < n; i++) theories.add(data.readUTF());
+
+		Map<IIdentifier,ISort.IDefinition> sorts = new HashMap<IIdentifier,ISort.IDefinition>();
+		n = data.readInt();
+		for (int i = 0; i < n; i++) {
+			ISymbol sym = (ISymbol)Lexer.symbolToken(data.readUTF());
+			INumeral arity = (INumeral)Lexer.numeralToken(BigInteger.valueOf(data.readInt()));
+			sorts.put(sym, smtConfig.sortFactory.createSortFamily(sym,arity));
+		}
+
+		Map<IIdentifier,Map<Integer,List<SymbolTable.Entry>>> names = new HashMap<IIdentifier,Map<Integer,List<SymbolTable.Entry>>>();
+		n = data.readInt();
+		for (int i = 0; i < n; i++) {
+			ISymbol sym = (ISymbol)Lexer.symbolToken(data.readUTF());
+			Map<Integer,List<SymbolTable.Entry>> arityMap = new HashMap<Integer,List<SymbolTable.Entry>>();
+			int na = data.readInt();
+			for (int j = 0; j < na; j++) {
+				int arity = data.readInt();
+				int ne = data.readInt();
+				List<SymbolTable.Entry> entries = new LinkedList<SymbolTable.Entry>();
+				for (int k = 0; k < ne; k++) {
+					ISort[] argSorts = new ISort[arity];
+					for (int a = 0; a < arity; a++) argSorts[a] = readSort(smtConfig, sorts, data);
+					ISort result = data.readBoolean() ? readSort(smtConfig, sorts, data) : null;
+					List<IAttribute<?>> attrs = data.readBoolean() ? readAttributes(smtConfig, data) : null;
+					entries.add(new SymbolTable.Entry(sym, smtConfig.sortFactory.createFcnSort(argSorts,result), attrs));
+				}
+				arityMap.put(arity, entries);
+			}
+			names.put(sym, arityMap);
+		}
+		return new SymbolTable.Background(sorts, names, logic, arrayTheorySet, bitVectorTheorySet, realsIntsTheorySet, theories);
+	}
+
+	/** Reads the name of a sort (one defined in the given map) and returns an expression for it */
+	static protected ISort readSort(SMT.Configuration smtConfig, Map<IIdentifier,ISort.IDefinition> sorts, DataInputStream data) throws IOException {
+		String name = data.readUTF();
+		ISort.IDefinition def = sorts.get(Lexer.symbolToken(name));
+		if (def == null) throw new IOException("Undefined sort " + name);
+		ISort.IApplication sort = smtConfig.sortFactory.createSortExpression(def.identifier());
+		sort.definition(def);
+		return sort;
+	}
+
+	/** Reads a list of attributes */
+	static protected List<IAttribute<?>> readAttributes(SMT.Configuration smtConfig, DataInputStream data) throws IOException {
+		List<IAttribute<?>> attrs = new LinkedList<IAttribute<?>>();
+		int n = data.readInt();
+		for (int i = 0; i < n; i++) {
+			IKeyword keyword = (IKeyword)Lexer.keywordToken(data.readUTF());
+			ISexpr value = readValue(data);
+			attrs.add(value == null ? smtConfig.exprFactory.attribute(keyword) : smtConfig.exprFactory.attribute(keyword,value));
+		}
+		return attrs;
+	}
+
+	/** Reads an attribute value, as the tokens and sequences that the parser produces */
+	static protected /*@Nullable*/ ISexpr readValue(DataInputStream data) throws IOException {
+		byte tag = data.readByte();
+		switch (tag) {
+			case NONE: return null;
+			case SYMBOL: return Lexer.symbolToken(data.readUTF());
+			case KEYWORD: return Lexer.keywordToken(data.readUTF());
+			case STRING: return Lexer.stringToken(data.readUTF());
+			case NUMERAL: return Lexer.numeralToken(new BigInteger(data.readUTF()));
+			case DECIMAL: return Lexer.decimalToken(new BigDecimal(data.readUTF()));
+			case SEQ: {
+				int n = data.readInt();
+				List<ISexpr> sexprs = new LinkedList<ISexpr>();
+				for (int i = 0; i < n; i++) sexprs.add(readValue(data));
+				return new Sexpr.Seq(sexprs);
+			}
+			default: throw new IOException("Unknown attribute value tag " + tag);
+		}
+	}
+
+	/** Creates the logic object for the named logic, as the parser does */
+	@SuppressWarnings("unchecked")
+	static protected ILogic createLogic(ISymbol name, Collection<IAttribute<?>> attributes) throws IOException {
+		String clazzName = "org.smtlib.logic." + name;
+		try {
+			Class<? extends ILogic> clazz = (Class<? extends ILogic>)Class.forName(clazzName);
+			Constructor<? extends ILogic> con = clazz.getConstructor(ISymbol.class,Collection.class);
+			return con.newInstance(name,attributes);
+		} catch (ClassNotFoundException e) {
+			// OK - no extension class - no language restrictions
+			return new SMTExpr.Logic(name,attributes);
+		} catch (Exception e) {
+			throw new IOException("Failed to instantiate class " + clazzName + ": " + e);
+		}
+	}
+
+	/** Writes a snapshot of the named logic, as loaded into the given background frame */
+	static public void write(SMT.Configuration smtConfig, String logicName, SymbolTable.Background background, OutputStream out) throws IOException {
+		DataOutputStream data = new DataOutputStream(new BufferedOutputStream(out));
+		ILogic logic = background.logicInUse;
+		if (logic == null) throw new IOException("No logic is set");
+		data.writeInt(MAGIC);
+		data.writeInt(VERSION);
+		data.writeUTF(logicName);
+		data.writeInt(background.theories.size() + 1);
+		data.writeUTF(logicName);
+		data.writeLong(checksum(smtConfig, logicName));
+		for (String theory: background.theories) {
+			data.writeUTF(theory);
+			data.writeLong(checksum(smtConfig, theory));
+		}
+		data.writeUTF(logic.logicName().toString());
+		writeAttributes(data, logic.attributes().values());
+		data.writeBoolean(background.arrayTheorySet);
+		data.writeBoolean(background.bitVectorTheorySet);
+		data.writeBoolean(background.realsIntsTheorySet);
+		data.writeInt(background.theories.size());
+		for (String theory: background.theories) data.writeUTF(theory);
+
+		data.writeInt(background.sorts.size());
+		for (Map.Entry<IIdentifier,ISort.IDefinition> e: background.sorts.entrySet()) {
+			if (!(e.getKey() instanceof ISymbol) || !(e.getValue() instanceof ISort.IFamily)) {
+				throw new IOException("Cannot write the sort definition " + e.getKey());
+			}
+			data.writeUTF(e.getKey().toString());
+			data.writeInt(((ISort.IFamily)e.getValue()).arity().intValue());
+		}
+
+		data.writeInt(background.names.size());
+		for (Map.Entry<IIdentifier,Map<Integer,List<SymbolTable.Entry>>> e: background.names.entrySet()) {
+			if (!(e.getKey() instanceof ISymbol)) throw new IOException("Cannot write the symbol " + e.getKey());
+			data.writeUTF(e.getKey().toString());
+			data.writeInt(e.getValue().size());
+			for (Map.Entry<Integer,List<SymbolTable.Entry>> a: e.getValue().entrySet()) {
+				data.writeInt(a.getKey());
+				data.writeInt(a.getValue().size());
+				for (SymbolTable.Entry entry: a.getValue()) {
+					if (entry.definition != null) throw new IOException("Cannot write the definition of " + entry.name);
+					for (ISort s: entry.sort.argSorts()) writeSort(data, s);
+					ISort result = entry.sort.resultSort();
+					data.writeBoolean(result != null);
+					if (result != null) writeSort(data, result);
+					data.writeBoolean(entry.attributes != null);
+					if (entry.attributes != null) writeAttributes(data, entry.attributes);
+				}
+			}
+		}
+		data.flush();
+	}
+
+	/** Writes the name of a sort, which must be an application of a simple sort symbol */
+	static protected void writeSort(DataOutputStream data, ISort sort) throws IOException {
+		if (!(sort instanceof ISort.IApplication) || !((ISort.IApplication)sort).parameters().isEmpty()
+				|| !(((ISort.IApplication)sort).family() instanceof ISymbol)) {
+			throw new IOException("Cannot write the sort " + sort);
+		}
+		data.writeUTF(((ISort.IApplication)sort).family().toString());
+	}
+
+	/** Writes a list of attributes */
+	static protected void writeAttributes(DataOutputStream data, Collection<IAttribute<?>> attributes) throws IOException {
+		data.writeInt(attributes.size());
+		for (IAttribute<?> attr: attributes) {
+			data.writeUTF(attr.keyword().value());
+			writeValue(data, attr.attrValue());
+		}
+	}
+
+	/** Writes an attribute value */
+	static protected void writeValue(DataOutputStream data, /*@Nullable*/ Object value) throws IOException {
+		if (value == null) {
+			data.writeByte(NONE);
+		} else if (value instanceof ISexpr.ISeq) {
+			List<ISexpr> sexprs = ((ISexpr.ISeq)value).sexprs();
+			data.writeByte(SEQ);
+			data.writeInt(sexprs.size());
+			for (ISexpr s: sexprs) writeValue(data, s);
+		} else if (value instanceof ISymbol) {
+			data.writeByte(SYMBOL);
+			data.writeUTF(value.toString()); // the original text, with any bars
+		} else if (value instanceof IKeyword) {
+			data.writeByte(KEYWORD);
+			data.writeUTF(((IKeyword)value).value());
+		} else if (value instanceof IExpr.IStringLiteral) {
+			data.writeByte(STRING);
+			data.writeUTF(((IExpr.IStringLiteral)value).value());
+		} else if (value instanceof INumeral) {
+			data.writeByte(NUMERAL);
+			data.writeUTF(((INumeral)value).value().toString());
+		} else if (value instanceof IExpr.IDecimal) {
+			data.writeByte(DECIMAL);
+			data.writeUTF(((IExpr.IDecimal)value).value().toString());
+		} else {
+			throw new IOException("Cannot write the attribute value " + value);
+		}
+	}
+
+	/** Matches the beginning of a logic (rather than a theory) file, after comments are removed */
+	static final private Pattern logicStart = Pattern.compile("\\s*\\(\\s*" + Utils.LOGIC + "\\s.*", Pattern.DOTALL);
+
+	/** Returns true if the given file holds a logic definition */
+	static protected boolean isLogic(File f) throws IOException {
+		InputStream input = new FileInputStream(f);
+		try {
+			byte[] buf = new byte[(int)f.length()];
+			int n = 0;
+			while (n < buf.length) {
+				int k = input.read(buf, n, buf.length - n);
+				if (k < 0) break;
+				n += k;
+			}
+			String text = new String(buf, 0, n, "UTF-8").replaceAll(";[^\\n]*", "");
+			return logicStart.matcher(text).matches();
+		} finally {
+			input.close();
+		}
+	}
+
+	/** Writes a snapshot of each logic defined in the directory given as the first argument into the
+	 * directory given as the second (by default the same one); a logic that cannot be loaded or
+	 * written is reported and skipped, so that it is read from its text when it is used. */
+	public static void main(String[] args) {
+		if (args.length < 1) {
+			System.out.println("Usage: java org.smtlib.LogicSnapshot <logic directory> [<output directory>]");
+			System.exit(1);
+		}
+		File dir = new File(args[0]);
+		File outdir = args.length > 1 ? new File(args[1]) : dir;
+		File[] files = dir.listFiles();
+		if (files == null) {
+			System.out.println("Not a directory: " + dir);
+			System.exit(1);
+		}
+		Arrays.sort(files);
+		int count = 0;
+		for (File f: files) {
+			String fname = f.getName();
+			if (!fname.endsWith(Utils.SUFFIX)) continue;
+			String logicName = fname.substring(0, fname.length() - Utils.SUFFIX.length());
+			File out = new File(outdir, logicName + SUFFIX);
+			OutputStream output = null;
+			try {
+				if (!isLogic(f)) continue;
+				SMT.Configuration smtConfig = new SMT.Configuration();
+				smtConfig.logicPath = dir.getPath();
+				SymbolTable symTable = new SymbolTable(smtConfig);
+				IResponse res = smtConfig.utils.readLogic(logicName, symTable, null);
+				if (res != null) {
+					System.out.println("Skipping logic " + logicName + ": " + smtConfig.defaultPrinter.toString(res));
+					continue;
+				}
+				output = new FileOutputStream(out);
+				write(smtConfig, logicName, symTable.background(), output);
+				count++;
+			} catch (IOException e) {
+				System.out.println("Skipping logic " + logicName + ": " + e);
+				if (output != null) {
+					try {
+						output.close();
+					} catch (IOException ee) {
+						// Ignore
+					}
+					output = null;
+					out.delete();
+				}
+			} finally {
+				try {
+					if (output != null) output.close();
+				} catch (IOException e) {
+					System.out.println("Failed to close " + out + ": " + e);
+				}
+			}
+		}
+		System.out.println("Wrote " + count + " logic snapshots to " + outdir);
+	}
+}
@@ -10,9 +10,14 @@ package org.smtlib;
 import java.io.*;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
-import java.net.ServerSocket;
 import java.net.URL;
+import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.smtlib.IExpr.IKeyword;
 import org.smtlib.IParser.AbortParseException;
@@ -93,6 +98,7 @@ public class SMT {
 			//c.commandExtensionPrefixes = Array.copy(commandExtensionPrefixes);
 			c.commands = new HashMap<String,Class<? extends ICommand>>();
 			c.commands.putAll(commands);
+			c.commandRegistry = new org.smtlib.sexpr.CommandRegistry();
 			// FIXME - ok to have a reference copy of Log ?
 			c.reservedWords = new HashSet<String>();
 			c.reservedWords.addAll(reservedWords);
@@ -101,7 +107,34 @@ public class SMT {
 			utils.smtConfig = this;
 			return c;
 		}
-		
+
+		/** Makes a copy of the configuration for an independent session (a --jobs worker or a client
+		 * of the socket server): in addition to what clone() copies, the copy has its own response factory
+		 * (so that print-success is set per session), its own Log (initially writing to the same streams
+		 * as this one) and its own Utils and default printer; if terms are hash-consed, it has its own
+		 * HashConsFactory as well.
+		 */
+		public Configuration cloneForSession() throws CloneNotSupportedException {
+			Configuration c = clone();
+			if (responseFactory instanceof org.smtlib.impl.Response.Factory) {
+				org.smtlib.impl.Response.Factory f = new org.smtlib.impl.Response.Factory(c);
+				f.printSuccess = ((org.smtlib.impl.Response.Factory)responseFactory).printSuccess;
+				c.responseFactory = f;
+			}
+			c.log = new Log(c);
+			c.log.out = log.out;
+			c.log.diag = log.diag;
+			c.utils = new org.smtlib.sexpr.Utils(c);
+			c.defaultPrinter = defaultPrinter == null ? null : defaultPrinter.newPrinter(new StringWriter());
+			if (exprFactory instanceof org.smtlib.impl.HashConsFactory) {
+				// The shared terms record the positions of their occurrences, so each session has its own
+				org.smtlib.impl.HashConsFactory f = new org.smtlib.impl.HashConsFactory();
+				c.exprFactory = f;
+				if (sortFactory == exprFactory) c.sortFactory = f;
+			}
+			return c;
+		}
+
 		/** A list of reserved words that are not commands */
 		public Set<String> reservedWordsNotCommands = new HashSet<String>();
 
@@ -136,9 +169,25 @@ public class SMT {
 		/** The verbosity level of the SMT solver */
 		public int solverVerbosity = 0;
 
-		/** The timeout for a given query, if supported by the solver */
+		/** The timeout for each check-sat (cf. ISolver.check_sat(Duration)); some solvers are also
+		 * started with it as their own time limit */
 		public double timeout = -1; // seconds, <=0 means infinity
 		
+		/** The time a solver that was started with its own time limit is allowed beyond that limit to
+		 * answer a check-sat before it is cancelled (cf. cancelDeadline) */
+		public double timeoutMargin = 1; // seconds
+		
+		/** Returns when a check-sat with the given deadline should be cancelled, for a solver that was
+		 * started with timeout as its own limit: the solver answers unknown or timeout at that limit 
+		 * and stays usable, whereas a cancelled solver is killed, so the deadline is extended as 
+		 * needed to give it timeoutMargin beyond its limit.
+		 */
+		public Duration cancelDeadline(Duration deadline) {
+			if (timeout <= 0) return deadline;
+			Duration limit = Duration.ofNanos(Math.round((timeout + timeoutMargin)*1e9));
+			return deadline.compareTo(limit) < 0 ? limit : deadline;
+		}
+		
 		/** This field is set from the command-line and sets the initial state of the :print-success option
 		 * within a solver. */
 		public boolean nosuccess = false;
@@ -187,6 +236,39 @@ public class SMT {
 		 * ignored if the text option is set. */
 		public int port = -1;
 		
+		/** If true, commands whose only reply is success or an error (declarations, assertions) are 
+		 * sent to solvers that support it without waiting for each reply; errors are still reported 
+		 * against the command that caused them, once the reply is read. */
+		public boolean pipeline = false;
+		
+		/** If positive, each subterm that occurs more than once in an assertion or definition sent to an 
+		 * SMT-LIB solver, and that has at least this many nodes, is sent just once, as a let binding; 
+		 * 0 means expressions are sent as trees. */
+		public int share = 0;
+		
+		/** If true, the yices and cvc adapters keep the translation of each subterm that is reached more than
+		 * once for the rest of the current push level, rather than for just the expression being translated. */
+		public boolean memo = false;
+		
+		/** If non-null, solvers are leased from (and returned to) this pool rather than started
+		 * afresh for each input; the pool is shared by clones of this configuration. */
+		/*@Nullable*/ public SolverPool solverPool = null;
+		
+		/** The number of input files to process at once, each with its own copy of this configuration
+		 * and its own solver; the output for each file is collated in the order the files are listed. */
+		public int jobs = 1;
+		
+		/** The number of client connections served at once when reading from a port, each as its own
+		 * session; a connection made while this many sessions are active is refused with an error reply.
+		 * If 0 (not set), up to SocketServer.DEFAULT_SESSIONS are served, and an exit command from any 
+		 * client stops the server once the open sessions have ended, as it did when all connections 
+		 * shared one session; if set, the server runs until it is killed. */
+		public int sessions = 0;
+		
+		/** The number of seconds a client connection may be idle before its session is closed; 
+		 * 0 means a session is never closed for being idle. */
+		public int idle = 0;
+		
 		/** The log to use for regular, error, and diagnostic output */ 
 		public /*@NonNull*/ Log log = new Log(this);
 		
@@ -239,7 +321,10 @@ public class SMT {
 		 * the commands map and all but the initial entry of commandExtensionPrefixes are 
 		 * ignored. 
 		 */
-		public /*@Nullable*/ ICommand.IFinder commandFinder = new ICommand.IFinder() {
+		public /*@Nullable*/ ICommand.IFinder commandFinder = new CommandFinder();
+		
+		/** The class of the default commandFinder */
+		public class CommandFinder implements ICommand.IFinder {
 			@Override
 			public Class<? extends ICommand> findCommand(String name) {
 				Class<? extends ICommand> clazz = commands.get(name);
@@ -250,14 +335,19 @@ public class SMT {
 						Class<?> clazzz = Class.forName(className);
 						if (clazzz == null) continue; // This won't happen - exception is thrown instead
 						if (!ICommand.class.isAssignableFrom(clazzz)) continue; // FIXME - message?
-						return (Class<? extends ICommand>)clazzz; // Check for this - implementation may be wrong
+						return clazzz.asSubclass(ICommand.class);
 					} catch (ClassNotFoundException e) {
 						continue;
 					}
 				}
 				return null;
 			}
-		};
+		}
+		
+		/** The functions that the parser uses to parse commands, found as commandFinder finds command
+		 * classes (see CommandRegistry); call commandRegistry.clear() after changing the commands map or
+		 * commandExtensionPrefixes */
+		public org.smtlib.sexpr.CommandRegistry commandRegistry = new org.smtlib.sexpr.CommandRegistry();
 		
 		
 		// These should not be set by the user - they hold internal state - they are public because
@@ -384,6 +474,12 @@ public class SMT {
 		if (ret == -1) return 0; // help or version
 		if (ret != 0) return ret;
 		ret = exec();
+		if (smtConfig.solverPool != null) {
+			// The run is over, so the pooled solvers, and the one last leased, are exited
+			smtConfig.solverPool.shutdown();
+			if (solver != null) smtConfig.solverPool.release(solver);
+			solver = null;
+		}
 		return ret;
 	}
 	
@@ -411,24 +507,10 @@ public class SMT {
 			return doParser(p);
 
 		} else if (smtConfig.port >= 0) {
-			// If port is set, use the input from the socket.  We still set interactive to true,
-			// so that the prompt is sent back on the socket and the client knows that the communication
-			// has been received and responded to.
+			// If port is set, serve each client connection as a separate session, with input
+			// read from and output sent back on that connection.
 			smtConfig.interactive = false;
-			ServerSocket serverSocket;
-			try {
-				serverSocket = new ServerSocket(smtConfig.port);
-			} catch (IOException e) {
-				System.out.println("Could not listen on port: " + smtConfig.port);
-				return 1;
-			}
-
-			CharSequenceSocket csq = new CharSequenceSocket(smtConfig,serverSocket,100000,0,2);
-			csq.prompter = new Prompter(smtConfig);
-			if (smtConfig.verbose != 0) smtConfig.log.logDiag("Start parsing");
-			src = smtConfig.smtFactory.createSource(csq, null);
-			p = smtConfig.smtFactory.createParser(smtConfig,src);
-			return doParser(p);
+			return new SocketServer(this).serve(smtConfig.port);
 
 		} else if (smtConfig.files == null || smtConfig.files.isEmpty()) {
 			// No files listed - use standard input
@@ -441,17 +523,21 @@ public class SMT {
 			p = smtConfig.smtFactory.createParser(smtConfig,src);
 			return doParser(p);
 			
+		} else if (smtConfig.jobs > 1 && smtConfig.files.size() > 1) {
+			smtConfig.interactive = false;
+			return execJobs();
+			
 		} else {
 			// Otherwise, iterate over all the files
 			smtConfig.interactive = false;
 			for (String file: smtConfig.files) {
 				try {
-					Reader rdr = new BufferedReader(new FileReader(file));
-					CharSequenceReader csr = new CharSequenceReader(rdr,100000,0,2);
-					src = smtConfig.smtFactory.createSource(csr, file);
+					// The source maps the file into memory if it can, rather than reading it
+					src = smtConfig.smtFactory.createSource(smtConfig, new File(file));
 					p = smtConfig.smtFactory.createParser(smtConfig,src);
 					if (smtConfig.verbose != 0) smtConfig.log.logDiag("Starting file " + file);
 					int e = doParser(p);
+					src.close();
 					if (e != 0) retcode = e;
 				} catch (FileNotFoundException e) {
 					smtConfig.log.logError("Could not find file: " + file + " Exception: " + e);
@@ -461,6 +547,86 @@ public class SMT {
 		}
 	}
 	
+	/** The outcome of processing one file in a parallel run */
+	static protected class Job {
+		/** The regular output produced for the file */
+		final public ByteArrayOutputStream out = new ByteArrayOutputStream();
+		/** The diagnostic output produced for the file */
+		final public ByteArrayOutputStream diag = new ByteArrayOutputStream();
+		/** The return code from processing the file */
+		public int retcode = 0;
+	}
+	
+	/** Processes all the input files on a pool of smtConfig.jobs worker threads, each file with its 
+	 * own clone of the configuration (and so its own log and solver); the output for each file is 
+	 * written to this configuration's log streams, in the order the files are listed, once the file
+	 * is complete. The return code is that of the last file with a non-zero return code, as when the
+	 * files are processed one after another.
+	 */
+	protected int execJobs() {
+		int retcode = 0;
+		ExecutorService workers = Executors.newFixedThreadPool(Math.min(smtConfig.jobs,smtConfig.files.size()));
+		try {
+			List<Future<Job>> jobs = new ArrayList<Future<Job>>(smtConfig.files.size());
+			for (final String file: smtConfig.files) {
+				jobs.add(workers.submit(new Callable<Job>() {
+					@Override
+					public Job call() {
+						return execJob(file);
+					}
+				}));
+			}
+			for (Future<Job> f: jobs) {
+				Job job;
+				try {
+					job = f.get();
+				} catch (ExecutionException e) {
+					error("Failure while processing a file: " + e.getCause());
+					retcode = 2;
+					continue;
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					error("Interrupted while processing files");
+					return 2;
+				}
+				job.out.writeTo(smtConfig.log.out);
+				smtConfig.log.out.flush();
+				job.diag.writeTo(smtConfig.log.diag);
+				smtConfig.log.diag.flush();
+				if (job.retcode != 0) retcode = job.retcode;
+			}
+		} catch (IOException e) {
+			error("IOException writing output: " + e);
+			retcode = 2;
+		} finally {
+			workers.shutdownNow();
+		}
+		return retcode;
+	}
+	
+	/** Processes one file for execJobs, with a clone of the configuration whose output is captured in the returned Job */
+	protected Job execJob(String file) {
+		Job job = new Job();
+		SMT smt = new SMT();
+		try {
+			smt.smtConfig = smtConfig.cloneForSession();
+		} catch (CloneNotSupportedException e) {
+			throw new InternalException("Failed to clone the configuration: " + e);
+		}
+		SMT.Configuration c = smt.smtConfig;
+		c.jobs = 1;
+		c.files = new LinkedList<String>();
+		c.files.add(file);
+		c.log.out = new PrintStream(job.out,true);
+		c.log.diag = new PrintStream(job.diag,true);
+		smt.props = props;
+		job.retcode = smt.exec();
+		if (smt.solver != null && c.solverPool != null) c.solverPool.release(smt.solver);
+		c.log.out.flush();
+		c.log.diag.flush();
+		return job;
+	}
+	
 	public int execCommand(String cmd) {
 		ISource src = smtConfig.smtFactory.createSource(cmd,null);
 		IParser p = smtConfig.smtFactory.createParser(smtConfig,src);
@@ -475,13 +641,23 @@ public class SMT {
 	
 	protected /*@Nullable*/ ISolver solver = null;
 	
+	/** True once an exit command has been executed, after which there is no solver */
+	public boolean exited = false;
+	
 	public IResponse lastResponse = null; // FIXME - quick hack to export the result of an interactive command
 	
 	protected int doParser(IParser p, boolean restart) { 
 		boolean checkMode = Utils.TEST_SOLVER.equals(smtConfig.solvername);
 		boolean abortMode = smtConfig.abort && !checkMode;
 
-		if (restart || solver == null) solver = startSolver(smtConfig, smtConfig.solvername, smtConfig.executable);
+		if (restart || solver == null) {
+			if (smtConfig.solverPool != null) {
+				if (solver != null) smtConfig.solverPool.release(solver);
+				solver = smtConfig.solverPool.lease(this, smtConfig, smtConfig.solvername, smtConfig.executable);
+			} else {
+				solver = startSolver(smtConfig, smtConfig.solvername, smtConfig.executable);
+			}
+		}
 		if (solver == null) return 1;
 		IKeyword printSuccessKW = smtConfig.exprFactory.keyword(Utils.PRINT_SUCCESS);
 		if (smtConfig.nosuccess) {
@@ -513,7 +689,13 @@ public class SMT {
 						smtConfig.log.logDiag(smtConfig.defaultPrinter.toString(command));
 					}
 					else if (smtConfig.verbose != 0) smtConfig.log.logDiag("Command to execute: " +  command);
-					result = command.execute(solver);
+					try {
+						result = command.execute(solver);
+					} catch (StackOverflowError e) {
+						// The command is too deeply nested to check or translate; report it
+						// as an error in this command and go on with the next one
+						result = smtConfig.responseFactory.error("Stack overflow occurred while executing the command");
+					}
 					if (result.isError()) {
 						IResponse.IError eresult = (IResponse.IError)result;
 						if (eresult.pos() == null && command instanceof IPosable) {
@@ -549,6 +731,10 @@ public class SMT {
 				}
 			}
 			checkSatStatus = solver.checkSatStatus();
+			if (command instanceof ICommand.Iexit) {
+				solver = null; // it has been shut down
+				exited = true;
+			}
 		} catch (IOException e) {
 			error("IOException reading input: " + e);
 			retcode = 2;
@@ -622,6 +808,125 @@ public class SMT {
 				}
 				options.port = Integer.valueOf(args[i++]).intValue();
 
+			} else if ("--pool".equals(s)) {
+				if (i >= args.length) {
+					error("The --pool option expects an integer argument");
+					usage();
+					return 1;
+				}
+				int n;
+				try {
+					n = Integer.valueOf(args[i++]);
+				} catch (NumberFormatException e) {
+					error("The --pool option expects an integer argument");
+					usage();
+					return 1;
+				}
+				if (n < 0) {
+					error("The argument to --pool must be non-negative");
+					usage();
+					return 1;
+				}
+				options.solverPool = n == 0 ? null : new SolverPool(n);
+
+			} else if ("--jobs".equals(s)) {
+				if (i >= args.length) {
+					error("The --jobs option expects an integer argument");
+					usage();
+					return 1;
+				}
+				int n;
+				try {
+					n = Integer.valueOf(args[i++]);
+				} catch (NumberFormatException e) {
+					error("The --jobs option expects an integer argument");
+					usage();
+					return 1;
+				}
+				if (n < 1) {
+					error("The argument to --jobs must be positive");
+					usage();
+					return 1;
+				}
+				options.jobs = n;
+
+			} else if ("--sessions".equals(s)) {
+				if (i >= args.length) {
+					error("The --sessions option expects an integer argument");
+					usage();
+					return 1;
+				}
+				int n;
+				try {
+					n = Integer.valueOf(args[i++]);
+				} catch (NumberFormatException e) {
+					error("The --sessions option expects an integer argument");
+					usage();
+					return 1;
+				}
+				if (n < 1) {
+					error("The argument to --sessions must be positive");
+					usage();
+					return 1;
+				}
+				options.sessions = n;
+
+			} else if ("--idle".equals(s)) {
+				if (i >= args.length) {
+					error("The --idle option expects an integer argument");
+					usage();
+					return 1;
+				}
+				int n;
+				try {
+					n = Integer.valueOf(args[i++]);
+				} catch (NumberFormatException e) {
+					error("The --idle option expects an integer argument");
+					usage();
+					return 1;
+				}
+				if (n < 0) {
+					error("The argument to --idle must be non-negative");
+					usage();
+					return 1;
+				}
+				options.idle = n;
+
+			} else if ("--timeout".equals(s)) {
+				if (i >= args.length) {
+					error("The --timeout option expects a number of seconds");
+					usage();
+					return 1;
+				}
+				try {
+					options.timeout = Double.valueOf(args[i++]);
+				} catch (NumberFormatException e) {
+					error("The --timeout option expects a number of seconds");
+					usage();
+					return 1;
+				}
+
+			} else if ("--share".equals(s)) {
+				if (i >= args.length) {
+					error("The --share option expects an integer argument");
+					usage();
+					return 1;
+				}
+				int n;
+				try {
+					n = Integer.valueOf(args[i++]);
+				} catch (NumberFormatException e) {
+					error("The --share option expects an integer argument");
+					usage();
+					return 1;
+				}
+				if (n < 0) {
+					error("The argument to --share must be non-negative");
+					usage();
+					return 1;
+				}
+				options.share = n;
+
 			} else if ("--text".equals(s)) {
 				if (i >= args.length) {
 					error("The --text option expects an argument");
@@ -661,6 +966,16 @@ public class SMT {
 				options.nosuccess = true;
 			} else if ("--abort".equals(s)) {
 				options.abort = true;
+			} else if ("--pipeline".equals(s)) {
+				options.pipeline = true;
+			} else if ("--memo".equals(s)) {
+				options.memo = true;
+			} else if ("--directlexer".equals(s)) {
+				options.smtFactory = new org.smtlib.sexpr.Factory.Direct();
+			} else if ("--hashcons".equals(s)) {
+				org.smtlib.impl.HashConsFactory f = new org.smtlib.impl.HashConsFactory();
+				options.exprFactory = f;
+				options.sortFactory = f;
 			} else if ("--relax".equals(s)) {
 				options.relax = true;
 			} else if ("--noshow".equals(s)) {
@@ -846,12 +1161,22 @@ public class SMT {
 		System.out.println("       --out         <filename or 'stdout' or 'stderr'>");
 		System.out.println("       --diag        <filename or 'stdout' or 'stderr'>");
 		System.out.println("       --port        <int>");
+		System.out.println("       --pool        <int>");
+		System.out.println("       --jobs        <int>");
+		System.out.println("       --sessions    <int>");
+		System.out.println("       --idle        <int>");
+		System.out.println("       --timeout     <seconds>");
 		System.out.println("       --text        <string>");
 		System.out.println("       --echo   [-e]");
 		System.out.println("       --abort");
 		System.out.println("       --noshow");
 		System.out.println("       --nosuccess   [-q]");
 		System.out.println("       --relax  [-r]");
+		System.out.println("       --pipeline");
+		System.out.println("       --share       <int>");
+		System.out.println("       --memo");
+		System.out.println("       --directlexer");
+		System.out.println("       --hashcons");
 
 	}
 	
@@ -883,12 +1208,34 @@ public class SMT {
 		System.out.println("        --out <filename or 'stdout' or 'stderr'>: where to send normal and error output");
 		System.out.println("        --diag <filename or 'stdout' or 'stderr'>: where to send verbose (diagnostic) output");
 		System.out.println("        --port <number>: which port to use for client-server communication");
+		System.out.println("        --pool <number>: reuse solver processes across input files, keeping up to");
+		System.out.println("              this many idle processes of each kind (default 0: no reuse)");
+		System.out.println("        --jobs <number>: how many input files to process at once, each with its own");
+		System.out.println("              solver (default 1); the output is still in the order the files are listed");
+		System.out.println("        --sessions <number>: how many client connections to serve at once when using");
+		System.out.println("              a port, each with its own solver (default 16); if given, the server keeps running");
+		System.out.println("              when a client exits, and otherwise it stops once the open sessions have ended");
+		System.out.println("        --idle <seconds>: close a client connection that sends nothing for this long");
+		System.out.println("              (default 0: never)");
+		System.out.println("        --timeout <seconds>: answer timeout to a check-sat that the solver has not answered");
+		System.out.println("              in this long; the solver is stopped, so later commands fail (default: no limit)");
 		System.out.println("        --text: text to process (ignoring file and port input)");
 		System.out.println("        --echo: if enabled, commands are echoed to diagnostic output when successfully parsed");
 		System.out.println("        --abort: if enabled, an error causes immediate exit");
 		System.out.println("        --noshow: if enabled, error location information is not shown");
 		System.out.println("    -q, --nosuccess: if enabled, 'success' responses are suppressed");
 		System.out.println("        --relax: if enabled, extensions to strict SMT-LIB are permitted");
+		System.out.println("        --pipeline: if enabled, declarations and assertions are sent to the solver");
+		System.out.println("              without waiting for each reply; errors are reported when the replies are read");
+		System.out.println("        --share <number>: send each subterm of an assertion or definition that occurs more");
+		System.out.println("              than once, and has at least this many nodes, just once as a let binding");
+		System.out.println("              (default 0: send expressions as trees)");
+		System.out.println("        --memo: if enabled, the yices and cvc adapters reuse the translation of a repeated");
+		System.out.println("              subterm in later assertions of the same push level, not just within one assertion");
+		System.out.println("        --directlexer: if enabled, input is scanned by a hand-coded lexer rather than");
+		System.out.println("              by regular expressions, which is faster on large inputs");
+		System.out.println("        --hashcons: if enabled, structurally equal terms share a single instance, which");
+		System.out.println("              saves memory on inputs with many repeated subterms");
 		System.out.println("This software is Copyright 2010 by David R. Cok. The accompanying LICENSE ");
 		System.out.println("    file describes the conditions under which it may be used.");
 	}
@@ -938,7 +1285,7 @@ public class SMT {
 	}
 	
 	/** An instance of a logic finder that looks in the configuration's logicPath, or (if there is no such path) as a file on the system CLASSPATH */
-	public static ILogicFinder logicFinder = new ILogicFinder() {
+	public static final ILogicFinder defaultLogicFinder = new ILogicFinder() {
 		@Override
 		public /*@Mutable*/ InputStream find(Configuration smtConfig, String name, /*@Nullable*/IPos pos) throws IOException, Utils.SMTLIBException {
 			String path = smtConfig.logicPath;
@@ -957,4 +1304,7 @@ public class SMT {
 			}
 		}
 	};
+	
+	/** The logic finder in use; LogicCache caches logics and theories only while this is defaultLogicFinder */
+	public static ILogicFinder logicFinder = defaultLogicFinder;
 }
@@ -4,6 +4,7 @@ package org.smtlib;
 import java.lang.*;
 
 public class SMTLIBRuntimeException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
 
     public SMTLIBRuntimeException(String msg) {
         super(msg);
@@ -0,0 +1,494 @@
+/*
+ * This file is part of the SMT project.
+ * Copyright 2010 David R. Cok
+ * Created August 2010
+ */
+package org.smtlib;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/** This class serves SMT-LIB sessions to many concurrent clients over non-blocking sockets.
+ * A single selector thread reads from every client connection, decoding each connection's input
+ * into a small, bounded buffer until that buffer holds a complete top-level command (found by
+ * paren balance). Only then is the command handed to a worker thread, which executes it in the
+ * connection's session (its own clone of the configuration, symbol table and solver); the
+ * replies are queued for the selector thread, which writes them back with gathering writes.
+ * An idle connection thus holds neither a thread nor more than a few kilobytes of buffer.
+ * <P>
+ * As with CharSequenceSocket, a 0 byte from the client ends its session, as does the exit command
+ * or closing the connection. Unless a number of sessions is configured (SMT.Configuration.sessions),
+ * an exit command also stops the server: no more connections are accepted, and serve() returns
+ * once the sessions still open have ended.
+ */
+public class SocketServer {
+
+	/** The initial capacity, in chars, of a session's input buffer */
+	static final public int INITIAL_BUFFER = 1024;
+
+	/** The number of sessions served at once if SMT.Configuration.sessions is not set */
+	static final public int DEFAULT_SESSIONS = 16;
+
+	/** The number of seconds to wait, once the server stops, for the solvers of the ended sessions to exit */
+	static final public int EXIT_WAIT = 10;
+
+	/** The largest capacity, in chars, of a session's input buffer, and so the longest command accepted */
+	static final public int MAX_COMMAND = 1 << 22;
+
+	/** The capacity, in bytes, of a session's buffer of input not yet decoded */
+	static final public int BYTE_BUFFER = 1024;
+
+	/** The SMT instance whose configuration and properties each session copies */
+	final protected SMT smt;
+
+	/** The configuration for this instance of SMT */
+	final protected SMT.Configuration smtConfig;
+
+	/** The selector on which all the connections are registered */
+	protected /*@Nullable*/ Selector selector = null;
+
+	/** The threads that execute commands; at most one command of any session is executing at a time,
+	 * so there are never more threads than sessions with a command in progress. */
+	final protected ExecutorService workers = Executors.newCachedThreadPool();
+
+	/** Sessions whose command has finished executing, for the selector thread to pick up */
+	final protected ConcurrentLinkedQueue<Session> finished = new ConcurrentLinkedQueue<Session>();
+
+	/** The number of open sessions (touched only by the selector thread) */
+	protected int sessionCount = 0;
+
+	/** True once a client has exited and the server is to stop (touched only by the selector thread) */
+	protected boolean stopping = false;
+
+	/** Creates a server whose sessions are copies of the given SMT instance's configuration */
+	public SocketServer(SMT smt) {
+		this.smt = smt;
+		this.smtConfig = smt.smtConfig;
+	}
+
+	/** Accepts and serves client connections on the given port until the server stops (see above) or
+	 * accepting fails; a connection made while the maximum number of sessions are open is sent an
+	 * error reply and closed. A session whose client has sent nothing for smtConfig.idle seconds
+	 * (and is not waiting on a command) is closed.
+	 * @return the return code for the application
+	 */
+	public int serve(int port) {
+		ServerSocketChannel server;
+		Selector sel;
+		try {
+			server = ServerSocketChannel.open();
+			server.socket().bind(new InetSocketAddress(port));
+			server.configureBlocking(false);
+			sel = Selector.open();
+			server.register(sel, SelectionKey.OP_ACCEPT);
+		} catch (IOException e) {
+			System.out.println("Could not listen on port: " + port);
+			return 1;
+		}
+		selector = sel;
+		long idleMillis = smtConfig.idle * 1000L;
+		try {
+			while (!stopping || sessionCount > 0) {
+				sel.select(idleMillis > 0 ? 1000 : 0);
+				Session session;
+				while ((session = finished.poll()) != null) session.commandDone();
+				Iterator<SelectionKey> iter = sel.selectedKeys().iterator();
+				while (iter.hasNext()) {
+					SelectionKey key = iter.next();
+					iter.remove();
+					if (!key.isValid()) continue;
+					if (key.isAcceptable()) {
+						accept(server);
+						continue;
+					}
+					session = (Session)key.attachment();
+					try {
+						if (key.isReadable()) session.read();
+						if (key.isValid() && key.isWritable()) session.write();
+					} catch (IOException e) {
+						if (smtConfig.verbose != 0) smtConfig.log.logDiag("Session ended abnormally: " + e);
+						session.close();
+					}
+				}
+				if (idleMillis > 0) reap(System.currentTimeMillis() - idleMillis);
+				// Once stopping, refuse new connections rather than leaving them unanswered
+				if (stopping && server.isOpen()) server.close();
+			}
+			if (smtConfig.verbose != 0) smtConfig.log.logDiag("Server stopped");
+			return 0;
+		} catch (IOException e) {
+			smt.error("IOException accepting a connection: " + e);
+			return 2;
+		} finally {
+			workers.shutdown();
+			try {
+				sel.close();
+				server.close();
+			} catch (IOException e) {
+				// Ignore
+			}
+			try {
+				// The ended sessions' solvers are exited on worker threads
+				workers.awaitTermination(EXIT_WAIT, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				// Stop waiting
+			}
+		}
+	}
+
+	/** Accepts a pending connection, if there is one */
+	protected void accept(ServerSocketChannel server) throws IOException {
+		SocketChannel channel = server.accept();
+		if (channel == null) return;
+		int limit = smtConfig.sessions > 0 ? smtConfig.sessions : DEFAULT_SESSIONS;
+		if (sessionCount >= limit) {
+			// The channel is still in blocking mode, and the reply is short
+			ByteArrayOutputStream reply = new ByteArrayOutputStream();
+			Log log = new Log(smtConfig);
+			log.out = new PrintStream(reply,true);
+			log.logError(smtConfig.responseFactory.error("jSMTLIB: Too many sessions (" + limit + "); try again later"));
+			try {
+				channel.write(ByteBuffer.wrap(reply.toByteArray()));
+			} catch (IOException e) {
+				// Ignore - the connection is being closed anyway
+			}
+			channel.close();
+			return;
+		}
+		channel.configureBlocking(false);
+		Session session = new Session(channel);
+		session.key = channel.register(selector, SelectionKey.OP_READ, session);
+		sessionCount++;
+		if (smtConfig.verbose != 0) smtConfig.log.logDiag("Start session for " + channel.socket().getRemoteSocketAddress());
+	}
+
+	/** Closes the sessions that have been idle since before the given time */
+	protected void reap(long idleSince) {
+		Selector sel = selector;
+		if (sel == null) return;
+		for (SelectionKey key: sel.keys()) {
+			Object o = key.attachment();
+			if (!(o instanceof Session)) continue;
+			Session session = (Session)o;
+			if (!session.busy && session.lastActive < idleSince) {
+				if (smtConfig.verbose != 0) smtConfig.log.logDiag("Closing idle session");
+				session.close();
+			}
+		}
+	}
+
+	/** The state of one client connection. Apart from the command being executed and its replies,
+	 * which are handed between threads through the finished queue, it is used only by the selector thread.
+	 */
+	protected class Session implements Runnable {
+		/** The connection to the client */
+		final protected SocketChannel channel;
+
+		/** The selection key of the connection */
+		protected /*@Nullable*/ SelectionKey key;
+
+		/** The SMT instance, with its own configuration and solver, that executes this session's commands */
+		final protected SMT session = new SMT();
+
+		/** Collects the output of the command being executed */
+		final protected ByteArrayOutputStream reply = new ByteArrayOutputStream();
+
+		/** Input read from the connection but not yet decoded (kept in write mode) */
+		final protected ByteBuffer bytes = ByteBuffer.allocate(BYTE_BUFFER);
+
+		/** Decodes the input, with the same charset as CharSequenceSocket */
+		final protected CharsetDecoder decoder = Charset.defaultCharset().newDecoder()
+				.onMalformedInput(CodingErrorAction.REPLACE)
+				.onUnmappableCharacter(CodingErrorAction.REPLACE);
+
+		/** Decoded input not yet handed to the parser (kept in write mode), grown up to MAX_COMMAND only
+		 * when it is full of one incomplete command */
+		protected CharBuffer chars = CharBuffer.allocate(INITIAL_BUFFER);
+
+		/** Replies waiting to be written to the connection */
+		final protected LinkedList<ByteBuffer> output = new LinkedList<ByteBuffer>();
+
+		/** Whether strings use backslash escapes (SMT-LIB 2.0) rather than doubled quotes */
+		final protected boolean backslashEscapes;
+
+		/** The command being executed, if busy */
+		protected /*@Nullable*/ String command = null;
+
+		/** True while a command of this session is executing on a worker thread */
+		protected boolean busy = false;
+
+		/** True once the client has closed its side of the connection */
+		protected boolean eof = false;
+
+		/** True once the session is to end, as soon as its replies have been written */
+		protected boolean closing = false;
+
+		/** True once the session has been closed */
+		protected boolean closed = false;
+
+		/** The time of the last activity on the connection */
+		protected long lastActive = System.currentTimeMillis();
+
+		// The state of the scan for a complete command in chars
+
+		/** The number of chars of the buffer scanned so far */
+		private int scanned = 0;
+		/** The index of the start of the command being scanned, or -1 if none has started */
+		private int start = -1;
+		/** The nesting depth of parentheses in the command being scanned */
+		private int depth = 0;
+		/** True if the command being scanned is a single token rather than a parenthesized list */
+		private boolean atom = false;
+		/** True if the scan is within a string literal */
+		private boolean inString = false;
+		/** True if the scan is just after a backslash within a string literal */
+		private boolean escape = false;
+		/** True if the scan is within a bar-quoted symbol */
+		private boolean inBar = false;
+		/** True if the scan is within a comment */
+		private boolean inComment = false;
+
+		public Session(SocketChannel channel) {
+			this.channel = channel;
+			try {
+				session.smtConfig = smtConfig.cloneForSession();
+			} catch (CloneNotSupportedException e) {
+				throw new SMT.InternalException("Failed to clone the configuration: " + e);
+			}
+			SMT.Configuration c = session.smtConfig;
+			c.interactive = false;
+			c.log.out = new PrintStream(reply,true);
+			session.props = smt.props;
+			backslashEscapes = SMT.Configuration.SMTLIB.V20.toString().equals(SMT.Configuration.smtlib);
+		}
+
+		/** Reads whatever input is available, starting the next command if it is complete */
+		public void read() throws IOException {
+			int n = channel.read(bytes);
+			if (n < 0) {
+				// The client has closed its side of the connection; complete commands are still
+				// executed and their replies sent, but any incomplete command is discarded
+				eof = true;
+			} else {
+				lastActive = System.currentTimeMillis();
+			}
+			next();
+		}
+
+		/** Writes as much of the queued replies as the connection will take */
+		public void write() throws IOException {
+			if (!output.isEmpty()) {
+				channel.write(output.toArray(new ByteBuffer[output.size()]));
+				while (!output.isEmpty() && !output.getFirst().hasRemaining()) output.removeFirst();
+				lastActive = System.currentTimeMillis();
+			}
+			next();
+		}
+
+		/** Executes the pending command; called on a worker thread */
+		@Override
+		public void run() {
+			try {
+				if (command != null) session.execCommand(command);
+			} catch (RuntimeException e) {
+				session.smtConfig.log.logDiag("Failure while executing a command: " + e);
+			}
+			finished.add(this);
+			Selector sel = selector;
+			if (sel != null) sel.wakeup();
+		}
+
+		/** Queues the replies of the command that has just finished and goes on to the next one;
+		 * called on the selector thread */
+		public void commandDone() {
+			busy = false;
+			command = null;
+			session.smtConfig.log.out.flush();
+			if (reply.size() > 0) {
+				output.add(ByteBuffer.wrap(reply.toByteArray()));
+				reply.reset();
+			}
+			// The solver is gone after an exit command, or if it could not be started
+			if (session.solver == null) closing = true;
+			if (session.exited && smtConfig.sessions == 0) {
+				if (!stopping && smtConfig.verbose != 0) smtConfig.log.logDiag("Stopping the server");
+				stopping = true;
+			}
+			if (closed) {
+				close();
+				return;
+			}
+			try {
+				write();
+			} catch (IOException e) {
+				if (smtConfig.verbose != 0) smtConfig.log.logDiag("Session ended abnormally: " + e);
+				close();
+			}
+		}
+
+		/** Starts the next command if it is complete and none is executing, and sets the operations
+		 * the selector waits for on this connection accordingly */
+		protected void next() {
+			if (closed) return;
+			if (!busy && !closing) {
+				decode();
+				String cmd = scan();
+				while (cmd == null && !chars.hasRemaining() && chars.capacity() < MAX_COMMAND) {
+					// The buffer is full of a single incomplete command
+					CharBuffer larger = CharBuffer.allocate(Math.min(MAX_COMMAND, 2*chars.capacity()));
+					chars.flip();
+					larger.put(chars);
+					chars = larger;
+					decode();
+					cmd = scan();
+				}
+				if (cmd != null) {
+					command = cmd;
+					busy = true;
+					workers.execute(this);
+				} else if (!chars.hasRemaining()) {
+					session.error("jSMTLIB: A command is longer than " + MAX_COMMAND + " characters");
+					session.smtConfig.log.out.flush();
+					output.add(ByteBuffer.wrap(reply.toByteArray()));
+					reply.reset();
+					closing = true;
+				} else if (eof) {
+					closing = true;
+				}
+			}
+			if (closing && !busy && output.isEmpty()) {
+				close();
+				return;
+			}
+			int ops = 0;
+			if (!closing && !eof && bytes.hasRemaining()) ops |= SelectionKey.OP_READ;
+			if (!output.isEmpty()) ops |= SelectionKey.OP_WRITE;
+			if (key != null) key.interestOps(ops);
+		}
+
+		/** Decodes as much of the undecoded input as fits in the char buffer */
+		protected void decode() {
+			bytes.flip();
+			decoder.decode(bytes,chars,false);
+			bytes.compact();
+		}
+
+		/** Scans the decoded input for the end of a complete top-level command, returning it (and
+		 * removing it from the buffer) if there is one; whitespace and comments between commands are
+		 * discarded. An unbalanced close paren or a bare token at the top level is returned as a
+		 * command on its own, so that the parser can report it.
+		 */
+		protected /*@Nullable*/ String scan() {
+			char[] a = chars.array();
+			int end = chars.position();
+			int cmdEnd = -1;
+			while (scanned < end && cmdEnd < 0) {
+				char c = a[scanned];
+				if (inComment) {
+					if (c == '\n') inComment = false;
+				} else if (inString) {
+					if (escape) escape = false;
+					else if (c == '\\' && backslashEscapes) escape = true;
+					else if (c == '"') inString = false;
+				} else if (inBar) {
+					if (c == '|') inBar = false;
+				} else if (atom) {
+					if (Character.isWhitespace(c) || c == '(' || c == ')' || c == ';') {
+						cmdEnd = scanned;
+						continue;
+					}
+				} else if (start < 0) {
+					if (c == '(') {
+						start = scanned;
+						depth = 1;
+					} else if (c == ';') {
+						inComment = true;
+					} else if (c == 0) {
+						// The client asks to end the session
+						closing = true;
+						chars.clear();
+						scanned = 0;
+						return null;
+					} else if (!Character.isWhitespace(c)) {
+						start = scanned;
+						atom = c != ')';
+						if (!atom) cmdEnd = scanned + 1;
+					}
+				} else if (c == '(') {
+					depth++;
+				} else if (c == ')') {
+					if (--depth == 0) cmdEnd = scanned + 1;
+				} else if (c == '"') {
+					inString = true;
+				} else if (c == '|') {
+					inBar = true;
+				} else if (c == ';') {
+					inComment = true;
+				}
+				scanned++;
+			}
+			String cmd = null;
+			int discard;
+			if (cmdEnd >= 0) {
+				cmd = new String(a, start, cmdEnd - start);
+				discard = cmdEnd;
+				start = -1;
+				atom = false;
+			} else {
+				discard = start < 0 ? scanned : start;
+			}
+			if (discard > 0) {
+				chars.flip();
+				chars.position(discard);
+				chars.compact();
+				scanned -= discard;
+				if (start >= 0) start -= discard;
+			}
+			return cmd;
+		}
+
+		/** Closes the connection, and then (on a worker thread, once no command is executing) releases the solver */
+		public void close() {
+			if (!closed) {
+				closed = true;
+				sessionCount--;
+				if (key != null) key.cancel();
+				try {
+					channel.close();
+				} catch (IOException e) {
+					// Ignore
+				}
+				if (smtConfig.verbose != 0) smtConfig.log.logDiag("End session");
+			}
+			if (busy) return; // commandDone will call close again
+			final ISolver solver = session.solver;
+			session.solver = null;
+			if (solver == null) return;
+			workers.execute(new Runnable() {
+				@Override
+				public void run() {
+					SMT.Configuration c = session.smtConfig;
+					if (c.solverPool != null) c.solverPool.release(solver);
+					else solver.exit();
+				}
+			});
+		}
+	}
+}
@@ -0,0 +1,183 @@
+/*
+ * This file is part of the SMT project.
+ * Copyright 2010 David R. Cok
+ * Created August 2010
+ */
+package org.smtlib;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedList;
+import java.util.Map;
+
+/** This class keeps already-started solver processes so that they can be reused, avoiding the
+ * cost of launching a new process for each script. Solvers are leased from the pool and returned
+ * to it when no longer needed; a returned solver is reset to its start state and kept (up to
+ * a maximum number per kind of solver) for the next lease.  Solvers are pooled by solver name,
+ * executable and the configuration options that affect how the solver process is launched.
+ * A solver is reused only if it implements IPoolable; other solvers are simply exited when returned.
+ * <P>
+ * The pool is thread-safe; a pool may be shared by several SMT instances (e.g., by sharing
+ * the SMT.Configuration.solverPool object).
+ * @author David Cok
+ */
+public class SolverPool {
+
+	/** Solver adapters that can be reused from a pool implement this interface */
+	public static interface IPoolable extends ISolver {
+
+		/** Returns true if the underlying solver process is still alive */
+		boolean isRunning();
+
+		/** Returns the solver to its start state (as if just started), so that it can be reused
+		 * @return success or error
+		 */
+		IResponse recycle();
+
+		/** Sets the configuration used by the solver for its subsequent work */
+		void rebind(SMT.Configuration smtConfig);
+	}
+
+	/** The echo text used to recognize the end of the solver's replies to a reset */
+	final static public String RECYCLED = "<<RECYCLED>>";
+
+	/** The maximum number of idle solvers kept for each kind of solver */
+	public int maxIdle;
+
+	/** The idle solvers, by pool key */
+	final private Map<String,LinkedList<ISolver>> idle = new HashMap<String,LinkedList<ISolver>>();
+
+	/** The key under which each currently leased solver is to be returned */
+	final private Map<ISolver,String> leased = new IdentityHashMap<ISolver,String>();
+
+	/** True once the pool has been shut down, after which returned solvers are exited rather than kept */
+	private boolean closed = false;
+
+	/** Creates a pool keeping at most the given number of idle solvers of each kind */
+	public SolverPool(int maxIdle) {
+		this.maxIdle = maxIdle;
+	}
+
+	/** Returns the key that identifies interchangeable solver processes */
+	public String key(SMT.Configuration smtConfig, String solvername, /*@Nullable*/ String executable) {
+		return solvername + "|" + executable + "|" + smtConfig.timeout + "|" + smtConfig.solverVerbosity + "|" + smtConfig.logfile;
+	}
+
+	/** Returns a started solver with the given name and executable, reusing an idle running one if
+	 * possible and otherwise starting a new one with smt.startSolver.
+	 * @param smt the SMT object used to start new solvers
+	 * @param smtConfig the configuration for the solver to use
+	 * @param solvername the name of the solver to use
+	 * @param executable the executable path, or null to use the default
+	 * @return the leased solver, or null if a new solver could not be started
+	 */
+	/*@Nullable*/
+	public ISolver lease(SMT smt, SMT.Configuration smtConfig, /*@NonNull*/String solvername, /*@Nullable*/String executable) {
+		String key = key(smtConfig,solvername,executable);
+		ISolver solver;
+		while ((solver = poll(key)) != null) {
+			if (((IPoolable)solver).isRunning()) {
+				((IPoolable)solver).rebind(smtConfig);
+				if (smtConfig.verbose != 0) smtConfig.log.logDiag("Reusing pooled solver " + solvername);
+				break;
+			}
+			// A dead solver is simply dropped
+		}
+		if (solver == null) solver = smt.startSolver(smtConfig,solvername,executable);
+		if (solver != null) {
+			synchronized (this) {
+				leased.put(solver,key);
+			}
+		}
+		return solver;
+	}
+
+	/** Returns a leased solver to the pool; the solver is reset and kept for reuse if it is
+	 * poolable, still running and there is room, and is otherwise exited. Solvers that were not
+	 * leased from this pool are ignored.
+	 */
+	public void release(ISolver solver) {
+		String key;
+		boolean keep;
+		synchronized (this) {
+			key = leased.remove(solver);
+			keep = !closed;
+		}
+		if (key == null) return;
+		if (!keep) {
+			exit(solver);
+			return;
+		}
+		if (solver instanceof IPoolable) {
+			IPoolable p = (IPoolable)solver;
+			if (!p.isRunning()) return;
+			IResponse r;
+			try {
+				r = p.recycle();
+			} catch (RuntimeException e) {
+				r = null;
+			}
+			if (r != null && !r.isError() && p.isRunning()) {
+				synchronized (this) {
+					LinkedList<ISolver> list = idle.get(key);
+					if (list == null) idle.put(key, list = new LinkedList<ISolver>());
+					if (!closed && list.size() < maxIdle) {
+						list.add(solver);
+						return;
+					}
+				}
+			}
+		}
+		exit(solver);
+	}
+
+	/** Exits all idle solvers; solvers still leased are exited (without being reset) when they are
+	 * released. SMT.exec(String[]) calls this once the run is complete. */
+	public void shutdown() {
+		LinkedList<ISolver> all = new LinkedList<ISolver>();
+		synchronized (this) {
+			closed = true;
+			for (LinkedList<ISolver> list: idle.values()) all.addAll(list);
+			idle.clear();
+		}
+		for (ISolver s: all) exit(s);
+	}
+
+	/** Removes and returns an idle solver with the given key, or returns null if there is none */
+	synchronized private /*@Nullable*/ ISolver poll(String key) {
+		LinkedList<ISolver> list = idle.get(key);
+		return list == null || list.isEmpty() ? null : list.removeFirst();
+	}
+
+	/** Exits the solver, ignoring any failures (e.g. because the solver has already terminated) */
+	private void exit(ISolver solver) {
+		try {
+			solver.exit();
+		} catch (RuntimeException e) {
+			// ignore - the process is being discarded anyway
+		}
+	}
+
+	/** A helper for IPoolable.recycle implementations: sends (reset) followed by the given commands
+	 * and then reads the solver's output through an echoed marker (the framing sentinel, if the 
+	 * process uses sentinel framing), so that the number of replies to the commands does not need
+	 * to be known.
+	 * @param solverProcess the process to reset
+	 * @param commands commands to send after the reset, each including any line terminator
+	 * @throws IOException if the communication with the process fails
+	 */
+	static public void reset(SolverProcess solverProcess, String ... commands) throws IOException {
+		solverProcess.sendNoListen("(reset)\n");
+		if (commands.length > 0) solverProcess.sendNoListen(commands);
+		if (solverProcess.isFramed()) {
+			solverProcess.sendAndListen();
+			return;
+		}
+		solverProcess.sendNoListen("(echo \"" + RECYCLED + "\")\n");
+		String s;
+		do {
+			s = solverProcess.listen();
+		} while (!s.contains(RECYCLED) && solverProcess.isRunning(true));
+	}
+}
@@ -5,16 +5,28 @@
  */
 package org.smtlib;
 
-import java.io.BufferedReader;
 import java.io.FileWriter;
 import java.io.IOException;
 import java.io.InputStreamReader;
-import java.io.OutputStreamWriter;
+import java.io.OutputStream;
 import java.io.Reader;
 import java.io.Writer;
+import java.io.InterruptedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 /** This class implements launching, writing to, and reading responses from a 
  * launched process (in particular, solver processes).
@@ -36,19 +48,76 @@ public class SolverProcess {
 
 	/** The text that marks the end of the text returned from the process */
 	protected String endMarker;
+	
+	/** The text the solver is asked to echo after each batch of commands, when sentinel framing is used */
+	final static public String SENTINEL = "<<jSMTLIB-END>>";
+	
+	/** The command that asks the solver to echo the sentinel */
+	final static protected String ECHO_SENTINEL = " (echo \"" + SENTINEL + "\")\n";
+	
+	/** Recognizes the echoed sentinel, which some solvers print within quotes, through the end of its line */
+	final static protected Pattern sentinelPattern = Pattern.compile("\"?" + Pattern.quote(SENTINEL) + "\"?\r?\n");
+	
+	/** If true, the end of the replies to a batch of commands is recognized by the echoed sentinel
+	 * rather than by the endMarker (cf. setFramed) */
+	protected boolean framed = false;
 
 	/** The Java process object (initialized by start() )*/
 	protected Process process;
 	
-	/** The Writer object that writes to the spawned process (initialized by start() )*/
-	protected Writer toProcess;
+	/** The sink that buffers the text written to the spawned process until the end of each batch 
+	 * of commands (initialized by start() )*/
+	protected Sink toProcess;
 	
-	/** The Reader process that reads from the standard output of the spawned process (initialized by start() )*/
+	/** The Reader process that reads from the standard output of the spawned process (initialized by start() );
+	 * it reads the characters already drained into outBuffer */
 	protected Reader fromProcess;
 	
-	/** The Reader process that reads from the standard error stream of the spawned process (initialized by start() )*/
+	/** The Reader process that reads from the standard error stream of the spawned process (initialized by start() );
+	 * it reads the characters already drained into errBuffer */
 	protected Reader errors;
 	
+	/** The capacity, in characters, of each of the buffers that hold output drained from the process */
+	static public int bufferCapacity = 1 << 16;
+	
+	/** The lock shared by the output buffers, so that a listener can wait for output on either stream */
+	final protected ReentrantLock lock = new ReentrantLock();
+	
+	/** Signaled whenever characters are added to either output buffer or either stream reaches its end */
+	final protected Condition outputAvailable = lock.newCondition();
+	
+	/** Holds standard output of the process, as drained by a dedicated thread (initialized by start() ) */
+	protected RingBuffer outBuffer;
+	
+	/** Holds standard error output of the process, as drained by a dedicated thread (initialized by start() ) */
+	protected RingBuffer errBuffer;
+	
+	/** Commands sent in pipelined mode whose replies have not yet been read, oldest first */
+	protected LinkedList<Pending> pending = new LinkedList<Pending>();
+	
+	/** Standard output already read from the process but not yet consumed as a reply */
+	protected StringBuilder pendingOutput = new StringBuilder();
+	
+	/** The maximum number of pipelined commands that may be awaiting replies; when this many are 
+	 * outstanding, their replies are read before more commands are sent. This bounds the 
+	 * amount of reply text that can accumulate while we are writing. */
+	public int pipelineWindow = 1000;
+	
+	/** A command sent in pipelined mode (cf. sendPipelined), which is told its reply once it is read */
+	public static abstract class Pending {
+		/** Called with the text of the solver's reply to the command
+		 * @param reply the reply text, without surrounding white space
+		 */
+		abstract public void reply(String reply);
+	}
+	
+	/** Text that writes itself straight into the sink for the process, such as a command that is 
+	 * translated as it is sent, so that no intermediate String need be built */
+	public static interface IText {
+		/** Writes the text to the given Writer */
+		void write(Writer w) throws IOException, IVisitor.VisitorException;
+	}
+	
 	/** A place (e.g., log file), if non-null, to write all outbound communications for diagnostic purposes */
 	public /*@Nullable*/Writer log;
 	
@@ -85,14 +154,40 @@ public class SolverProcess {
 		}
 	}
 	
-	/** Starts the process; if the argument is true, then also listens to its output until a prompt is read. */
+	/** Sets whether sentinel framing is used: if so, each batch of commands that is sent and listened
+	 * to is followed by an (echo) of SENTINEL, and the replies are read exactly through the echoed 
+	 * sentinel, however many lines or S-expressions they comprise; the endMarker is then not used.
+	 * The solver must support the SMT-LIB echo command; if it is started with start(true), it is 
+	 * checked that it does, and framing is turned off if not.
+	 */
+	public void setFramed(boolean framed) {
+		this.framed = framed;
+	}
+	
+	/** Returns true if sentinel framing is used */
+	public boolean isFramed() {
+		return framed;
+	}
+	
+	/** Starts the process; if the argument is true, then also listens to its output until a prompt 
+	 * is read, or, with sentinel framing, checks that the process echoes the sentinel (cf. probeFraming). */
     public void start(boolean listen) throws ProverException {
     	try {
+    		cancelled = false;
     		process = Runtime.getRuntime().exec(app);
-    		toProcess = new OutputStreamWriter(process.getOutputStream());
-    		fromProcess = new BufferedReader(new InputStreamReader(process.getInputStream()));
-    		errors = new InputStreamReader(process.getErrorStream());
-    		if (listen) listen();
+    		toProcess = new Sink(process.getOutputStream(),log);
+    		// Both output streams are drained continuously by their own threads, so that the
+    		// process never blocks on a full pipe while we are waiting on the other stream
+    		outBuffer = new RingBuffer(bufferCapacity);
+    		errBuffer = new RingBuffer(bufferCapacity,true);
+    		drain(new InputStreamReader(process.getInputStream()),outBuffer,"stdout");
+    		drain(new InputStreamReader(process.getErrorStream()),errBuffer,"stderr");
+    		fromProcess = outBuffer.reader();
+    		errors = errBuffer.reader();
+    		if (listen) {
+    			if (framed) probeFraming();
+    			else listen();
+    		}
     	} catch (IOException e) {
     		throw new ProverException(e.getMessage());
     	} catch (RuntimeException e) {
@@ -100,15 +195,34 @@ public class SolverProcess {
     	}
     }
 
+    /** Asks the process to echo the sentinel and reads the first line (or S-expression) of its reply.
+     * If that is not the sentinel, as from a solver that predates the echo command (SMT-LIB 2.0) and
+     * answers with an error, sentinel framing is turned off, so that later replies are read through
+     * the endMarker instead of waiting for a sentinel that never comes.
+     */
+    protected void probeFraming() throws IOException {
+    	toProcess.write(ECHO_SENTINEL);
+    	toProcess.flush();
+    	StringBuilder err = new StringBuilder();
+    	String out = listenThru("\n",err);
+    	if (log != null) {
+    		if (!out.isEmpty()) { log.write(";OUT: "); log.write(out); }
+    		if (err.length() != 0) { log.write(";ERR: "); log.write(err.toString()); }
+    	}
+    	if (!sentinelPattern.matcher(out).find()) {
+    		framed = false;
+    		if (log != null) { log.write(";;The solver does not echo; framing is off"); log.write(eol); log.flush(); }
+    	}
+    }
+
     /** Listens to the process's standard output until the designated endMarker is read 
      * and to the error output. If there is error output, it is returned;
      * otherwise the standard output is returned.
      */
 	public String listen() throws IOException {
-		// FIXME - need to put the two reads in parallel, otherwise one might block on a full buffer, preventing the other from completing
-		String err = listenThru(errors,null);
-		String out = listenThru(fromProcess,endMarker);
-		err = err + listenThru(errors,null);
+		StringBuilder errsb = new StringBuilder();
+		String out = framed ? listenThruSentinel(errsb) : listenThru(endMarker,errsb);
+		String err = errsb.toString();
 		if (log != null) {
 			if (!out.isEmpty()) { log.write(";OUT: "); log.write(out); log.write(eol); } // input usually ends with a prompt and no line terminator
 			if (!err.isEmpty()) { log.write(";ERR: "); log.write(err); } // input usually ends with a line terminator, we think
@@ -127,6 +241,7 @@ public class SolverProcess {
 	 * for control flow and may be a bit expensive.
 	 */
 	public boolean isRunning(boolean expectStopped) {
+		if (process == null || cancelled) return false;
 		try {
 			process.exitValue();
 			if (!expectStopped) {
@@ -161,33 +276,861 @@ public class SolverProcess {
 		}
 	}
 	
-	/** Sends all the given text arguments, then (if listen is true) listens for the designated end marker text */
+	/** True if cancel() has been called since the process was last started */
+	protected volatile boolean cancelled = false;
+	
+	/** Returns true if cancel() has been called since the process was last started */
+	public boolean isCancelled() {
+		return cancelled;
+	}
+	
+	/** Cancels the process: the process is killed and any thread waiting for its output is woken
+	 * and receives an InterruptedIOException. This may be called from any thread, typically to 
+	 * abandon a query that is taking too long; the process must be started again before it can be
+	 * used further.
+	 */
+	public void cancel() {
+		cancelled = true;
+		Process p = process;
+		if (p != null) p.destroyForcibly();
+		lock.lock();
+		try {
+			outputAvailable.signalAll();
+		} finally {
+			lock.unlock();
+		}
+		if (log != null) {
+			try {
+				log.write(";;Cancelled solver"); log.write(eol); log.flush();
+			} catch (IOException e) {
+				// ignore
+			}
+		}
+	}
+	
+	/** The scheduler, shared by all processes, on which deadlines are enforced */
+	static private /*@Nullable*/ ScheduledExecutorService watchdog;
+	
+	/** Returns the shared deadline scheduler, creating it if necessary; its thread is a daemon 
+	 * thread, so it does not keep the JVM alive */
+	synchronized static protected ScheduledExecutorService watchdog() {
+		if (watchdog == null) {
+			watchdog = Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+				@Override
+				public Thread newThread(Runnable r) {
+					Thread t = new Thread(r,"SolverProcess watchdog");
+					t.setDaemon(true);
+					return t;
+				}
+			});
+		}
+		return watchdog;
+	}
+	
+	/** Arranges for cancel() to be called once the given time has elapsed, unless the returned 
+	 * future is cancelled first (which the caller should do when the guarded work completes).
+	 */
+	public ScheduledFuture<?> cancelAfter(Duration timeout) {
+		return watchdog().schedule(new Runnable() {
+			@Override
+			public void run() {
+				cancel();
+			}
+		}, timeout.toNanos(), TimeUnit.NANOSECONDS);
+	}
+	
+	/** Sends all the given text arguments, then (if listen is true) listens for the designated end marker text
+	 * (or, with sentinel framing, asks for and listens for the sentinel) */
 	public /*@Nullable*/ String send(boolean listen, String ... args) throws IOException {
 		if (toProcess == null) throw new ProverException("The solver has not been started");
+		if (!pending.isEmpty()) synchronize();
 		for (String arg: args) {
-//			System.out.print(arg);
-			if (log != null) log.write(arg);
 			toProcess.write(arg);
 		}
-//		System.out.println();
-		if (log != null) log.flush();
+		return endBatch(listen);
+	}
+	
+	/** Sends the given text, writing it directly into the process's input, then (if listen is true)
+	 * listens as for send(boolean,String...); if writing the text fails with a VisitorException, 
+	 * nothing is sent. */
+	public /*@Nullable*/ String send(boolean listen, IText text) throws IOException, IVisitor.VisitorException {
+		if (toProcess == null) throw new ProverException("The solver has not been started");
+		if (!pending.isEmpty()) synchronize();
+		write(text);
+		return endBatch(listen);
+	}
+	
+	/** Writes the given text into the sink, discarding whatever part of it was written if it fails */
+	protected void write(IText text) throws IOException, IVisitor.VisitorException {
+		int mark = toProcess.size();
+		try {
+			text.write(toProcess);
+		} catch (IVisitor.VisitorException e) {
+			toProcess.truncate(mark);
+			throw e;
+		}
+	}
+	
+	/** Completes a batch of commands: asks for the sentinel if needed, sends the buffered text to the
+	 * process in one piece, and then, if listen is true, listens for the reply */
+	protected /*@Nullable*/ String endBatch(boolean listen) throws IOException {
+		if (listen) requestSentinel();
 		toProcess.flush();
 		if (listen) return listen();
 		return null;
 	}
+	
+	/** Asks for the sentinel after the commands in the sink, if sentinel framing is used */
+	protected void requestSentinel() throws IOException {
+		if (framed) {
+			// The sentinel is requested on the same line as the last command, so that line numbers
+			// in the solver's messages are not affected
+			toProcess.dropFinalNewline();
+			toProcess.write(ECHO_SENTINEL);
+		}
+	}
+	
+	/** Sends all the given text arguments without waiting for the reply, which is to be read with
+	 * nextReply() and then finished with endReply() */
+	public void sendForReply(String ... args) throws IOException {
+		if (toProcess == null) throw new ProverException("The solver has not been started");
+		if (!pending.isEmpty()) synchronize();
+		for (String arg: args) {
+			toProcess.write(arg);
+		}
+		requestSentinel();
+		toProcess.flush();
+	}
+	
+	/** Sends the given text as for sendForReply(String...); if writing the text fails with a
+	 * VisitorException, nothing is sent. */
+	public void sendForReply(IText text) throws IOException, IVisitor.VisitorException {
+		if (toProcess == null) throw new ProverException("The solver has not been started");
+		if (!pending.isEmpty()) synchronize();
+		write(text);
+		requestSentinel();
+		toProcess.flush();
+	}
+	
+	/** Reads whatever the solver writes after a reply sent by sendForReply() and read with nextReply()
+	 * (e.g. an error following a value), so that it is not taken as the reply to the next command.
+	 * With sentinel framing, everything through the sentinel is read; otherwise, just the output that
+	 * is available. Error output is kept for errorOutput().
+	 * @return the standard output that followed the reply
+	 * @throws IOException if the wait is interrupted
+	 */
+	public /*@NonNull*/String endReply() throws IOException {
+		StringBuilder err = new StringBuilder();
+		String out = framed ? listenThruSentinel(err) : listenThru(null,err);
+		errorOutput.append(err);
+		if (log != null && out.trim().length() != 0) { log.write(";OUT: "); log.write(out); log.write(eol); }
+		return out;
+	}
 
 	/** Sends all the given text arguments, then listens for the designated end marker text */
 	public /*@Nullable*/ String sendAndListen(String ... args) throws IOException {
 		return send(true,args);
 	}
 
+	/** Sends the given text, then listens for the designated end marker text */
+	public /*@Nullable*/ String sendAndListen(IText text) throws IOException, IVisitor.VisitorException {
+		return send(true,text);
+	}
+
 	/** Sends all the given text arguments, but does not wait for a response */
 	public void sendNoListen(String ... args) throws IOException {
 		send(false,args);
 	}
 
+	/** Sends the given text, but does not wait for a response */
+	public void sendNoListen(IText text) throws IOException, IVisitor.VisitorException {
+		send(false,text);
+	}
+
 // TODO - combine listen and noListen versions of send?
 	
+	/** Sends all the given text arguments, which must form one command whose only reply is a single
+	 * line or S-expression (e.g. success or an error), without waiting for the reply. The reply is
+	 * passed to the given Pending object when it is read: either opportunistically during later 
+	 * pipelined sends, or at the latest when the next non-pipelined command is sent. Replies are 
+	 * matched to commands by counting, so :print-success must be enabled in the solver.
+	 * @param p the recipient of the reply
+	 * @param args the text of the command
+	 * @throws IOException if the communication with the process fails
+	 */
+	public void sendPipelined(Pending p, String ... args) throws IOException {
+		if (toProcess == null) throw new ProverException("The solver has not been started");
+		if (pending.size() >= pipelineWindow) synchronize();
+		for (String arg: args) {
+			toProcess.write(arg);
+		}
+		pipelined(p);
+	}
+	
+	/** Sends the given text, which must form one command, in pipelined mode, as for 
+	 * sendPipelined(Pending,String...); if writing the text fails with a VisitorException, 
+	 * nothing is sent. */
+	public void sendPipelined(Pending p, IText text) throws IOException, IVisitor.VisitorException {
+		if (toProcess == null) throw new ProverException("The solver has not been started");
+		if (pending.size() >= pipelineWindow) synchronize();
+		write(text);
+		pipelined(p);
+	}
+	
+	/** Records the command just written as awaiting the reply for the given Pending object */
+	protected void pipelined(Pending p) throws IOException {
+		pending.add(p);
+		// Pipelined commands are sent in batches of about a buffer's worth of text
+		if (toProcess.size() >= bufferCapacity) toProcess.flush();
+		// Hand over any replies that have already arrived, without waiting for more; error output
+		// is taken too, so that it does not accumulate over a long batch
+		StringBuilder err = new StringBuilder();
+		lock.lock();
+		try {
+			outBuffer.drainTo(pendingOutput);
+			errBuffer.drainTo(err);
+		} finally {
+			lock.unlock();
+		}
+		if (log != null && err.length() != 0) { log.write(";ERR: "); log.write(err.toString()); }
+		dispatchReplies();
+	}
+	
+	/** Reads the replies to all outstanding pipelined commands, passing each to its Pending object. 
+	 * If a Pending object throws an exception, the remaining replies are still read and 
+	 * dispatched, and then the first such exception is rethrown.
+	 * @throws IOException if the communication with the process fails
+	 */
+	public void synchronize() throws IOException {
+		RuntimeException failure = null;
+		if (log != null) log.flush();
+		toProcess.flush();
+		while (!pending.isEmpty()) {
+			try {
+				dispatchReplies();
+			} catch (RuntimeException e) {
+				if (failure == null) failure = e;
+				continue;
+			}
+			if (pending.isEmpty()) break;
+			StringBuilder err = new StringBuilder();
+			String out = listenThru("\n",err);
+			if (log != null) {
+				if (!out.isEmpty()) { log.write(";OUT: "); log.write(out); log.write(eol); }
+				if (err.length() != 0) { log.write(";ERR: "); log.write(err.toString()); }
+			}
+			if (out.isEmpty() && outBuffer.isFinished()) {
+				pending.clear();
+				throw new IOException("The solver terminated with pipelined commands outstanding");
+			}
+			pendingOutput.append(out);
+		}
+		if (failure != null) throw failure;
+	}
+	
+	/** Passes each complete reply in pendingOutput to the oldest outstanding Pending object */
+	protected void dispatchReplies() {
+		int start = 0;
+		try {
+			while (!pending.isEmpty()) {
+				int end = replyEnd(pendingOutput,start);
+				if (end < 0) break;
+				String reply = pendingOutput.substring(start,end).trim();
+				start = end;
+				pending.removeFirst().reply(reply);
+			}
+		} finally {
+			pendingOutput.delete(0,start);
+		}
+	}
+	
+	/** Finds the end of the first complete reply in the given text, beginning at the given position.
+	 * A reply is either a balanced S-expression or a bare token terminated by a line terminator;
+	 * parentheses within string literals and quoted symbols are not counted.
+	 * @return the position just after the reply, or -1 if the text does not contain a complete reply
+	 */
+	static public int replyEnd(CharSequence s, int start) {
+		int n = s.length();
+		int i = start;
+		while (i < n && Character.isWhitespace(s.charAt(i))) ++i;
+		if (i == n) return -1;
+		if (s.charAt(i) != '(') {
+			while (i < n) if (s.charAt(i++) == '\n') return i;
+			return -1;
+		}
+		int parens = 0;
+		while (i < n) {
+			char c = s.charAt(i++);
+			if (c == '(') {
+				++parens;
+			} else if (c == ')') {
+				if (--parens == 0) return i;
+			} else if (c == '"' || c == '|') {
+				while (i < n && s.charAt(i) != c) ++i;
+				if (i == n) return -1;
+				++i; // An escaped quote in a string ("") is handled as two adjacent strings
+			}
+		}
+		return -1;
+	}
+	
+	/** Starts a daemon thread that copies everything read from the given source into the given buffer,
+	 * closing the buffer when the source reaches end of input.
+	 * @param source the process output stream to drain
+	 * @param sink the buffer to fill
+	 * @param name a name for the stream, used in the thread name
+	 * @return the started thread
+	 */
+	protected Thread drain(final Reader source, final RingBuffer sink, String name) {
+		Thread t = new Thread("SolverProcess-" + name) {
+			@Override
+			public void run() {
+				char[] cbuf = new char[4096];
+				try {
+					int n;
+					while ((n = source.read(cbuf)) != -1) sink.put(cbuf,0,n);
+				} catch (IOException e) {
+					// The process has ended or its stream was closed - treat as end of input
+				} catch (InterruptedException e) {
+					// Asked to stop - treat as end of input
+				} finally {
+					sink.close();
+				}
+			}
+		};
+		t.setDaemon(true);
+		t.start();
+		return t;
+	}
+	
+	/** Reads the process's standard output until the given String is read at the end of the output
+	 * (or end of input is reached), while simultaneously collecting anything written to standard error.
+	 * Blocks, without polling, until output is available; since both streams are consumed while
+	 * waiting, neither stream can fill up and stall the process.
+	 * 
+	 * @param end a stopping String, or null to return just the output that is currently available
+	 * @param err a buffer to which any error output is appended
+	 * @return the standard output that was read
+	 * @throws IOException if the wait is interrupted
+	 */
+	public /*@NonNull*/String listenThru(/*@Nullable*/ String end, /*@NonNull*/StringBuilder err) throws IOException {
+		StringBuilder out = new StringBuilder();
+		int len = end != null ? end.length() : 0;
+		int parens = 0;
+		// Output left over from reading pipelined replies comes first
+		out.append(pendingOutput);
+		pendingOutput.setLength(0);
+		int p = 0;
+		lock.lock();
+		try {
+			while (true) {
+				errBuffer.drainTo(err);
+				outBuffer.drainTo(out);
+				int n = out.length();
+				if (end == null) break;
+				for (int i=p; i<n; ++i) {
+					char c = out.charAt(i);
+					if (c == '(') ++parens; 
+					else if (c == ')') --parens;
+				}
+				if (n > p && n >= len) {
+					boolean match = true;
+					int k = n-len;
+					for (int j=0; j<len; j++) {
+						if (end.charAt(j) != out.charAt(k++)) { match = false; break; }
+					}
+					if (match && (!"\n".equals(end) || parens == 0)) break; // stopping string matched
+				}
+				p = n;
+				if (cancelled) throw new InterruptedIOException("The solver was cancelled");
+				if (outBuffer.isFinished()) break; // End of Input
+				try {
+					outputAvailable.await();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					throw new InterruptedIOException("Interrupted while waiting for the solver");
+				}
+			}
+			errBuffer.drainTo(err);
+		} finally {
+			lock.unlock();
+		}
+		return out.toString();
+	}
+	
+	/** Reads the process's standard output through the echoed sentinel (or until end of input),
+	 * while simultaneously collecting anything written to standard error, as listenThru does.
+	 * Only the output that is new since the previous check is scanned for the sentinel.
+	 * @param err a buffer to which any error output is appended
+	 * @return the standard output that was read, without the sentinel
+	 * @throws IOException if the wait is interrupted
+	 */
+	public /*@NonNull*/String listenThruSentinel(/*@NonNull*/StringBuilder err) throws IOException {
+		StringBuilder out = new StringBuilder();
+		out.append(pendingOutput);
+		pendingOutput.setLength(0);
+		Matcher m = sentinelPattern.matcher(out);
+		int overlap = SENTINEL.length() + 3; // a sentinel may straddle the previous check
+		int p = 0;
+		lock.lock();
+		try {
+			while (true) {
+				errBuffer.drainTo(err);
+				outBuffer.drainTo(out);
+				int n = out.length();
+				if (n > p) {
+					if (m.find(Math.max(0,p-overlap))) {
+						// Anything after the sentinel is kept for the next read
+						pendingOutput.append(out,m.end(),n);
+						out.setLength(m.start());
+						break;
+					}
+					p = n;
+				}
+				if (cancelled) throw new InterruptedIOException("The solver was cancelled");
+				if (outBuffer.isFinished()) break; // End of Input
+				try {
+					outputAvailable.await();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					throw new InterruptedIOException("Interrupted while waiting for the solver");
+				}
+			}
+			errBuffer.drainTo(err);
+		} finally {
+			lock.unlock();
+		}
+		return out.toString();
+	}
+	
+	/** Error output collected while reading replies with nextReply(), not yet retrieved by errorOutput() */
+	protected StringBuilder errorOutput = new StringBuilder();
+	
+	/** Returns and clears any error output collected while reading replies with nextReply() */
+	public String errorOutput() {
+		String s = errorOutput.toString();
+		errorOutput.setLength(0);
+		return s;
+	}
+	
+	/** Returns a CharSequence whose characters are the next reply on the process's standard output,
+	 * read directly from the output as the CharSequence is scanned (e.g. by a Lexer), without first 
+	 * collecting the reply into a String. The reply is framed by balancing parentheses: it is either 
+	 * one S-expression or one whitespace-terminated token; no end marker is required. Scanning 
+	 * beyond the reply yields CharSequenceInfinite.endChar rather than blocking for more output; 
+	 * output after the reply is left for the next read (cf. endReply()).
+	 * @param backslashEscapes whether a backslash escapes the next character in a string literal
+	 *     (as in SMT-LIB 2.0) rather than being an ordinary character (as in SMT-LIB 2.5ff)
+	 */
+	public CharSequenceInfinite nextReply(boolean backslashEscapes) {
+		return new ReplySequence(backslashEscapes);
+	}
+	
+	/** The CharSequence returned by nextReply() */
+	protected class ReplySequence extends CharSequenceInfinite {
+		
+		/** The nesting depth of parentheses so far */
+		private int parens = 0;
+		
+		/** The character that closes the string literal or quoted symbol we are in, or 0 */
+		private char quote = 0;
+		
+		/** Whether a backslash escapes the next character in a string literal */
+		final private boolean backslashEscapes;
+		
+		/** True if the previous character was a backslash within a string literal */
+		private boolean escaped = false;
+		
+		/** True if we are within a comment */
+		private boolean comment = false;
+		
+		/** True once the first character of the reply proper has been read */
+		private boolean started = false;
+		
+		/** True once the last character of the reply proper has been read */
+		private boolean complete = false;
+		
+		/** True once the whole reply has been read */
+		private boolean done = false;
+		
+		public ReplySequence(boolean backslashEscapes) {
+			super(4096,0,2);
+			this.backslashEscapes = backslashEscapes;
+		}
+		
+		@Override
+		protected boolean readChars() throws IOException {
+			if (done) return false;
+			int n;
+			lock.lock();
+			try {
+				if (pendingOutput.length() != 0) {
+					n = Math.min(pendingOutput.length(),buf.length-amountRead);
+					pendingOutput.getChars(0,n,buf,amountRead);
+					pendingOutput.delete(0,n);
+				} else {
+					while ((n = outBuffer.take(buf,amountRead,buf.length-amountRead)) == 0) {
+						errBuffer.drainTo(errorOutput);
+						if (cancelled) throw new InterruptedIOException("The solver was cancelled");
+						if (outBuffer.isFinished()) break;
+						try {
+							outputAvailable.await();
+						} catch (InterruptedException e) {
+							Thread.currentThread().interrupt();
+							throw new InterruptedIOException("Interrupted while waiting for the solver");
+						}
+					}
+				}
+				errBuffer.drainTo(errorOutput);
+				int end = frame(amountRead,amountRead+n);
+				if (end >= 0) {
+					// Return what follows the reply, for the next reader
+					pendingOutput.insert(0,buf,end,amountRead+n-end);
+					n = end-amountRead;
+					done = true;
+				}
+			} finally {
+				lock.unlock();
+			}
+			amountRead += n;
+			if (done && log != null) {
+				log.write(";OUT: "); log.write(buf,0,amountRead); log.write(eol);
+			}
+			return n > 0;
+		}
+		
+		/** Scans buf[start..end) for the end of the reply, returning the position just after
+		 * it, or -1 if the reply continues beyond end. The reply includes the rest of its line,
+		 * so that the next read does not begin with the line terminator.
+		 */
+		private int frame(int start, int end) {
+			for (int i=start; i<end; ++i) {
+				char c = buf[i];
+				if (complete) {
+					if (c == '\n') return i+1;
+					if (!Character.isWhitespace(c)) return i;
+				} else if (escaped) {
+					escaped = false;
+				} else if (quote != 0) {
+					if (c == quote) quote = 0;
+					else if (c == '\\' && quote == '"' && backslashEscapes) escaped = true;
+				} else if (comment) {
+					if (c == '\n' || c == '\r') comment = false;
+				} else if (Character.isWhitespace(c)) {
+					// The terminating white space is included, so that a token is seen to be complete
+					if (started && parens == 0) {
+						if (c == '\n') return i+1;
+						complete = true;
+					}
+				} else if (c == ';') {
+					comment = true;
+				} else {
+					started = true;
+					if (c == '(') {
+						++parens;
+					} else if (c == ')') {
+						if (--parens <= 0) complete = true;
+					} else if (c == '"' || c == '|') {
+						quote = c;
+					}
+				}
+			}
+			return -1;
+		}
+	}
+	
+	/** A growable buffer of the bytes to be written to a process's input, which are written in one 
+	 * piece when the buffer is flushed, at the end of each batch of commands. Characters are stored 
+	 * as single bytes, which is all that SMT-LIB text needs; any others are encoded in UTF-8. The 
+	 * buffer is reused from one batch to the next. If a log is given, all the text is also written
+	 * to it when it is sent.
+	 */
+	static public class Sink extends Writer {
+		/** The initial capacity of the buffer */
+		static final private int INITIAL = 1 << 13;
+		
+		/** The largest buffer that is kept for reuse after it is flushed */
+		static final private int RETAINED = 1 << 22;
+		
+		/** The stream to the process */
+		final private OutputStream out;
+		
+		/** Where to copy the text that is sent, if not null */
+		final private /*@Nullable*/ Writer log;
+		
+		/** The bytes not yet sent */
+		private byte[] buf = new byte[INITIAL];
+		
+		/** The number of bytes in buf */
+		private int count = 0;
+		
+		public Sink(OutputStream out, /*@Nullable*/ Writer log) {
+			this.out = out;
+			this.log = log;
+		}
+		
+		/** The number of bytes buffered but not yet sent */
+		public int size() {
+			return count;
+		}
+		
+		/** Discards all but the first size bytes that are not yet sent */
+		public void truncate(int size) {
+			if (size < count) count = size;
+		}
+		
+		/** Discards the last character not yet sent if it is a line feed */
+		public void dropFinalNewline() {
+			if (count > 0 && buf[count-1] == '\n') --count;
+		}
+		
+		/** Makes room in the buffer for n more bytes */
+		private void reserve(int n) {
+			if (count + n > buf.length) buf = Arrays.copyOf(buf, Math.max(2*buf.length, count + n));
+		}
+		
+		/** Appends the UTF-8 encoding of the given text */
+		private void encode(String s) {
+			byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+			reserve(bytes.length);
+			System.arraycopy(bytes,0,buf,count,bytes.length);
+			count += bytes.length;
+		}
+		
+		@Override
+		public void write(int c) {
+			if (c >= 0x80) { encode(String.valueOf((char)c)); return; }
+			if (count == buf.length) reserve(1);
+			buf[count++] = (byte)c;
+		}
+		
+		@Override
+		public void write(char[] cbuf, int off, int len) {
+			reserve(len);
+			for (int i = 0; i < len; ++i) {
+				char c = cbuf[off+i];
+				if (c >= 0x80) { encode(new String(cbuf,off+i,len-i)); return; }
+				buf[count++] = (byte)c;
+			}
+		}
+		
+		@Override
+		public void write(String str, int off, int len) {
+			reserve(len);
+			for (int i = 0; i < len; ++i) {
+				char c = str.charAt(off+i);
+				if (c >= 0x80) { encode(str.substring(off+i,off+len)); return; }
+				buf[count++] = (byte)c;
+			}
+		}
+		
+		/** Sends the buffered bytes to the process (copying them to the log, if any) */
+		@Override
+		public void flush() throws IOException {
+			if (log != null) {
+				log.write(new String(buf,0,count,StandardCharsets.UTF_8));
+				log.flush();
+			}
+			out.write(buf,0,count);
+			out.flush();
+			count = 0;
+			if (buf.length > RETAINED) buf = new byte[INITIAL];
+		}
+		
+		@Override
+		public void close() throws IOException {
+			flush();
+			out.close();
+		}
+	}
+	
+	/** A bounded circular buffer of characters. A buffer is filled by the thread that drains one of 
+	 * the process's output streams and emptied by the thread that listens for responses. All the
+	 * buffers of one SolverProcess share its lock and its outputAvailable condition, so a listener can 
+	 * wait on both streams at once. The filling thread blocks while the buffer is full, which is safe
+	 * because the listener always empties both buffers while it waits; but a thread that is writing 
+	 * commands without listening (e.g. a pipelined batch) would deadlock with a process that is 
+	 * itself blocked writing error output, so the buffer for that stream is made growable instead.
+	 */
+	public class RingBuffer {
+		/** The circular storage */
+		final private char[] buf;
+		
+		/** The index of the oldest character in the buffer */
+		private int head = 0;
+		
+		/** The number of characters in the buffer */
+		private int count = 0;
+		
+		/** Set once the stream feeding this buffer has ended */
+		private boolean closed = false;
+		
+		/** If the buffer is growable, the characters moved out of a full buffer, which precede those
+		 * in the buffer; otherwise null */
+		final private /*@Nullable*/ StringBuilder overflow;
+		
+		/** Signaled when characters are removed from the buffer */
+		final private Condition spaceAvailable = lock.newCondition();
+		
+		public RingBuffer(int capacity) {
+			this(capacity,false);
+		}
+		
+		/** Creates a buffer with the given capacity; if growable is true, putting characters into a
+		 * full buffer moves its contents to an overflow area rather than blocking */
+		public RingBuffer(int capacity, boolean growable) {
+			buf = new char[capacity];
+			overflow = growable ? new StringBuilder() : null;
+		}
+		
+		/** Appends the given characters, blocking while the buffer is full unless it is growable */
+		public void put(char[] cbuf, int off, int len) throws InterruptedException {
+			lock.lock();
+			try {
+				while (len > 0) {
+					while (count == buf.length) {
+						if (overflow != null) moveTo(overflow);
+						else spaceAvailable.await();
+					}
+					int tail = (head + count) % buf.length;
+					int n = Math.min(len, Math.min(buf.length - count, buf.length - tail));
+					System.arraycopy(cbuf,off,buf,tail,n);
+					count += n;
+					off += n;
+					len -= n;
+					outputAvailable.signalAll();
+				}
+			} finally {
+				lock.unlock();
+			}
+		}
+		
+		/** Records that no more characters will be added */
+		public void close() {
+			lock.lock();
+			try {
+				closed = true;
+				outputAvailable.signalAll();
+			} finally {
+				lock.unlock();
+			}
+		}
+		
+		/** Returns the number of characters that can be read without blocking */
+		public int available() {
+			lock.lock();
+			try {
+				return count + (overflow == null ? 0 : overflow.length());
+			} finally {
+				lock.unlock();
+			}
+		}
+		
+		/** Returns true if the stream has ended and all its characters have been read */
+		public boolean isFinished() {
+			lock.lock();
+			try {
+				return closed && count == 0 && (overflow == null || overflow.length() == 0);
+			} finally {
+				lock.unlock();
+			}
+		}
+		
+		/** Removes up to len characters into the given array, without blocking 
+		 * @return the number of characters transferred
+		 */
+		public int take(char[] cbuf, int off, int len) {
+			lock.lock();
+			try {
+				if (overflow != null && overflow.length() != 0) {
+					int n = Math.min(len, overflow.length());
+					overflow.getChars(0,n,cbuf,off);
+					overflow.delete(0,n);
+					return n;
+				}
+				int total = 0;
+				while (len > 0 && count > 0) {
+					int n = Math.min(len, Math.min(count, buf.length - head));
+					System.arraycopy(buf,head,cbuf,off,n);
+					head = (head + n) % buf.length;
+					count -= n;
+					off += n;
+					len -= n;
+					total += n;
+				}
+				if (total > 0) spaceAvailable.signalAll();
+				return total;
+			} finally {
+				lock.unlock();
+			}
+		}
+		
+		/** Removes all the currently available characters, appending them to the given StringBuilder */
+		public void drainTo(StringBuilder sb) {
+			lock.lock();
+			try {
+				if (overflow != null) {
+					sb.append(overflow);
+					overflow.setLength(0);
+				}
+				moveTo(sb);
+			} finally {
+				lock.unlock();
+			}
+		}
+		
+		/** Removes the characters in the circular storage, appending them to the given StringBuilder;
+		 * the caller must hold the lock */
+		private void moveTo(StringBuilder sb) {
+			if (count == 0) return;
+			int n = Math.min(count, buf.length - head);
+			sb.append(buf,head,n);
+			if (n < count) sb.append(buf,0,count-n);
+			head = 0;
+			count = 0;
+			spaceAvailable.signalAll();
+		}
+		
+		/** Waits until some characters are available or the stream has ended */
+		public void await() throws InterruptedException {
+			lock.lock();
+			try {
+				while (count == 0 && !closed) outputAvailable.await();
+			} finally {
+				lock.unlock();
+			}
+		}
+		
+		/** Returns a Reader that reads (and removes) characters from this buffer; its read 
+		 * methods block until input is available, and ready() does not block */
+		public Reader reader() {
+			return new Reader() {
+				@Override
+				public int read(char[] cbuf, int off, int len) throws IOException {
+					if (len == 0) return 0;
+					try {
+						await();
+					} catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+						throw new InterruptedIOException("Interrupted while waiting for the solver");
+					}
+					int n = take(cbuf,off,len);
+					return n == 0 ? -1 : n;
+				}
+				
+				@Override
+				public boolean ready() {
+					return available() > 0;
+				}
+				
+				@Override
+				public void close() {
+					// The underlying stream is closed when the process ends
+				}
+			};
+		}
+	}
+	
 	/** A pool of buffers used by listenThru. The listenThru method needs a buffer, which may need to be big.
 	 *  However, the method is called often and we do not want to be continually allocating big buffers that
 	 *  have to wait around to be garbage collected.  Especially since, unless there are multiple SMT processes
@@ -5,7 +5,9 @@
  */
 package org.smtlib;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
@@ -42,26 +44,107 @@ public class SymbolTable {
 	 */
 	public ILogic logicInUse = null;
 	
+	/** The names of the theories that have been loaded into this symbol table */
+	public List<String> theories = new LinkedList<String>();
+	
 	/** A reference to the Configuration for this instance of SMT. */
 	public SMT.Configuration smtConfig;
 	
-	/* The tops of the stack are at the beginning of the lists.  The table 
-	 * manages a stack of scopes, each stack element holds a scope.  
-	 * Within a scope, a symbol can be defined with various different arities 
-	 * (and multiple mappings for a given arity) and different sort arguments. 
+	/* The table manages a stack of scopes on top of a background scope (which holds the 
+	 * definitions from the logic and its theories). Within a scope, a symbol can be defined 
+	 * with various different arities (and multiple mappings for a given arity) and different 
+	 * sort arguments.
+	 * 
+	 * Rather than a map per scope, the non-background scopes are kept in one flat index from 
+	 * an identifier to its binding in the innermost scope that defines it, each binding 
+	 * linking to the one it shadows. Each new binding is recorded on a trail; push() marks 
+	 * the trail and pop() unwinds it back to the mark, restoring the shadowed bindings. So 
+	 * lookup, push and pop do not depend on how deeply the scopes are nested. Identifiers 
+	 * not in the index are looked up in the background scope.
 	 */
 	
-	//@ private invariant sorts = sortStack.get(0);
-	/** The stack of Sort declaration scopes */
-	private List<Map<IIdentifier,ISort.IDefinition>> sortStack;
-	/** The top-most Sort scope */
-	private Map<IIdentifier,ISort.IDefinition> sorts;
+	/** A definition of an identifier in one (non-background) scope */
+	private static class Binding<T> {
+		/** The identifier being defined */
+		final IIdentifier name;
+		/** The definition in this scope */
+		final T value;
+		/** The binding in an enclosing scope that this one shadows, if any */
+		final /*@Nullable*/ Binding<T> shadowed;
+		/** The scope in which the binding is made, counting from 1 for the outermost non-background scope */
+		final int depth;
+		
+		Binding(IIdentifier name, T value, /*@Nullable*/ Binding<T> shadowed, int depth) {
+			this.name = name;
+			this.value = value;
+			this.shadowed = shadowed;
+			this.depth = depth;
+		}
+	}
+	
+	/** The background Sort scope */
+	private Map<IIdentifier,ISort.IDefinition> backgroundSorts;
+	/** The background Symbol scope */
+	private Map<IIdentifier,Map<Integer,List<Entry>>> backgroundNames;
+	
+	/** The innermost binding of each Sort identifier defined in a non-background scope */
+	private Map<IIdentifier,Binding<ISort.IDefinition>> sorts;
+	/** The innermost binding of each Symbol defined in a non-background scope */
+	private Map<IIdentifier,Binding<Map<Integer,List<Entry>>>> names;
+	
+	/** The Sort bindings in the order they were made */
+	private ArrayList<Binding<ISort.IDefinition>> sortTrail;
+	/** The Symbol bindings in the order they were made */
+	private ArrayList<Binding<Map<Integer,List<Entry>>>> symTrail;
 	
-	//@ private invariant names == symStack.get(0);
-	/** The stack of Symbol scopes */
-	private List<Map<IIdentifier,Map<Integer,List<Entry>>>> symStack;
-	/** The top-most Symbol scope */
-	private Map<IIdentifier,Map<Integer,List<Entry>>> names;
+	//@ private invariant 0 <= depth && depth <= sortMarks.length && depth <= symMarks.length;
+	/** The number of non-background scopes */
+	private int depth;
+	/** The length of sortTrail when each non-background scope was pushed */
+	private int[] sortMarks;
+	/** The length of symTrail when each non-background scope was pushed */
+	private int[] symMarks;
+	
+	/** True if the background frame is shared with other symbol tables (see setBackground), 
+	 * in which case it is copied before anything is added to it */
+	private boolean sharedBackground = false;
+	
+	/** The background frame of a symbol table, with the logic and theory settings that go with it,
+	 * as saved by background() for attaching to other symbol tables with setBackground().
+	 * A saved frame is shared, so it is never changed.
+	 */
+	public static class Background {
+		final Map<IIdentifier,ISort.IDefinition> sorts;
+		final Map<IIdentifier,Map<Integer,List<Entry>>> names;
+		final public /*@Nullable*/ ILogic logicInUse;
+		final public boolean arrayTheorySet;
+		final public boolean bitVectorTheorySet;
+		final public boolean realsIntsTheorySet;
+		final public List<String> theories;
+		
+		private Background(SymbolTable s) {
+			sorts = Collections.unmodifiableMap(s.backgroundSorts);
+			names = Collections.unmodifiableMap(s.backgroundNames);
+			logicInUse = s.logicInUse;
+			arrayTheorySet = s.arrayTheorySet;
+			bitVectorTheorySet = s.bitVectorTheorySet;
+			realsIntsTheorySet = s.realsIntsTheorySet;
+			theories = Collections.unmodifiableList(new ArrayList<String>(s.theories));
+		}
+		
+		/** Creates a saved frame from its parts (e.g. as read by LogicSnapshot) */
+		Background(Map<IIdentifier,ISort.IDefinition> sorts, Map<IIdentifier,Map<Integer,List<Entry>>> names,
+				/*@Nullable*/ ILogic logicInUse, boolean arrayTheorySet, boolean bitVectorTheorySet, 
+				boolean realsIntsTheorySet, List<String> theories) {
+			this.sorts = Collections.unmodifiableMap(sorts);
+			this.names = Collections.unmodifiableMap(names);
+			this.logicInUse = logicInUse;
+			this.arrayTheorySet = arrayTheorySet;
+			this.bitVectorTheorySet = bitVectorTheorySet;
+			this.realsIntsTheorySet = realsIntsTheorySet;
+			this.theories = Collections.unmodifiableList(new ArrayList<String>(theories));
+		}
+	}
 	
 	/** An object that holds all the information about the defined symbol (or aliased definition). */
 	public static class Entry {
@@ -89,14 +172,15 @@ public class SymbolTable {
 	 * @author David R. Cok
 	 */
 	public static class Iterator implements java.util.Iterator<Entry> {
-		private java.util.Iterator<Map<IIdentifier,Map<Integer,List<Entry>>>> stackIter;
-		private /*@Nullable*/ java.util.Iterator<Map<Integer,List<Entry>>> arityIter = null;
+		private java.util.ListIterator<Binding<Map<Integer,List<Entry>>>> trailIter;
+		private java.util.Iterator<Map<Integer,List<Entry>>> backgroundIter;
 		private /*@Nullable*/ java.util.Iterator<List<Entry>> symIter = null;
 		private /*@Nullable*/ java.util.Iterator<Entry> entryIter = null;
 		
 		/** Constructs a new iterator, initialized at the beginning */
 		public Iterator(SymbolTable sym) {
-			stackIter = sym.symStack.iterator();
+			trailIter = sym.symTrail.listIterator(sym.symTrail.size());
+			backgroundIter = sym.backgroundNames.values().iterator();
 		}
 		
 		/*@AssertNonNullIfTrue({"symIter"})*/
@@ -104,11 +188,9 @@ public class SymbolTable {
 		public boolean hasNext() {
 			while (entryIter == null || !entryIter.hasNext()) {
 				while (symIter == null || !symIter.hasNext()) {
-					while (arityIter == null || !arityIter.hasNext()) {
-						if (!stackIter.hasNext()) return false;
-						arityIter = stackIter.next().values().iterator();
-					}
-					symIter = arityIter.next().values().iterator();
+					if (trailIter.hasPrevious()) symIter = trailIter.previous().value.values().iterator();
+					else if (backgroundIter.hasNext()) symIter = backgroundIter.next().values().iterator();
+					else return false;
 				}
 				entryIter = symIter.next().iterator();
 			}
@@ -137,12 +219,16 @@ public class SymbolTable {
 	public SymbolTable(SymbolTable s) {
 		clear(false);
 		this.smtConfig = s.smtConfig;
-		sortStack = new LinkedList<Map<IIdentifier,ISort.IDefinition>>();
-		symStack = new LinkedList<Map<IIdentifier,Map<Integer,List<Entry>>>>();
-		sortStack.addAll(s.sortStack);
-		symStack.addAll(s.symStack);
-		names = symStack.get(0);
-		sorts = sortStack.get(0);
+		backgroundSorts = s.backgroundSorts;
+		backgroundNames = s.backgroundNames;
+		sorts.putAll(s.sorts);
+		names.putAll(s.names);
+		sortTrail.addAll(s.sortTrail);
+		symTrail.addAll(s.symTrail);
+		depth = s.depth;
+		sortMarks = s.sortMarks.clone();
+		symMarks = s.symMarks.clone();
+		sharedBackground = s.sharedBackground;
 	}
 	
 	/** Returns a fresh iterator over the symbol table's contents */
@@ -150,34 +236,80 @@ public class SymbolTable {
 		return new Iterator(this);
 	}
 	
-	/** Initializes the symbol table with an empty background frame and one empty frame. */
+	/** Initializes the symbol table with an empty (or, if keepBackground is true, the current) 
+	 * background frame and one empty frame. */
 	public void clear(boolean keepBackground) {
-		if (keepBackground) {
-			while (sortStack.size() > 1) sortStack.remove(0);
-			while (symStack.size() > 1) symStack.remove(0);
-		} else {
-			sortStack = new LinkedList<Map<IIdentifier,ISort.IDefinition>>();
-			symStack = new LinkedList<Map<IIdentifier,Map<Integer,List<Entry>>>>();
-			push(); // an empty background frame
-			push(); // an empty primary frame
+		if (!keepBackground) {
+			backgroundSorts = new HashMap<IIdentifier,ISort.IDefinition>();
+			backgroundNames = new HashMap<IIdentifier,Map<Integer,List<Entry>>>();
+			sharedBackground = false;
 		}
+		sorts = new HashMap<IIdentifier,Binding<ISort.IDefinition>>();
+		names = new HashMap<IIdentifier,Binding<Map<Integer,List<Entry>>>>();
+		sortTrail = new ArrayList<Binding<ISort.IDefinition>>();
+		symTrail = new ArrayList<Binding<Map<Integer,List<Entry>>>>();
+		depth = 0;
+		sortMarks = new int[8];
+		symMarks = new int[8];
+		push(); // an empty primary frame
+	}
+	
+	/** Returns the background frame, for attaching to other symbol tables; from now on the frame is 
+	 * shared, so this symbol table will copy it before adding to it. */
+	public Background background() {
+		sharedBackground = true;
+		return new Background(this);
+	}
+	
+	/** Replaces the background frame by the given saved one (sharing it, rather than copying it), 
+	 * also setting the logic in use and the theory settings that go with it. */
+	public void setBackground(Background background) {
+		backgroundSorts = background.sorts;
+		backgroundNames = background.names;
+		sharedBackground = true;
+		logicInUse = background.logicInUse;
+		arrayTheorySet |= background.arrayTheorySet;
+		bitVectorTheorySet |= background.bitVectorTheorySet;
+		realsIntsTheorySet |= background.realsIntsTheorySet;
+		theories.addAll(background.theories);
+	}
+	
+	/** Replaces a shared background frame by a copy of it, which may be added to */
+	private void thawBackground() {
+		Map<IIdentifier,Map<Integer,List<Entry>>> frame = new HashMap<IIdentifier,Map<Integer,List<Entry>>>();
+		for (Map.Entry<IIdentifier,Map<Integer,List<Entry>>> e: backgroundNames.entrySet()) {
+			Map<Integer,List<Entry>> arityMap = new HashMap<Integer,List<Entry>>();
+			for (Map.Entry<Integer,List<Entry>> a: e.getValue().entrySet()) {
+				arityMap.put(a.getKey(), new LinkedList<Entry>(a.getValue()));
+			}
+			frame.put(e.getKey(), arityMap);
+		}
+		backgroundNames = frame;
+		backgroundSorts = new HashMap<IIdentifier,ISort.IDefinition>(backgroundSorts);
+		sharedBackground = false;
 	}
 
 	/** Adds a new empty frame on the top of the symbol table stack. */
 	public void push() {
-		sortStack.add(0,sorts=new HashMap<IIdentifier,ISort.IDefinition>());
-		symStack.add(0,names=new HashMap<IIdentifier,Map<Integer,List<Entry>>>());
+		if (depth == symMarks.length) {
+			sortMarks = Arrays.copyOf(sortMarks, 2*depth);
+			symMarks = Arrays.copyOf(symMarks, 2*depth);
+		}
+		sortMarks[depth] = sortTrail.size();
+		symMarks[depth] = symTrail.size();
+		depth++;
 	}
 	
 	/** Combines the top two symbol scopes, removing the current top scope; presumes that there
 	 * is no shadowing of symbols; the top sort scope is discarded.
 	 */ // TODO - say more about why this is used/needed; also review this
 	public void merge() {
-		Map<IIdentifier,Map<Integer,List<SymbolTable.Entry>>> oldnames = names;
+		List<Binding<Map<Integer,List<Entry>>>> oldnames = depth == 0 ? null :
+			new ArrayList<Binding<Map<Integer,List<Entry>>>>(symTrail.subList(symMarks[depth-1], symTrail.size()));
 		pop();
 		// Put everything in oldnames into the current top
-		for (Map<Integer,List<SymbolTable.Entry>> e: oldnames.values()) {
-			for (List<SymbolTable.Entry> ee: e.values()) {
+		for (Binding<Map<Integer,List<Entry>>> b: oldnames) {
+			for (List<SymbolTable.Entry> ee: b.value.values()) {
 				for (SymbolTable.Entry entry: ee) {
 					// We have already checked that there is no shadowing
 					add(entry);
@@ -191,27 +323,59 @@ public class SymbolTable {
 	 * InternalException will be thrown.
 	 */
 	public void pop() {
-		// The comparison is <= 1 since there is always also the background scope
-		if (symStack.size() <= 1) {
+		if (depth == 0) {
 			// We throw an InternalException (that is, a bug), since pop should not be called if
 			// there are no scopes to pop.
 			throw new SMT.InternalException("Invalid pop - no more symbol table scopes to pop");
 		}
-		sortStack.remove(0);
-		symStack.remove(0);
-		sorts = sortStack.get(0);
-		names = symStack.get(0);
+		depth--;
+		unwind(sorts, sortTrail, sortMarks[depth]);
+		unwind(names, symTrail, symMarks[depth]);
+	}
+	
+	/** Removes the bindings made since the trail had the given length, restoring the ones they shadowed */
+	private static <T> void unwind(Map<IIdentifier,Binding<T>> index, ArrayList<Binding<T>> trail, int mark) {
+		for (int i = trail.size(); --i >= mark; ) {
+			Binding<T> b = trail.remove(i);
+			if (b.shadowed == null) index.remove(b.name);
+			else index.put(b.name, b.shadowed);
+		}
 	}
 	
 	/** Removes the previous background frame, then removes the top frame and 
 	 * inserts it as the bottom (background) frame. */
 	public void moveToBackground() {
-		sortStack.remove(sortStack.size()-1);
-		symStack.remove(symStack.size()-1);
-		sortStack.add(sortStack.remove(0));
-		symStack.add(symStack.remove(0));
-		names = symStack.get(0);
-		sorts = sortStack.get(0);
+		Map<IIdentifier,ISort.IDefinition> newSorts = new HashMap<IIdentifier,ISort.IDefinition>();
+		for (Binding<ISort.IDefinition> b: sortTrail.subList(sortMarks[depth-1], sortTrail.size())) {
+			newSorts.put(b.name, b.value);
+		}
+		Map<IIdentifier,Map<Integer,List<Entry>>> newNames = new HashMap<IIdentifier,Map<Integer,List<Entry>>>();
+		for (Binding<Map<Integer,List<Entry>>> b: symTrail.subList(symMarks[depth-1], symTrail.size())) {
+			newNames.put(b.name, b.value);
+		}
+		pop();
+		backgroundSorts = newSorts;
+		backgroundNames = newNames;
+		sharedBackground = false;
+	}
+	
+	/** Returns the definition of the given Sort identifier in the top scope, if any */
+	private /*@Nullable*/ ISort.IDefinition topSort(IIdentifier name) {
+		if (depth == 0) return backgroundSorts.get(name);
+		Binding<ISort.IDefinition> b = sorts.get(name);
+		return b != null && b.depth == depth ? b.value : null;
+	}
+	
+	/** Defines the given Sort identifier in the top scope, in which it is not yet defined */
+	private void putSort(IIdentifier name, ISort.IDefinition def) {
+		if (depth == 0) {
+			if (sharedBackground) thawBackground();
+			backgroundSorts.put(name, def);
+		} else {
+			Binding<ISort.IDefinition> b = new Binding<ISort.IDefinition>(name, def, sorts.get(name), depth);
+			sorts.put(name, b);
+			sortTrail.add(b);
+		}
 	}
 	
 	/** Adds the given symbol as a sort to the top scope of the sort table; 
@@ -221,10 +385,9 @@ public class SymbolTable {
 	 * @return true if successfully added, false if already present
 	 */
 	public boolean addSortParameter(ISymbol symbol) {
-		ISort.IDefinition previous = sorts.put(symbol, smtConfig.sortFactory.createSortParameter(symbol));
-		if (previous == null) return true;
-		sorts.put(symbol, previous);
-		return false;
+		if (topSort(symbol) != null) return false;
+		putSort(symbol, smtConfig.sortFactory.createSortParameter(symbol));
+		return true;
 	}
 	
 	/** Adds a new sort declaration to the top frame
@@ -239,8 +402,7 @@ public class SymbolTable {
 		ISort.IDefinition s = lookupSort(identifier);
 		if (s != null) return false;
 		
-		ISort.IDefinition def = smtConfig.sortFactory.createSortFamily(identifier,arity);
-		sorts.put(identifier, def);
+		putSort(identifier, smtConfig.sortFactory.createSortFamily(identifier,arity));
 		return true;
 	}
 	
@@ -253,9 +415,9 @@ public class SymbolTable {
 	 * this name in the top scope
 	 */ // FIXME - why is this only the top scope and the previous call is any scope?
 	public boolean addSortDefinition(IIdentifier identifier, List<IParameter> parameters, ISort definition) {
-		ISort.IDefinition s = sorts.get(identifier);
+		ISort.IDefinition s = topSort(identifier);
 		if (s != null) return false;
-		sorts.put(identifier, smtConfig.sortFactory.createSortAbbreviation(identifier,parameters,definition));
+		putSort(identifier, smtConfig.sortFactory.createSortAbbreviation(identifier,parameters,definition));
 		return true;
 	}
 	
@@ -266,10 +428,10 @@ public class SymbolTable {
 	 */
 	/*@Nullable*/
 	public ISort.IDefinition lookupSort(IIdentifier name) {
-		for (Map<IIdentifier,ISort.IDefinition> set: sortStack) {
-			ISort.IDefinition s = set.get(name);
-			if (s != null) return s;
-		}
+		Binding<ISort.IDefinition> b = sorts.get(name);
+		if (b != null) return b.value;
+		ISort.IDefinition s = backgroundSorts.get(name);
+		if (s != null) return s;
 		
 		// FIXME _ improve so this is not hard coded
 		if (name instanceof IParameterizedIdentifier) {
@@ -284,7 +446,7 @@ public class SymbolTable {
 					return new ISort.ErrorDefinition(name,"A bit-vector sort must have a length of at least 1",pf.numerals().get(0).pos());
 				}
 				ISort.IDefinition def = smtConfig.sortFactory.createSortFamily(name,smtConfig.exprFactory.numeral(0));
-				sorts.put(name, def);
+				putSort(name, def);
 				return def;
 			}
 		}
@@ -299,12 +461,14 @@ public class SymbolTable {
 	 */
 	/*@Nullable*/
 	public IFcnSort lookup(int arity, IIdentifier name) {
-		for (Map<IIdentifier,Map<Integer,List<Entry>>> set: symStack) {
-			Map<Integer,List<Entry>> arityMap = set.get(name);
-			if (arityMap != null) {
-				List<Entry> entrylist = arityMap.get(arity);
-				if (entrylist != null && entrylist.size() > 0) return entrylist.get(0).sort;
-			}
+		for (Binding<Map<Integer,List<Entry>>> b = names.get(name); b != null; b = b.shadowed) {
+			List<Entry> entrylist = b.value.get(arity);
+			if (entrylist != null && entrylist.size() > 0) return entrylist.get(0).sort;
+		}
+		Map<Integer,List<Entry>> arityMap = backgroundNames.get(name);
+		if (arityMap != null) {
+			List<Entry> entrylist = arityMap.get(arity);
+			if (entrylist != null && entrylist.size() > 0) return entrylist.get(0).sort;
 		}
 		return null;
 	}
@@ -315,11 +479,9 @@ public class SymbolTable {
 	 * top-most scope in which the identifier is found
 	 */
 	public /*@Nullable*/ Map<Integer,List<Entry>> lookup(IIdentifier name) {
-		for (Map<IIdentifier,Map<Integer,List<Entry>>> set: symStack) {
-			Map<Integer,List<Entry>> arityMap = set.get(name);
-			if (arityMap != null) return arityMap;
-		}
-		return null;
+		Binding<Map<Integer,List<Entry>>> b = names.get(name);
+		if (b != null) return b.value;
+		return backgroundNames.get(name);
 	}
 	
 	// FIXME - review
@@ -336,87 +498,83 @@ public class SymbolTable {
 		Entry found = null;
 		boolean foundMatchButNotOnResult = false;
 		int arity = argSorts.size();
-		for (Map<IIdentifier,Map<Integer,List<Entry>>> set: symStack) {
-			Map<Integer,List<Entry>> arityMap = set.get(name);
-			if (arityMap != null) {
-				// We have a name match
-				// First check for an exact match on arity
-				List<Entry> entrylist = arityMap.get(arity);
-				if (entrylist != null) for (Entry entry: entrylist) {
-					java.util.Iterator<ISort> actuals = argSorts.iterator();
-					java.util.Iterator<ISort> defs = Arrays.asList(entry.sort.argSorts()).iterator();
-					while (actuals.hasNext() && defs.hasNext()) {
-						if (!defs.next().equals(actuals.next())) { entry = null; break; }
-					}
-					// Cases to consider
-					//   resultSort != null & just one argument sort match -> error - not supposed to use a qualifier
-					//   resultSort != null & multiple argument sort matches -> pick the one that matches on result sort
-					//   resultSort == null & and just one argument sort match -> return it
-					//   resultSort == null & multiple argument sort matches -> ambiguous
-						
-					if (entry != null) {
-						// Have a match on the arguments, so check for a match on the result
-						if (resultSort != null) {
-							if (resultSort.equals(entry.sort.resultSort())) {
-								if (found != null) {
-									// FIXME - there appear to be two entries that match on all arguments and the result
-									return null;
-								} else {
-									found = entry;
-								}
-							} else {
-								foundMatchButNotOnResult = true;
-							}
+		Map<Integer,List<Entry>> arityMap = lookup(name);
+		if (arityMap == null) return null;
+		// We have a name match
+		// First check for an exact match on arity
+		List<Entry> entrylist = arityMap.get(arity);
+		if (entrylist != null) for (Entry entry: entrylist) {
+			java.util.Iterator<ISort> actuals = argSorts.iterator();
+			java.util.Iterator<ISort> defs = Arrays.asList(entry.sort.argSorts()).iterator();
+			while (actuals.hasNext() && defs.hasNext()) {
+				if (!defs.next().equals(actuals.next())) { entry = null; break; }
+			}
+			// Cases to consider
+			//   resultSort != null & just one argument sort match -> error - not supposed to use a qualifier
+			//   resultSort != null & multiple argument sort matches -> pick the one that matches on result sort
+			//   resultSort == null & and just one argument sort match -> return it
+			//   resultSort == null & multiple argument sort matches -> ambiguous
+				
+			if (entry != null) {
+				// Have a match on the arguments, so check for a match on the result
+				if (resultSort != null) {
+					if (resultSort.equals(entry.sort.resultSort())) {
+						if (found != null) {
+							// FIXME - there appear to be two entries that match on all arguments and the result
+							return null;
 						} else {
-							// No result sort specified - there should not be any overloading
-							if (found != null) {
-								// Found something previously and now have this match - so ambiguous
-								// FIXME - no place to give an error message that the result sort is ambiguous
-								return null;
-							}
 							found = entry;
-							// Otherwise have just one match - keep checking the rest of the list
 						}
+					} else {
+						foundMatchButNotOnResult = true;
 					}
+				} else {
+					// No result sort specified - there should not be any overloading
+					if (found != null) {
+						// Found something previously and now have this match - so ambiguous
+						// FIXME - no place to give an error message that the result sort is ambiguous
+						return null;
+					}
+					found = entry;
+					// Otherwise have just one match - keep checking the rest of the list
 				}
-				if (resultSort != null && found != null && !foundMatchButNotOnResult) {
-					// FIXME - should report unneeded disambiguation
-					return null;
+			}
+		}
+		if (resultSort != null && found != null && !foundMatchButNotOnResult) {
+			// FIXME - should report unneeded disambiguation
+			return null;
+		}
+		if (found != null) return found;
+		
+		// Check for left-assoc etc.
+		if (argSorts.size() <= 2) return null;
+		entrylist = arityMap.get(2);
+		if (entrylist != null) outer: for (Entry entry: entrylist) {
+			ISort left = entry.sort.argSorts()[0];
+			ISort right = entry.sort.argSorts()[1];
+			java.util.Iterator<ISort> actuals = argSorts.iterator();
+			if (hasAttribute(entry,":left-assoc")) {
+				if (!actuals.next().equals(left)) continue;
+				while (actuals.hasNext()) {
+					if (!actuals.next().equals(right)) continue outer;
 				}
-				if (found != null) return found;
-				
-					// Check for left-assoc etc.
-				if (argSorts.size() <= 2) return null;
-				entrylist = arityMap.get(2);
-				if (entrylist != null) outer: for (Entry entry: entrylist) {
-					ISort left = entry.sort.argSorts()[0];
-					ISort right = entry.sort.argSorts()[1];
-					java.util.Iterator<ISort> actuals = argSorts.iterator();
-					if (hasAttribute(entry,":left-assoc")) {
-						if (!actuals.next().equals(left)) continue;
-						while (actuals.hasNext()) {
-							if (!actuals.next().equals(right)) continue outer;
-						}
-					} else if (hasAttribute(entry,":right-assoc")) {
-						ISort sort = actuals.next();
-						while (actuals.hasNext()) {
-							if (!sort.equals(left)) continue outer;
-							sort = actuals.next();
-						}
-						if (!sort.equals(right)) continue;
-					} else if (hasAttribute(entry,":chainable") || hasAttribute(entry,":pairwise")) {
-						while (actuals.hasNext()) {
-							ISort sort = actuals.next();
-							if (!sort.equals(left)) continue outer;
-						}
-					} else {
-						// None of the attributes apply
-						continue;
-					}
-					return entry;
+			} else if (hasAttribute(entry,":right-assoc")) {
+				ISort sort = actuals.next();
+				while (actuals.hasNext()) {
+					if (!sort.equals(left)) continue outer;
+					sort = actuals.next();
 				}
-				return null;
+				if (!sort.equals(right)) continue;
+			} else if (hasAttribute(entry,":chainable") || hasAttribute(entry,":pairwise")) {
+				while (actuals.hasNext()) {
+					ISort sort = actuals.next();
+					if (!sort.equals(left)) continue outer;
+				}
+			} else {
+				// None of the attributes apply
+				continue;
 			}
+			return entry;
 		}
 		return null;
 	}
@@ -433,14 +591,22 @@ public class SymbolTable {
 	 * @param entry the Entry to add
 	 */
 	public void add(Entry entry) {
-		Map<IIdentifier,Map<Integer,List<Entry>>> lnames = names;
-		if (smtConfig.globalDeclarations) {
-			lnames = symStack.get(symStack.size()-1);
-		}
-		Map<Integer,List<Entry>> arityMap = lnames.get(entry.name);
-		if (arityMap == null) {
-			arityMap = new HashMap<Integer,List<Entry>>();
-			lnames.put(entry.name,arityMap);
+		Map<Integer,List<Entry>> arityMap;
+		if (smtConfig.globalDeclarations || depth == 0) {
+			if (sharedBackground) thawBackground();
+			arityMap = backgroundNames.get(entry.name);
+			if (arityMap == null) {
+				arityMap = new HashMap<Integer,List<Entry>>();
+				backgroundNames.put(entry.name,arityMap);
+			}
+		} else {
+			Binding<Map<Integer,List<Entry>>> b = names.get(entry.name);
+			if (b == null || b.depth != depth) {
+				b = new Binding<Map<Integer,List<Entry>>>(entry.name, new HashMap<Integer,List<Entry>>(), b, depth);
+				names.put(entry.name, b);
+				symTrail.add(b);
+			}
+			arityMap = b.value;
 		}
 		List<Entry> entrylist = arityMap.get(entry.sort.argSorts().length);
 		if (entrylist == null) {
@@ -462,10 +628,8 @@ public class SymbolTable {
 		// Check if the entry is already present in any scope;
 		// return false if it is.  Allow overloading if the second argument is true.
 		if (!overload) {
-			for (Map<IIdentifier,Map<Integer,List<Entry>>> set: symStack) {
-				if (set.get(entry.name) != null) {
-					return false;
-				}
+			if (names.get(entry.name) != null || backgroundNames.get(entry.name) != null) {
+				return false;
 			}
 		}
 		// Symbol is not present or overloading is allowed, so add it
@@ -7,6 +7,7 @@ package org.smtlib;
 // FIXME- NEEDS REVIEW; use an interface?
 
 import java.math.BigInteger;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedList;
@@ -15,7 +16,6 @@ import java.util.Map;
 
 import org.smtlib.IExpr.*;
 import org.smtlib.ISort.*;
-import org.smtlib.impl.SMTExpr;
 import org.smtlib.sexpr.ISexpr;
 import org.smtlib.sexpr.ISexpr.ISeq;
 
@@ -37,9 +37,9 @@ public class TypeChecker extends IVisitor.NullVisitor</*@Nullable*/ ISort> {
 	private ISymbol isClosed = null;
 
 	/** Constructs a formula typechecker from the current
-	 * symbol table and type map
+	 * symbol table and type map (in which the sort of each subexpression checked is recorded)
 	 */
-	private TypeChecker(SymbolTable symTable, Map<IExpr,ISort> typemap) {
+	public TypeChecker(SymbolTable symTable, /*@Nullable*/ Map<IExpr,ISort> typemap) {
 		this.symTable = symTable;
 		this.smtConfig = symTable.smtConfig;
 		this.typemap = typemap;
@@ -243,8 +243,51 @@ public class TypeChecker extends IVisitor.NullVisitor</*@Nullable*/ ISort> {
 		return save(e,sort == null ? null : sort.resultSort());
 	}
 
+	/** A function application whose arguments are being checked by visit(IFcnExpr) */
+	static protected class PendingFcn {
+		final public IFcnExpr e;
+		/** The index of the next argument to check */
+		public int next = 0;
+		/** The sorts of the arguments checked so far without errors */
+		final public List<ISort> argSorts = new LinkedList<ISort>();
+		public boolean anyErrors = false;
+		
+		public PendingFcn(IFcnExpr e) {
+			this.e = e;
+		}
+		
+		public void add(/*@Nullable*/ ISort argSort) {
+			anyErrors = anyErrors || (argSort == null);
+			if (argSort != null) argSorts.add(argSort); 
+		}
+	}
+
+	/** Checks a function application; the applications nested within it as arguments (of
+	 * arguments ...) are checked from an explicit stack rather than by nested calls, so that
+	 * the depth of the Java stack does not grow with their depth.  The order of checking is
+	 * unchanged: each argument, left to right, then the application itself. */
 	@Override
 	public /*@Nullable*/ ISort visit(IFcnExpr e) throws IVisitor.VisitorException {
+		List<PendingFcn> stack = new ArrayList<PendingFcn>();
+		stack.add(new PendingFcn(e));
+		while (true) {
+			PendingFcn p = stack.get(stack.size()-1);
+			if (p.next < p.e.args().size()) {
+				// Type check the next argument
+				IExpr sx = p.e.args().get(p.next++);
+				if (sx instanceof IFcnExpr) stack.add(new PendingFcn((IFcnExpr)sx));
+				else p.add(sx.accept(this));
+				continue;
+			}
+			stack.remove(stack.size()-1);
+			ISort s = p.anyErrors ? null : checkApplication(p.e,p.argSorts);
+			if (stack.isEmpty()) return s;
+			stack.get(stack.size()-1).add(s);
+		}
+	}
+
+	/** Checks a function application, given the sorts of its arguments */
+	protected /*@Nullable*/ ISort checkApplication(IFcnExpr e, List<ISort> argSorts) throws IVisitor.VisitorException {
 		if (e.args().size() == 0) {
 			// Error message already given on parsing
 			// but we'll defensively program
@@ -252,18 +295,6 @@ public class TypeChecker extends IVisitor.NullVisitor</*@Nullable*/ ISort> {
 			return null; 
 		}
 
-		// Type check all the arguments
-		boolean anyErrors = false;
-		List<ISort> argSorts = new LinkedList<ISort>();
-		java.util.Iterator<IExpr> iter = e.args().iterator();
-		while (iter.hasNext()) {
-			IExpr sx = iter.next();
-			ISort argSort = sx.accept(this);
-			anyErrors = anyErrors || (argSort == null);
-			if (argSort != null) argSorts.add(argSort); 
-		}
-		if (anyErrors) return null;
-
 		// Now lookup the head in the context of these arguments
 		IQualifiedIdentifier qhead = e.head();
 		IIdentifier head;
@@ -775,7 +806,7 @@ public class TypeChecker extends IVisitor.NullVisitor</*@Nullable*/ ISort> {
 		return resultSort;
 	}
 	
-	public IExpr convert(ISexpr s) { // FIXME - use a factory? do typechecking here?
+	public IExpr convert(ISexpr s) { // FIXME - do typechecking here?
 		if (s instanceof ISexpr.ISeq) {
 			Iterator<ISexpr> sexprs = ((ISeq)s).sexprs().iterator();
 			ISexpr first = sexprs.next();
@@ -785,7 +816,7 @@ public class TypeChecker extends IVisitor.NullVisitor</*@Nullable*/ ISort> {
 				args.add(arg);
 			}
 			ISymbol id = (ISymbol)first;
-			return new SMTExpr.FcnExpr(id,args);
+			return smtConfig.exprFactory.fcn(id,args);
 		} else if (s instanceof ISymbol) {
 			return (ISymbol)s;
 		} else {
@@ -794,57 +825,72 @@ public class TypeChecker extends IVisitor.NullVisitor</*@Nullable*/ ISort> {
 	}
 
 	protected Map<ISymbol,Variable> currentScope = new HashMap<ISymbol,Variable>();
+	/** For each enclosing binder, innermost first, the entries of currentScope that its declarations
+	 * replaced (mapped to null if the symbol was not in scope), from which the scope is restored */
 	protected List<Map<ISymbol,Variable>> parameters = new LinkedList<Map<ISymbol,Variable>>();
 
 	@Override
 	public /*@Nullable*/ ISort visit(IForall e) throws IVisitor.VisitorException {
-		Map<ISymbol,Variable> saved = new HashMap<ISymbol,Variable>();
-		saved.putAll(currentScope);
-		parameters.add(0,saved);
-		boolean errors = false;
-		for (IExpr.IDeclaration decl : e.parameters()) {
-			ISort res = decl.sort().accept(this);
-			if (res == null) errors = true;
-			else currentScope.put(decl.parameter(),new Variable(decl.parameter(),decl.sort(),null));
-		}
-		try {
-			if (errors) return null;
-			ISort s = e.expr().accept(this);
-			return save(e,s);
-		} finally {
-			currentScope = parameters.remove(0);
-		}
+		return visitBinders(e);
 	}
 
 	@Override
 	public /*@Nullable*/ ISort visit(IExists e) throws IVisitor.VisitorException {
-		Map<ISymbol,Variable> saved = new HashMap<ISymbol,Variable>();
-		saved.putAll(currentScope);
-		parameters.add(0,saved);
-		boolean errors = false;
-		for (IExpr.IDeclaration decl : e.parameters()) {
-			ISort res = decl.sort().accept(this);
-			if (res == null) errors = true;
-			else currentScope.put(decl.parameter(),new Variable(decl.parameter(),decl.sort(),null));
-		}
-		try {
-			if (errors) return null;
-			ISort s = e.expr().accept(this);
-			return save(e,s);
-		} finally {
-			currentScope = parameters.remove(0);
-		}
+		return visitBinders(e);
 	}
 
 	@Override
 	public /*@Nullable*/ ISort visit(ILet e) throws IVisitor.VisitorException {
-		Map<ISymbol,Variable> newdecls = new HashMap<ISymbol,Variable>();
-		Map<ISymbol,Variable> saved = new HashMap<ISymbol,Variable>();
-		saved.putAll(currentScope);
-		parameters.add(0,saved);
+		return visitBinders(e);
+	}
+	
+	/** Type-checks a quantifier or let expression, together with the chain of quantifiers and lets
+	 * directly nested as the body of each, in a loop rather than by recursion, so that the depth of the
+	 * Java stack does not grow with the length of the chain; each binder adds its parameters (or let
+	 * variables) to currentScope, recording just the entries they replace, and its sort is that of its body. */
+	protected /*@Nullable*/ ISort visitBinders(IExpr e) throws IVisitor.VisitorException {
+		List<IExpr> chain = new ArrayList<IExpr>();
+		int scopes = 0;
 		try {
+			ISort s;
+			while (true) {
+				Map<ISymbol,Variable> replaced = new HashMap<ISymbol,Variable>();
+				parameters.add(0,replaced);
+				++scopes;
+				if (!declare(e,replaced)) {
+					s = null;
+					break;
+				}
+				chain.add(e);
+				IExpr body = e instanceof IForall ? ((IForall)e).expr()
+							: e instanceof IExists ? ((IExists)e).expr()
+							: ((ILet)e).expr();
+				if (!(body instanceof IForall || body instanceof IExists || body instanceof ILet)) {
+					s = body.accept(this);
+					break;
+				}
+				e = body;
+			}
+			for (int i = chain.size(); --i >= 0; ) s = save(chain.get(i),s);
+			return s;
+		} finally {
+			while (scopes-- > 0) {
+				for (Map.Entry<ISymbol,Variable> entry: parameters.remove(0).entrySet()) {
+					if (entry.getValue() == null) currentScope.remove(entry.getKey());
+					else currentScope.put(entry.getKey(),entry.getValue());
+				}
+			}
+		}
+	}
+	
+	/** Checks the parameters of the given quantifier, or the bindings of the given let, adding them to
+	 * the current scope and the entries they replace to replaced; returns false if any has an error
+	 * (in which case no let variable is added). */
+	protected boolean declare(IExpr e, Map<ISymbol,Variable> replaced) throws IVisitor.VisitorException {
+		if (e instanceof ILet) {
+			Map<ISymbol,Variable> newdecls = new HashMap<ISymbol,Variable>();
 			boolean anyErrors = false;
-			for (IExpr.IBinding decl : e.bindings()) {
+			for (IExpr.IBinding decl : ((ILet)e).bindings()) {
 				IExpr expr = decl.expr();
 				ISort s = expr.accept(this);
 				if (s == null) anyErrors = true;
@@ -852,13 +898,25 @@ public class TypeChecker extends IVisitor.NullVisitor</*@Nullable*/ ISort> {
 					newdecls.put(decl.parameter(),new Variable(decl.parameter(),s,expr));
 				}
 			}
-			if (anyErrors) return null;
-			currentScope.putAll(newdecls);
-			ISort s = e.expr().accept(this);
-			return save(e,s);
-		} finally {
-			currentScope = parameters.remove(0);
+			if (anyErrors) return false;
+			for (Map.Entry<ISymbol,Variable> entry: newdecls.entrySet()) bind(entry.getKey(),entry.getValue(),replaced);
+			return true;
 		}
+		List<IExpr.IDeclaration> decls = e instanceof IForall ? ((IForall)e).parameters() : ((IExists)e).parameters();
+		boolean errors = false;
+		for (IExpr.IDeclaration decl : decls) {
+			ISort res = decl.sort().accept(this);
+			if (res == null) errors = true;
+			else bind(decl.parameter(),new Variable(decl.parameter(),decl.sort(),null),replaced);
+		}
+		return !errors;
+	}
+	
+	/** Puts the given variable in the current scope, recording in replaced the entry it replaces, if
+	 * that is the first for its symbol */
+	protected void bind(ISymbol sym, Variable v, Map<ISymbol,Variable> replaced) {
+		Variable old = currentScope.put(sym,v);
+		if (!replaced.containsKey(sym)) replaced.put(sym,old);
 	}
 	
 	@Override
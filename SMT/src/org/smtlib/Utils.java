@@ -482,7 +482,10 @@ public class Utils {
 	}
 
 	/**
-	 * Finds and loads a logic into the given symbol table
+	 * Finds and loads a logic into the given symbol table, as the background
+	 * frame; the frame is shared with any other symbol table that loads the
+	 * same logic (see LogicCache), so the logic is read only once, from its
+	 * snapshot (see LogicSnapshot) if there is an up-to-date one.
 	 * 
 	 * @param logicName
 	 *            name of the logic to load
@@ -492,6 +495,39 @@ public class Utils {
 	 */
 	public/* @Nullable */IResponse loadLogic(String logicName,
 			SymbolTable symTable, /* @Nullable */IPos pos) {
+		SymbolTable.Background background = LogicCache.logic(smtConfig, logicName);
+		if (background == null) {
+			synchronized (LogicCache.lock(smtConfig, logicName)) {
+				background = LogicCache.logic(smtConfig, logicName);
+				if (background == null) {
+					long stamp = LogicCache.stamp(smtConfig, logicName);
+					background = LogicSnapshot.read(smtConfig, logicName);
+					if (background == null) {
+						SymbolTable fresh = new SymbolTable(smtConfig);
+						IResponse res = readLogic(logicName, fresh, pos);
+						if (res != null) return res;
+						background = fresh.background();
+					}
+					LogicCache.putLogic(smtConfig, logicName, background, stamp);
+				}
+			}
+		}
+		symTable.setBackground(background);
+		return null;
+	}
+
+	/**
+	 * Reads and parses a logic and loads it into the given symbol table,
+	 * without using LogicCache
+	 * 
+	 * @param logicName
+	 *            name of the logic to load
+	 * @param symTable
+	 *            the symbol table into which to load it
+	 * @return null if read OK, an error if a problem happened
+	 */
+	public/* @Nullable */IResponse readLogic(String logicName,
+			SymbolTable symTable, /* @Nullable */IPos pos) {
 		ILogic sx = null; // = findLogic(logicName, smtConfig.logicPath, pos);
 		{
 			String name = logicName;
@@ -562,11 +598,15 @@ public class Utils {
 	 */
 	public/* @Nullable */IResponse loadTheory(String theoryName,
 			SymbolTable symTable) {
-		ITheory th = null;
-		try {
-			th = findTheory(theoryName, smtConfig.logicPath);
-		} catch (SMTLIBException e) {
-			return e.errorResponse;
+		ITheory th = LogicCache.theory(smtConfig, theoryName);
+		if (th == null) {
+			long stamp = LogicCache.stamp(smtConfig, theoryName);
+			try {
+				th = findTheory(theoryName, smtConfig.logicPath);
+			} catch (SMTLIBException e) {
+				return e.errorResponse;
+			}
+			LogicCache.putTheory(smtConfig, theoryName, th, stamp);
 		}
 
 		// The second element should be the name of the logic, if specified
@@ -584,6 +624,7 @@ public class Utils {
 		
 		/* @Nullable */IResponse response = loadTheory(th, symTable);
 		if (response == null) {
+			symTable.theories.add(theoryName);
 			if (theoryName.equals("ArraysEx"))
 				symTable.arrayTheorySet = true;
 			if (theoryName.equals("Fixed_Size_BitVectors"))
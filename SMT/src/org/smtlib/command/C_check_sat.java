@@ -6,6 +6,7 @@
 package org.smtlib.command;
 
 import java.io.IOException;
+import java.time.Duration;
 
 import org.smtlib.ICommand.Icheck_sat;
 import org.smtlib.IResponse;
@@ -39,8 +40,11 @@ public class C_check_sat extends Command implements Icheck_sat {
 		p.writer().append("(" + commandName + ")");
 	}
 	
+	/** Checks satisfiability, giving up after smt().timeout seconds if that is positive */
 	@Override
 	public IResponse execute(ISolver solver) {
+		double timeout = solver.smt().timeout;
+		if (timeout > 0) return solver.check_sat(Duration.ofNanos(Math.round(timeout*1e9)));
 		return solver.check_sat();
 	}
 
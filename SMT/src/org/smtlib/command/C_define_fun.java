@@ -71,7 +71,7 @@ public class C_define_fun extends Command implements Idefine_fun {
 		p.writer().append(") ");
 		resultSort().accept(p);
 		p.writer().append(" ");
-		expression().accept(p);
+		p.print(expression());
 		p.writer().append(")");
 	}
 	
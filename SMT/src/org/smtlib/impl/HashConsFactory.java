@@ -0,0 +1,381 @@
+/*
+ * This file is part of the SMT project.
+ * Copyright 2010 David R. Cok
+ * Created August 2010
+ */
+package org.smtlib.impl;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.smtlib.IExpr;
+import org.smtlib.IExpr.IAsIdentifier;
+import org.smtlib.IExpr.IBinaryLiteral;
+import org.smtlib.IExpr.IDecimal;
+import org.smtlib.IExpr.IFcnExpr;
+import org.smtlib.IExpr.IHexLiteral;
+import org.smtlib.IExpr.IIdentifier;
+import org.smtlib.IExpr.INumeral;
+import org.smtlib.IExpr.IParameterizedIdentifier;
+import org.smtlib.IExpr.IQualifiedIdentifier;
+import org.smtlib.IExpr.IStringLiteral;
+import org.smtlib.IExpr.ISymbol;
+import org.smtlib.IPos;
+import org.smtlib.ISort;
+import org.smtlib.impl.SMTExpr.AsIdentifier;
+import org.smtlib.impl.SMTExpr.BinaryLiteral;
+import org.smtlib.impl.SMTExpr.Decimal;
+import org.smtlib.impl.SMTExpr.FcnExpr;
+import org.smtlib.impl.SMTExpr.HexLiteral;
+import org.smtlib.impl.SMTExpr.Numeral;
+import org.smtlib.impl.SMTExpr.ParameterizedIdentifier;
+import org.smtlib.impl.SMTExpr.StringLiteral;
+import org.smtlib.impl.SMTExpr.Symbol;
+
+/** A factory for expressions that hash-conses the terms it builds: each function application,
+ * indexed identifier or as-identifier that it creates, and each symbol or literal that is an
+ * argument of one, is replaced by the one structurally equal instance in the factory's intern
+ * table, if there is one. Terms that are repeated (as subterms of generated verification conditions
+ * often are) then share a single instance; the hash code of a shared term is computed just once,
+ * and two shared terms are structurally equal exactly when they are the same object.
+ * <P>
+ * The table holds its terms weakly, so terms no longer in use are still collected, and it may be
+ * used by several threads at once. Binders (let, forall, exists) and attributed expressions are
+ * not shared, though their subterms are.
+ * <P>
+ * A shared term records the position of its first occurrence in the command most recently parsed
+ * (the parser calls nextCommand() as it begins each command): the parser sets the position of each
+ * term it builds, and a shared symbol or literal takes the position of the token it stands for. Every
+ * term of the command being processed then has a position within that command, so an error in a
+ * subterm is reported where it is with the standard factory. Sessions that run at the same time each
+ * have their own factory (cf. SMT.Configuration.cloneForSession), so that they do not set the
+ * positions of each other's terms.
+ */
+public class HashConsFactory extends Factory {
+
+	/** The number of independently locked segments of the intern table (a power of 2) */
+	final static protected int SEGMENTS = 16;
+
+	/** The segments of the intern table, each an array of hash buckets */
+	final protected Segment[] segments = new Segment[SEGMENTS];
+
+	/** The number of commands begun; a term whose entry has an older generation has not yet
+	 * occurred in the current command */
+	protected int generation = 0;
+
+	public HashConsFactory() {
+		for (int i = 0; i < SEGMENTS; i++) segments[i] = new Segment();
+	}
+
+	/** Called as the parser begins a command: from now on, the first occurrence of each shared term
+	 * sets its position */
+	public void nextCommand() {
+		++generation;
+	}
+
+	/** A shared function application */
+	static public class Fcn extends FcnExpr {
+		final protected int hash;
+
+		protected Fcn(IQualifiedIdentifier id, List<IExpr> args, int hash) {
+			super(id,args);
+			this.hash = hash;
+		}
+
+		// equals is reference equality, as it is for FcnExpr
+
+		@Override
+		public int hashCode() { return hash; }
+
+		/** Sets the position only if there is none, so that the term keeps its first occurrence in
+		 * the current command (cf. intern, which clears it for a new command) */
+		@Override
+		public void setPos(/*@Nullable*/ IPos pos) {
+			if (pos == null || pos() == null) super.setPos(pos);
+		}
+	}
+
+	/** A shared indexed identifier, e.g. (_ extract 7 0) */
+	static public class Indexed extends ParameterizedIdentifier {
+		final protected int hash;
+
+		protected Indexed(ISymbol symbol, List<INumeral> nums, int hash) {
+			super(symbol,nums);
+			this.hash = hash;
+		}
+
+		@Override
+		public int hashCode() { return hash; }
+
+		/** Sets the position only if there is none, so that the term keeps its first occurrence in
+		 * the current command (cf. intern, which clears it for a new command) */
+		@Override
+		public void setPos(/*@Nullable*/ IPos pos) {
+			if (pos == null || pos() == null) super.setPos(pos);
+		}
+	}
+
+	/** A shared as-identifier, e.g. (as nil (List Int)) */
+	static public class Qualified extends AsIdentifier {
+		final protected int hash;
+
+		protected Qualified(IIdentifier identifier, ISort qualifier, int hash) {
+			super(identifier,qualifier);
+			this.hash = hash;
+		}
+
+		@Override
+		public int hashCode() { return hash; }
+
+		/** Sets the position only if there is none, so that the term keeps its first occurrence in
+		 * the current command (cf. intern, which clears it for a new command) */
+		@Override
+		public void setPos(/*@Nullable*/ IPos pos) {
+			if (pos == null || pos() == null) super.setPos(pos);
+		}
+	}
+
+	@Override
+	public IFcnExpr fcn(IQualifiedIdentifier id, List<IExpr> args) {
+		IQualifiedIdentifier head = (IQualifiedIdentifier)share(id);
+		List<IExpr> arglist = new ArrayList<IExpr>(args.size());
+		int hash = hash(head);
+		for (IExpr a: args) {
+			IExpr s = share(a);
+			arglist.add(s);
+			hash = 31*hash + hash(s);
+		}
+		return (IFcnExpr)intern(new Fcn(head,arglist,hash),hash,false);
+	}
+
+	@Override
+	public IFcnExpr fcn(IQualifiedIdentifier id, IExpr... args) {
+		IQualifiedIdentifier head = (IQualifiedIdentifier)share(id);
+		List<IExpr> arglist = new ArrayList<IExpr>(args.length);
+		int hash = hash(head);
+		for (IExpr a: args) {
+			IExpr s = share(a);
+			arglist.add(s);
+			hash = 31*hash + hash(s);
+		}
+		return (IFcnExpr)intern(new Fcn(head,arglist,hash),hash,false);
+	}
+
+	@Override
+	public IParameterizedIdentifier id(ISymbol symbol, List<INumeral> num) {
+		ISymbol head = (ISymbol)share(symbol);
+		List<INumeral> nums = new ArrayList<INumeral>(num.size());
+		int hash = hash(head);
+		for (INumeral n: num) {
+			INumeral s = (INumeral)share(n);
+			nums.add(s);
+			hash = 31*hash + hash(s);
+		}
+		return (IParameterizedIdentifier)intern(new Indexed(head,nums,hash),hash,false);
+	}
+
+	@Override
+	public IAsIdentifier id(IIdentifier identifier, ISort qualifier) {
+		IIdentifier head = (IIdentifier)share(identifier);
+		int hash = 31*hash(head) + qualifier.hashCode();
+		return (IAsIdentifier)intern(new Qualified(head,qualifier,hash),hash,false);
+	}
+
+	/** Returns the shared instance of the given expression, if it is of a kind that is shared, and
+	 * otherwise the expression itself */
+	protected IExpr share(IExpr e) {
+		if (e instanceof Fcn || e instanceof Indexed || e instanceof Qualified) return e;
+		if (isLeaf(e)) return intern(e,hash(e),true);
+		return e;
+	}
+
+	/** True for the symbols and literals that are shared */
+	static protected boolean isLeaf(IExpr e) {
+		return e instanceof Symbol || e instanceof INumeral || e instanceof IDecimal || e instanceof IStringLiteral
+				|| e instanceof IBinaryLiteral || e instanceof IHexLiteral;
+	}
+
+	/** Returns a new instance of the given symbol or literal, without a position, for the intern table
+	 * (so that the table does not hold on to tokens of the input); intern() gives it the token's position */
+	static protected IExpr copy(IExpr e) {
+		if (e instanceof Symbol) return new Symbol(e.toString());
+		if (e instanceof INumeral) return new Numeral(((INumeral)e).value());
+		if (e instanceof IDecimal) return new Decimal(((IDecimal)e).value());
+		if (e instanceof IStringLiteral) return new StringLiteral(((IStringLiteral)e).value(),false);
+		if (e instanceof IBinaryLiteral) return new BinaryLiteral(((IBinaryLiteral)e).value());
+		if (e instanceof IHexLiteral) return new HexLiteral(((IHexLiteral)e).value());
+		return e;
+	}
+
+	/** The hash code of an expression, consistent with same() */
+	static protected int hash(IExpr e) {
+		if (e instanceof Fcn) return ((Fcn)e).hash;
+		if (e instanceof Indexed) return ((Indexed)e).hash;
+		if (e instanceof Qualified) return ((Qualified)e).hash;
+		if (e instanceof Symbol) return e.toString().hashCode();
+		if (e instanceof INumeral) return ((INumeral)e).value().hashCode();
+		if (e instanceof IDecimal) return ((IDecimal)e).value().hashCode();
+		if (e instanceof IStringLiteral) return ((IStringLiteral)e).value().hashCode();
+		if (e instanceof IBinaryLiteral) return ((IBinaryLiteral)e).value().hashCode();
+		if (e instanceof IHexLiteral) return ((IHexLiteral)e).value().hashCode();
+		return System.identityHashCode(e);
+	}
+
+	/** True if the two expressions are the same term: composite terms are the same if their parts are
+	 * the same objects (they are already shared); symbols and literals are the same if they are written
+	 * the same way (so #b01 and #b1 are different, as are |x| and x, which print differently) */
+	static protected boolean same(IExpr a, IExpr b) {
+		if (a == b) return true;
+		if (a instanceof Fcn) {
+			if (!(b instanceof Fcn)) return false;
+			Fcn x = (Fcn)a;
+			Fcn y = (Fcn)b;
+			if (x.hash != y.hash || x.id != y.id || x.args.size() != y.args.size()) return false;
+			for (int i = 0; i < x.args.size(); i++) {
+				if (x.args.get(i) != y.args.get(i)) return false;
+			}
+			return true;
+		} else if (a instanceof Indexed) {
+			if (!(b instanceof Indexed)) return false;
+			Indexed x = (Indexed)a;
+			Indexed y = (Indexed)b;
+			if (x.hash != y.hash || x.head != y.head || x.nums.size() != y.nums.size()) return false;
+			for (int i = 0; i < x.nums.size(); i++) {
+				if (x.nums.get(i) != y.nums.get(i)) return false;
+			}
+			return true;
+		} else if (a instanceof Qualified) {
+			if (!(b instanceof Qualified)) return false;
+			Qualified x = (Qualified)a;
+			Qualified y = (Qualified)b;
+			return x.hash == y.hash && x.head == y.head && x.qualifier.equals(y.qualifier);
+		} else if (a instanceof Symbol) {
+			return b instanceof Symbol && a.toString().equals(b.toString());
+		} else if (a instanceof INumeral) {
+			return b instanceof INumeral && ((INumeral)a).value().equals(((INumeral)b).value());
+		} else if (a instanceof IDecimal) {
+			return b instanceof IDecimal && ((IDecimal)a).value().equals(((IDecimal)b).value());
+		} else if (a instanceof IStringLiteral) {
+			return b instanceof IStringLiteral && ((IStringLiteral)a).value().equals(((IStringLiteral)b).value());
+		} else if (a instanceof IBinaryLiteral) {
+			return b instanceof IBinaryLiteral && ((IBinaryLiteral)a).value().equals(((IBinaryLiteral)b).value());
+		} else if (a instanceof IHexLiteral) {
+			return b instanceof IHexLiteral && ((IHexLiteral)a).value().equals(((IHexLiteral)b).value());
+		}
+		return false;
+	}
+
+	/** An entry of the intern table, which refers to its term weakly */
+	static protected class Entry extends WeakReference<IExpr> {
+		final protected int hash;
+		protected /*@Nullable*/ Entry next;
+		/** The generation of the command in which the term last occurred */
+		protected int generation;
+
+		protected Entry(IExpr e, int hash, /*@Nullable*/ Entry next, ReferenceQueue<IExpr> queue, int generation) {
+			super(e,queue);
+			this.hash = hash;
+			this.next = next;
+			this.generation = generation;
+		}
+	}
+
+	/** A part of the intern table, with its own lock (the segment itself) */
+	static protected class Segment {
+		protected Entry[] buckets = new Entry[64];
+		protected int count = 0;
+		/** The entries whose terms have been collected, to be removed */
+		final protected ReferenceQueue<IExpr> queue = new ReferenceQueue<IExpr>();
+	}
+
+	/** Returns the term in the table that is the same as (cf. same()) the given one, adding the given
+	 * term (or, if copy is true, a copy of it) if there is none. If the term has not yet occurred in the
+	 * current command, its position is reset: to that of e if copy is true (e is a token of the input),
+	 * and otherwise to none, for the parser to set
+	 * @param e the term to look up
+	 * @param hash the value of hash(e)
+	 * @param copy whether to add a copy of e (cf. copy()) rather than e itself
+	 */
+	protected IExpr intern(IExpr e, int hash, boolean copy) {
+		int h = hash * 0x9E3779B9;
+		h ^= h >>> 16;
+		Segment seg = segments[h >>> (32-4) & (SEGMENTS-1)];
+		synchronized (seg) {
+			expunge(seg);
+			Entry[] buckets = seg.buckets;
+			int i = h & (buckets.length-1);
+			for (Entry en = buckets[i]; en != null; en = en.next) {
+				if (en.hash != hash) continue;
+				IExpr found = en.get();
+				if (found != null && same(found,e)) {
+					if (en.generation != generation) {
+						en.generation = generation;
+						found.setPos(null);
+						if (copy) found.setPos(e.pos());
+					}
+					return found;
+				}
+			}
+			IExpr added = e;
+			if (copy) {
+				added = copy(e);
+				added.setPos(e.pos());
+			}
+			buckets[i] = new Entry(added,hash,buckets[i],seg.queue,generation);
+			if (++seg.count > buckets.length - (buckets.length >>> 2)) resize(seg);
+			return added;
+		}
+	}
+
+	/** Removes the entries of the segment whose terms have been collected; the caller holds the segment's lock */
+	static protected void expunge(Segment seg) {
+		Object r;
+		while ((r = seg.queue.poll()) != null) {
+			Entry dead = (Entry)r;
+			int h = dead.hash * 0x9E3779B9;
+			h ^= h >>> 16;
+			int i = h & (seg.buckets.length-1);
+			Entry prev = null;
+			for (Entry en = seg.buckets[i]; en != null; prev = en, en = en.next) {
+				if (en == dead) {
+					if (prev == null) seg.buckets[i] = en.next;
+					else prev.next = en.next;
+					--seg.count;
+					break;
+				}
+			}
+		}
+	}
+
+	/** Doubles the number of buckets of the segment; the caller holds the segment's lock */
+	static protected void resize(Segment seg) {
+		Entry[] old = seg.buckets;
+		Entry[] buckets = new Entry[old.length*2];
+		for (Entry en: old) {
+			while (en != null) {
+				Entry next = en.next;
+				int h = en.hash * 0x9E3779B9;
+				h ^= h >>> 16;
+				int i = h & (buckets.length-1);
+				en.next = buckets[i];
+				buckets[i] = en;
+				en = next;
+			}
+		}
+		seg.buckets = buckets;
+	}
+
+	/** The number of terms in the intern table (including any that have been collected but not yet removed) */
+	public int size() {
+		int n = 0;
+		for (Segment seg: segments) {
+			synchronized (seg) {
+				expunge(seg);
+				n += seg.count;
+			}
+		}
+		return n;
+	}
+}
@@ -40,15 +40,62 @@ public class Pos implements IPos {
 	/** The source of text */
 	@Override
 	public /*@Nullable*/ISource source() { return source; }
+	
+	/** Replaces the source of this position by a copy of just the text it covers (from the beginning
+	 * of its first line), keeping the same line numbers, so that the position can still be reported
+	 * after its original source has discarded that text (cf. CharSequenceInfinite.discard).
+	 */
+	public void detach() {
+		if (!(source instanceof Source)) return;
+		Source src = (Source)source;
+		if (charStart < src.floor() || charEnd < charStart) return;
+		int b = src.lineBeginning(charStart);
+		Source copy = new Source(src.chars().subSequence(b,charEnd).toString(), src.location());
+		copy.lineOffset = src.lineNumber(b) - 1;
+		charStart -= b;
+		charEnd -= b;
+		source = copy;
+	}
+
+	/** The value of a packed range of characters (see span()) that stands for no position at all */
+	static final public long NOPOS = Long.MIN_VALUE;
+	
+	/** Packs a range of characters into a long: the start in the high 32 bits and the end in the low 32 bits */
+	static public long span(int start, int end) { return ((long)start << 32) | (end & 0xFFFFFFFFL); }
+	
+	/** The start of a range of characters packed by span() */
+	static public int charStart(long span) { return (int)(span >> 32); }
+	
+	/** The end of a range of characters packed by span() */
+	static public int charEnd(long span) { return (int)span; }
 
-	/** An implementation of IPosable, holding an instance of Pos,
-	 *  that can be used as a base class if necessary */
+	/** An implementation of IPosable that can be used as a base class if necessary; rather than an
+	 * instance of Pos, it holds the range of characters packed into a long (see span()) along with
+	 * the source, and creates a Pos only when pos() is called */
 	public static class Posable implements IPosable {
-		protected /*@Nullable*/ IPos pos;
+		/** The range of characters, packed by span(), or NOPOS */
+		protected long span = NOPOS;
+		/** The source of text */
+		protected /*@Nullable*/ ISource source;
 		@Override
-		public IPos pos() { return pos; }
+		public /*@Nullable*/ IPos pos() { return span == NOPOS ? null : new Pos(Pos.charStart(span),Pos.charEnd(span),source); }
 		@Override
-		public void setPos(IPos pos) { this.pos = pos; }
+		public void setPos(/*@Nullable*/ IPos pos) {
+			if (pos == null) {
+				span = NOPOS;
+				source = null;
+			} else {
+				span = span(pos.charStart(),pos.charEnd());
+				source = pos.source();
+			}
+		}
+		/** Sets the position without creating an IPos */
+		public void setPos(int start, int end, /*@Nullable*/ ISource source) {
+			this.span = span(start,end);
+			this.source = source;
+		}
+		/** The end of the range of characters, or -1 if there is no position */
+		public int charEnd() { return span == NOPOS ? -1 : Pos.charEnd(span); }
 	}
 	
 	/** An implementation of the ISource interface */
@@ -57,6 +104,23 @@ public class Pos implements IPos {
 		
 		/** The sequence of characters */
 		private CharSequence chars;
+		
+		/** The number of lines that precede this source's text (e.g. in the text it was copied from) */
+		protected int lineOffset = 0;
+		
+		/** The beginnings of lines (positions just after a line termination), in increasing order, as
+		 * far as the text has been indexed; built lazily, as line numbers and beginnings are asked for */
+		private int[] lineStarts = null;
+		/** The number of entries of lineStarts that are in use */
+		private int lineCount = 0;
+		/** The position up to which the text has been scanned for line terminations */
+		private int indexed = 0;
+		
+		/** The index of the first character that can still be read: nonzero if the characters are a
+		 * sliding window that has discarded some text (cf. CharSequenceInfinite.discard) */
+		public int floor() {
+			return chars instanceof CharSequenceInfinite ? ((CharSequenceInfinite)chars).discarded() : 0;
+		}
 		/** The sequence of characters */
 		@Override
 		public CharSequence chars() { return chars; }
@@ -76,12 +140,17 @@ public class Pos implements IPos {
 			this.location = location;
 		}
 
-		/** Creates a Source from a File; for these objects, the location is the file path (a String)
+		/** Creates a Source from a File; for these objects, the location is the file path (a String);
+		 * the file is memory-mapped (see CharSequenceMapped) if it is ASCII, and otherwise read as needed
 		 * @param smtConfig the SMT Configuration object
 		 * @param f the File object from which to read characters
 		 * @throws java.io.FileNotFoundException if a problem occurred opening or reading the file
 		 */
 		public Source(SMT.Configuration smtConfig, java.io.File f) throws java.io.FileNotFoundException {
+			this.location = f.getPath();
+			// An ASCII file is mapped into memory rather than read and copied
+			chars = CharSequenceMapped.map(f);
+			if (chars != null) return;
 			rdr = new FileReader(f);
 			// The numbers in the next call are not magic - they just double the buffer by a factor of 2 if it is not large enough
 			CharSequenceReader csr = new CharSequenceReader(rdr,smtConfig.initialInputBufferSize,0,2);
@@ -107,7 +176,7 @@ public class Pos implements IPos {
 		@Override
 		public void close() {
 			try {
-				rdr.close();
+				if (rdr != null) rdr.close();
 			} catch (IOException e) {}
 		}
 		
@@ -118,18 +187,25 @@ public class Pos implements IPos {
 		
 		@Override
 		public int lineBeginning(int pos) {
+			int floor = trimIndex();
+			if (pos < floor) return pos; // The text has been discarded
 			int p = pos;
 			if (p >= chars().length()) p = chars().length()-1; // If the length is indeterminate, length() should be INT_MAX
-			if (p > 0 && charAt(p) == '\n' && charAt(p-1) == '\r') --p;
-			char c;
-			while (p >= 0 && (c=charAt(p)) != '\n' && c != '\r') --p;
-			return p+1;
+			if (p < floor) return floor;
+			// A line termination character is taken to begin the following line, except the \n of a \r\n
+			char c = charAt(p);
+			if (c == '\n' && p > floor && charAt(p-1) == '\r') return p;
+			if (c == '\n' || c == '\r') return p+1;
+			index(p);
+			int k = linesBefore(p);
+			return k == 0 ? floor : lineStarts[k-1];
 		}
 		
 		private final static String eol = System.getProperty("line.separator");
 		
 		@Override
 		public String textLine(int pos) {
+			if (pos < floor()) return eol; // The text has been discarded
 			int b = lineBeginning(pos);
 			int e = nextLineTermination(pos);
 			String s = chars.subSequence(b,e+1).toString();
@@ -144,28 +220,90 @@ public class Pos implements IPos {
 		protected int nextLineTermination(int pos) {
 			char c;
 			if (pos >= chars().length()) return chars().length()-1; // If the length is indeterminate, length() should be INT_MAX
-			while ((c=charAt(pos)) != '\n' && c != '\r' && c != CharSequenceInfinite.endChar) ++pos;
-			if (c == '\r' && charAt(pos+1) == '\n') ++pos;
+			while ((c=charAt(pos)) != '\n' && c != '\r' && c != CharSequenceInfinite.endChar) {
+				// A source (e.g. a single command) need not end with a line termination
+				if (++pos >= chars().length()) return pos-1;
+			}
+			if (c == '\r' && pos+1 < chars().length() && charAt(pos+1) == '\n') ++pos;
 			else if (c == CharSequenceInfinite.endChar) --pos;
 			return pos;
 		}
 		
-		// Note: this counts lines from the beginning of the character sequence, calling charAt at each
-		// character position; this is not very efficient; the presumption is that this method is called
-		// just for the occasional error message.
+		// Note: line numbers are found by a binary search of the beginnings of the lines, which are
+		// found (by scanning the text) only as far as line numbers have been asked for. Lines in text
+		// that has been discarded are counted as they are discarded; a discarded position is reported
+		// as being on the first line still held.
 		@Override
 		public int lineNumber(int pos) {
-			int line = 1;
-			char c;
-			for (int i=0; i<pos; i++) {
-				c = charAt(i);
-				if (c == '\n') line++;
-				else if (c == '\r') {
-					line++;
-					if (charAt(i+1) == '\n') i++;
+			int floor = trimIndex();
+			int line = 1 + lineOffset;
+			if (chars instanceof CharSequenceInfinite) line += ((CharSequenceInfinite)chars).discardedLines();
+			if (pos <= floor) return line;
+			index(pos);
+			line += linesBefore(pos);
+			// The \n of a \r\n counts as being on the following line
+			if (pos < chars().length() && charAt(pos) == '\n' && charAt(pos-1) == '\r') line++;
+			return line;
+		}
+		
+		/** The column (0-based) of the given character position within its line */
+		public int column(int pos) {
+			return pos - lineBeginning(pos);
+		}
+		
+		/** Discards the beginnings of lines that are no longer held by a sliding window (cf.
+		 * CharSequenceInfinite.discard), returning the position of the first character still held */
+		protected int trimIndex() {
+			int floor = floor();
+			if (indexed < floor) {
+				lineCount = 0;
+				indexed = floor;
+			} else if (lineCount > 0 && lineStarts[0] <= floor) {
+				int k = linesBefore(floor);
+				System.arraycopy(lineStarts,k,lineStarts,0,lineCount-k);
+				lineCount -= k;
+			}
+			return floor;
+		}
+		
+		/** Records the beginnings of all the lines that begin at or before the given position */
+		protected void index(int pos) {
+			if (lineStarts == null) lineStarts = new int[64];
+			int i = indexed;
+			int n = chars().length();
+			while (i < pos && i < n) {
+				char c = charAt(i);
+				int start = -1;
+				if (c == '\n') {
+					start = i+1;
+				} else if (c == '\r') {
+					if (i+1 < n && charAt(i+1) == '\n') {
+						if (i+1 >= pos) break; // The line begins after pos
+						start = i+2;
+						++i;
+					} else {
+						start = i+1;
+					}
 				}
+				if (start >= 0) {
+					if (lineCount == lineStarts.length) lineStarts = java.util.Arrays.copyOf(lineStarts,2*lineCount);
+					lineStarts[lineCount++] = start;
+				}
+				++i;
 			}
-			return line;
+			if (i > indexed) indexed = i;
+		}
+		
+		/** The number of recorded line beginnings at or before the given position */
+		protected int linesBefore(int pos) {
+			int lo = 0;
+			int hi = lineCount;
+			while (lo < hi) {
+				int mid = (lo + hi) >>> 1;
+				if (lineStarts[mid] <= pos) lo = mid + 1;
+				else hi = mid;
+			}
+			return lo;
 		}
 	}
 }
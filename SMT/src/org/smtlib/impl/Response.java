@@ -155,6 +155,10 @@ public class Response {
 		
 		private String msg;
 		
+		/** The position of the error; the IPos object itself is kept (rather than packed as Posable
+		 * does), since it may be a command's position that is detached from its source later (cf. Pos.detach) */
+		private /*@Nullable*/ IPos pos;
+		
 		public Error(String errorMsg) {
 			this(errorMsg,null);
 		}
@@ -163,6 +167,12 @@ public class Response {
 			this.pos = pos;
 			this.msg = errorMsg;
 		}
+		
+		@Override
+		public /*@Nullable*/ IPos pos() { return pos; }
+		
+		@Override
+		public void setPos(/*@Nullable*/ IPos pos) { this.pos = pos; }
 
 		@Override
 		public boolean isOK() {
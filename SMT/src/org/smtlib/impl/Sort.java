@@ -5,6 +5,7 @@
  */
 package org.smtlib.impl;
 
+import java.lang.ref.WeakReference;
 import java.util.*;
 
 import org.smtlib.IExpr.IIdentifier;
@@ -38,10 +39,22 @@ public abstract class Sort extends Pos.Posable implements ISort {
 	/** A cached instance of the pre-defined Bool sort */
 	static final private Sort.Application Bool = new Sort.Application(new Symbol(BOOL), new LinkedList<ISort>());
 
+	/** Returns true if the given sort is in canonical form, as produced by expand() */
+	static private boolean isCanonical(ISort s) {
+		return s instanceof Application ? ((Application)s).canonical == s : s.expand() == s;
+	}
+
 	/** Represents a new sort symbol, with a given identifier and arity */
 	static public class Family implements IFamily {
 		private IIdentifier identifier;
 		private INumeral arity;
+		
+		/** The canonical applications of this sort symbol, keyed by their (canonical) arguments;
+		 * as a sort symbol belongs to the symbol table scope that defines it, so do these. 
+		 * The applications are held weakly, so ones no longer in use are discarded. */
+		private final Map<List<ISort>,WeakReference<Application>> applications = 
+				new WeakHashMap<List<ISort>,WeakReference<Application>>();
+		
 		public Family(IIdentifier identifier, INumeral arity) {
 			this.identifier = identifier;
 			this.arity = arity;
@@ -60,9 +73,31 @@ public abstract class Sort extends Pos.Posable implements ISort {
 			if (sorts.size() != arity().intValue()) {
 				throw new SMT.InternalException("Incorrect number of arguments: " + sorts.size() + "vs. " +  arity().intValue());
 			}
-			Application e = new Application(this.identifier(),sorts);
-			e.definition(this);
-			return e;
+			for (ISort s: sorts) {
+				if (!isCanonical(s)) {
+					Application e = new Application(this.identifier(),sorts);
+					e.definition(this);
+					return e;
+				}
+			}
+			return intern(sorts);
+		}
+		
+		/** Returns the canonical application of this sort symbol to the given canonical 
+		 * (fully expanded) sorts, creating it if there is none yet */
+		protected Application intern(List<ISort> sorts) {
+			synchronized (applications) {
+				WeakReference<Application> ref = applications.get(sorts);
+				Application e = ref == null ? null : ref.get();
+				if (e == null || e.canonical != e) {
+					e = new Application(this.identifier(),new ArrayList<ISort>(sorts));
+					e.definition(this);
+					e.canonical = e;
+					// The key is the application's own list, so the entry lasts as long as the application
+					applications.put(e.sortParameters, new WeakReference<Application>(e));
+				}
+				return e;
+			}
 		}
 
 		@Override
@@ -176,8 +211,12 @@ public abstract class Sort extends Pos.Posable implements ISort {
 		/** Reference to definition; filled in during type-checking */
 		private ISort.IDefinition definition;  
 		
-		/** Cached value for expanded() */
-		private ISort expanded = null;
+		/** Cached value for expand(): the canonical, fully expanded form of this sort, 
+		 * valid for the current definition */
+		private /*@Nullable*/ ISort canonical = null;
+		
+		/** Cached value for hashCode(), or 0 if not yet computed */
+		private int hash = 0;
 		
 		public Application(IIdentifier sortID, List<ISort> sortParameters) {
 			this.sortID = sortID;
@@ -203,29 +242,50 @@ public abstract class Sort extends Pos.Posable implements ISort {
 		
 		@Override
 		public IDefinition definition(IDefinition definition) {
+			if (this.definition != definition) {
+				canonical = null;
+				hash = 0;
+			}
 			this.definition = definition;
 			return definition;
 		}
 		
+		/** Returns the canonical form of this sort: abbreviations are expanded throughout and 
+		 * applications of sort symbols are interned, so two canonical sorts from the same 
+		 * definitions are equal only if they are the same object. The result is computed once 
+		 * per definition; a sort whose definition is not yet known is its own expansion.
+		 */
 		@Override
 		public ISort expand() {
-			// Note we could call definition().eval(sortParameters) always, but that 
-			// creates a duplicate object in Family.eval
-			
-			if (expanded == null) {
-				boolean changed = false;
-				ISort ss = this;
-				for (ISort param: parameters()) {
-					ISort p = param.expand();
-					if (p != param) changed = true;
-				}
-				while (ss instanceof Application) {
-					if (((Application)ss).definition() instanceof IFamily) return ss;
-					ss = definition().eval(sortParameters);
+			ISort c = canonical;
+			if (c == null) {
+				IDefinition def = definition;
+				if (def == null) return this;
+				if (def instanceof IFamily) {
+					List<ISort> params = new ArrayList<ISort>(sortParameters.size());
+					boolean changed = false;
+					boolean intern = def instanceof Family;
+					for (ISort param: sortParameters) {
+						ISort p = param.expand();
+						if (p != param) changed = true;
+						if (!isCanonical(p)) intern = false;
+						params.add(p);
+					}
+					if (intern) {
+						c = ((Family)def).intern(params);
+					} else if (changed) {
+						Application e = new Application(sortID,params);
+						e.definition(def);
+						c = e;
+					} else {
+						c = this;
+					}
+				} else {
+					c = def.eval(sortParameters).expand();
 				}
-				expanded = ss;
+				canonical = c;
 			}
-			return expanded;
+			return c;
 		}
 		
 // TODO _ review all the equals implementations
@@ -233,7 +293,15 @@ public abstract class Sort extends Pos.Posable implements ISort {
 		public boolean equals(Object sort) {
 			if (this == sort) return true;
 			if (!(sort instanceof ISort)) return false;
-			return expand().equalsNoExpand( ((ISort)sort).expand());
+			ISort ethis = expand();
+			ISort esort = ((ISort)sort).expand();
+			if (ethis == esort) return true;
+			// Distinct canonical applications of the same sort symbol are different sorts
+			if (ethis instanceof Application && esort instanceof Application
+					&& ((Application)ethis).canonical == ethis && ((Application)esort).canonical == esort
+					&& ((Application)ethis).definition instanceof Family
+					&& ((Application)ethis).definition == ((Application)esort).definition) return false;
+			return ethis.equalsNoExpand(esort);
 //			Object esort = sort;
 //			if (sort instanceof IApplication) {
 //				IApplication e = (IApplication)sort;
@@ -324,11 +392,18 @@ public abstract class Sort extends Pos.Posable implements ISort {
 
 		@Override
 		public int hashCode() {
-			int hash = sortID.hashCode();
-			for (ISort s: sortParameters) {
-				hash += s.hashCode();
+			// Consistent with equals: equal sorts have the same canonical form
+			ISort c = expand();
+			if (c != this) return c.hashCode();
+			int h = hash;
+			if (h == 0) {
+				h = sortID.hashCode();
+				for (ISort s: sortParameters) {
+					h += s.hashCode();
+				}
+				hash = h;
 			}
-			return hash;
+			return h;
 		}
 		
 		@Override
@@ -1,5 +1,6 @@
 package org.smtlib.logic;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 
@@ -62,31 +63,29 @@ public abstract class Logic extends SMTExpr.Logic implements ILanguage {
 	
 	public boolean isLinearInteger(IExpr expr) {
 		// FIXME - should use a visitor; does not check inside quantified expressions
-		if (expr instanceof IExpr.IFcnExpr) {
+		// The subexpressions still to check are kept on an explicit stack rather than
+		// checked by recursive calls, so deeply nested expressions do not exhaust the Java stack
+		List<IExpr> todo = new ArrayList<IExpr>();
+		todo.add(expr);
+		while (!todo.isEmpty()) {
+			expr = todo.remove(todo.size()-1);
+			if (!(expr instanceof IExpr.IFcnExpr)) continue;
 			IExpr.IFcnExpr f = (IExpr.IFcnExpr)expr;
 			if (f.args().size() == 2) {
 				String fcn = f.head().toString();
 				IExpr lhs = f.args().get(0);
 				IExpr rhs = f.args().get(1);
-				if (fcn.equals("+") || fcn.equals("-")) {
-					return isLinearInteger(lhs) && isLinearInteger(rhs);
-				} else if (fcn.equals("*")) {
-					return (isInteger(lhs) && isFreeConstant(rhs)) ||
-							(isFreeConstant(lhs) && isInteger(rhs));
+				if (fcn.equals("*")) {
+					if (!((isInteger(lhs) && isFreeConstant(rhs)) ||
+							(isFreeConstant(lhs) && isInteger(rhs)))) return false;
+					continue;
 				} else if (fcn.equals("div") || fcn.equals("mod") || fcn.equals("abs")) {
 					return false;
-				} else { // Core functions
-					return isLinearInteger(lhs) && isLinearInteger(rhs);
 				}
-			} else {
-				int n = f.args().size();
-				for (IExpr e: f.args()) {
-					if (!isLinearInteger(e)) return false;
-				}
-				return true;
+				// + - and the core functions: both arguments must be linear
 			}
-		} else {
-			return true;
+			todo.addAll(f.args());
 		}
+		return true;
 	}
 }
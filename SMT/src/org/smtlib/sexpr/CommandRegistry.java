@@ -0,0 +1,284 @@
+/*
+ * This file is part of the SMT project.
+ * Copyright 2010 David R. Cok
+ * Created August 2010
+ */
+package org.smtlib.sexpr;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.smtlib.ICommand;
+import org.smtlib.SMT;
+import org.smtlib.impl.Command;
+
+/** Maps command names to the functions that parse those commands, so that the parser need not find
+ * the class implementing a command, and its parse method, by reflection each time the command is
+ * used. The commands of this package's standard prefixes (org.smtlib.command.C_ and
+ * org.smtlib.ext.C_) are called directly; a command found in some other way (in the configuration's
+ * commands map, under another prefix, or by a replacement commandFinder) is looked up by reflection
+ * once and then called through the Method found. A name that is not a command is remembered too.
+ * <P>
+ * Names are resolved as the configuration's default commandFinder does (see
+ * SMT.Configuration.commandFinder), and then, if relax is true, by the IProvider implementations that
+ * java.util.ServiceLoader finds. Because results are remembered, clear() should be called after
+ * the commands map or commandExtensionPrefixes is changed.
+ */
+public class CommandRegistry {
+
+	/** A function that parses a command, given a parser positioned just after the command name;
+	 * it behaves as the static parse(Parser) method of a command class does */
+	public static interface IParse {
+		/** Parses the command, returning null (having logged an error) if parsing fails */
+		/*@Nullable*/ Command parse(Parser p) throws Exception;
+	}
+
+	/** An extension that supplies commands; implementations are found with java.util.ServiceLoader
+	 * (listed in META-INF/services/org.smtlib.sexpr.CommandRegistry$IProvider) and are used, when
+	 * relax is true, for command names not otherwise found */
+	public static interface IProvider {
+		/** The parse functions of the commands this provider supplies, by command name */
+		Map<String,IParse> commands();
+	}
+
+	/** The parse functions of the built-in commands, by the name of the class implementing the command */
+	static final protected Map<String,IParse> builtins = new HashMap<String,IParse>();
+
+	static protected void builtin(IParse f, String className) {
+		builtins.put(className,f);
+	}
+
+	static {
+		builtin(new IParse() {
+			@Override
+			public /*@Nullable*/ Command parse(Parser p) throws Exception { return org.smtlib.command.C_assert.parse(p); }
+		}, "org.smtlib.command.C_assert");
+		builtin(new IParse() {
+			@Override
+			public /*@Nullable*/ Command parse(Parser p) throws Exception { return org.smtlib.command.C_check_sat.parse(p); }
+		}, "org.smtlib.command.C_check_sat");
+		builtin(new IParse() {
+			@Override
+			public /*@Nullable*/ Command parse(Parser p) throws Exception { return org.smtlib.command.C_check_sat_assuming.parse(p); }
+		}, "org.smtlib.command.C_check_sat_assuming");
+		builtin(new IParse() {
+			@Override
+			public /*@Nullable*/ Command parse(Parser p) throws Exception { return org.smtlib.command.C_declare_const.parse(p); }
+		}, "org.smtlib.command.C_declare_const");
+		builtin(new IParse() {
+			@Override
+			public /*@Nullable*/ Command parse(Parser p) throws Exception { return org.smtlib.command.C_declare_fun.parse(p); }
+		}, "org.smtlib.command.C_declare_fun");
+		builtin(new IParse() {
+			@Override
+			public /*@Nullable*/ Command parse(Parser p) throws Exception { return org.smtlib.command.C_declare_sort.parse(p); }
+		}, "org.smtlib.command.C_declare_sort");
+		builtin(new IParse() {
+			@Override
+			public /*@Nullable*/ Command parse(Parser p) throws Exception { return org.smtlib.command.C_define_fun.parse(p); }
+		}, "org.smtlib.command.C_define_fun");
+		builtin(new IParse() {
+			@Override
+			public /*@Nullable*/ Command parse(Parser p) throws Exception { return org.smtlib.command.C_define_sort.parse(p); }
+		}, "org.smtlib.command.C_define_sort");
+		builtin(new IParse() {
+			@Override
+			public /*@Nullable*/ Command parse(Parser p) throws Exception { return org.smtlib.command.C_echo.parse(p); }
+		}, "org.smtlib.command.C_echo");
+		builtin(new IParse() {
+			@Override
+			public /*@Nullable*/ Command parse(Parser p) throws Exception { return org.smtlib.command.C_exit.parse(p); }
+		}, "org.smtlib.command.C_exit");
+		builtin(new IParse() {
+			@Override
+			public /*@Nullable*/ Command parse(Parser p) throws Exception { return org.smtlib.command.C_get_assertions.parse(p); }
+		}, "org.smtlib.command.C_get_assertions");
+		builtin(new IParse() {
+			@Override
+			public /*@Nullable*/ Command parse(Parser p) throws Exception { return org.smtlib.command.C_get_assignment.parse(p); }
+		}, "org.smtlib.command.C_get_assignment");
+		builtin(new IParse() {
+			@Override
+			public /*@Nullable*/ Command parse(Parser p) throws Exception { return org.smtlib.command.C_get_info.parse(p); }
+		}, "org.smtlib.command.C_get_info");
+		builtin(new IParse() {
+			@Override
+			public /*@Nullable*/ Command parse(Parser p) throws Exception { return org.smtlib.command.C_get_model.parse(p); }
+		}, "org.smtlib.command.C_get_model");
+		builtin(new IParse() {
+			@Override
+			public /*@Nullable*/ Command parse(Parser p) throws Exception { return org.smtlib.command.C_get_option.parse(p); }
+		}, "org.smtlib.command.C_get_option");
+		builtin(new IParse() {
+			@Override
+			public /*@Nullable*/ Command parse(Parser p) throws Exception { return org.smtlib.command.C_get_proof.parse(p); }
+		}, "org.smtlib.command.C_get_proof");
+		builtin(new IParse() {
+			@Override
+			public /*@Nullable*/ Command parse(Parser p) throws Exception { return org.smtlib.command.C_get_unsat_core.parse(p); }
+		}, "org.smtlib.command.C_get_unsat_core");
+		builtin(new IParse() {
+			@Override
+			public /*@Nullable*/ Command parse(Parser p) throws Exception { return org.smtlib.command.C_get_value.parse(p); }
+		}, "org.smtlib.command.C_get_value");
+		builtin(new IParse() {
+			@Override
+			public /*@Nullable*/ Command parse(Parser p) throws Exception { return org.smtlib.command.C_pop.parse(p); }
+		}, "org.smtlib.command.C_pop");
+		builtin(new IParse() {
+			@Override
+			public /*@Nullable*/ Command parse(Parser p) throws Exception { return org.smtlib.command.C_push.parse(p); }
+		}, "org.smtlib.command.C_push");
+		builtin(new IParse() {
+			@Override
+			public /*@Nullable*/ Command parse(Parser p) throws Exception { return org.smtlib.command.C_reset.parse(p); }
+		}, "org.smtlib.command.C_reset");
+		builtin(new IParse() {
+			@Override
+			public /*@Nullable*/ Command parse(Parser p) throws Exception { return org.smtlib.command.C_reset_assertions.parse(p); }
+		}, "org.smtlib.command.C_reset_assertions");
+		builtin(new IParse() {
+			@Override
+			public /*@Nullable*/ Command parse(Parser p) throws Exception { return org.smtlib.command.C_set_info.parse(p); }
+		}, "org.smtlib.command.C_set_info");
+		builtin(new IParse() {
+			@Override
+			public /*@Nullable*/ Command parse(Parser p) throws Exception { return org.smtlib.command.C_set_logic.parse(p); }
+		}, "org.smtlib.command.C_set_logic");
+		builtin(new IParse() {
+			@Override
+			public /*@Nullable*/ Command parse(Parser p) throws Exception { return org.smtlib.command.C_set_option.parse(p); }
+		}, "org.smtlib.command.C_set_option");
+		builtin(new IParse() {
+			@Override
+			public /*@Nullable*/ Command parse(Parser p) throws Exception { return org.smtlib.ext.C_exec.parse(p); }
+		}, "org.smtlib.ext.C_exec");
+		builtin(new IParse() {
+			@Override
+			public /*@Nullable*/ Command parse(Parser p) throws Exception { return org.smtlib.ext.C_get_model.parse(p); }
+		}, "org.smtlib.ext.C_get_model");
+		builtin(new IParse() {
+			@Override
+			public /*@Nullable*/ Command parse(Parser p) throws Exception { return org.smtlib.ext.C_what.parse(p); }
+		}, "org.smtlib.ext.C_what");
+	}
+
+	/** The commands supplied by IProvider extensions, by command name; loaded when first needed */
+	static private /*@Nullable*/ Map<String,IParse> provided = null;
+
+	/** Returns the commands supplied by IProvider extensions, loading them if necessary; a provider
+	 * that cannot be loaded is skipped */
+	static synchronized protected Map<String,IParse> provided() {
+		if (provided == null) {
+			Map<String,IParse> map = new HashMap<String,IParse>();
+			Iterator<IProvider> iter = ServiceLoader.load(IProvider.class).iterator();
+			while (true) {
+				try {
+					if (!iter.hasNext()) break;
+					Map<String,IParse> commands = iter.next().commands();
+					for (Map.Entry<String,IParse> e: commands.entrySet()) {
+						if (!map.containsKey(e.getKey())) map.put(e.getKey(),e.getValue());
+					}
+				} catch (ServiceConfigurationError e) {
+					// Skip this provider
+				}
+			}
+			provided = map;
+		}
+		return provided;
+	}
+
+	/** Marks a name that is known not to be a command */
+	static final protected IParse NONE = new IParse() {
+		@Override
+		public /*@Nullable*/ Command parse(Parser p) { return null; }
+	};
+
+	/** The parse functions of the names looked up so far (NONE for those that are not commands), when
+	 * relax is false and when it is true */
+	final protected ConcurrentHashMap<String,IParse> strict = new ConcurrentHashMap<String,IParse>();
+	final protected ConcurrentHashMap<String,IParse> relaxed = new ConcurrentHashMap<String,IParse>();
+
+	/** Returns the function that parses the named command, or null if there is no such command */
+	public /*@Nullable*/ IParse find(SMT.Configuration smtConfig, String name) {
+		ICommand.IFinder finder = smtConfig.commandFinder;
+		if (finder != null && finder.getClass() != SMT.Configuration.CommandFinder.class) {
+			// A replacement finder is asked each time, since its answers might change
+			Class<? extends ICommand> clazz = finder.findCommand(name);
+			return clazz == null ? null : parseFunction(clazz);
+		}
+		ConcurrentHashMap<String,IParse> known = smtConfig.relax ? relaxed : strict;
+		IParse f = known.get(name);
+		if (f == null) {
+			f = resolve(smtConfig,name);
+			known.put(name, f == null ? NONE : f);
+		}
+		return f == NONE ? null : f;
+	}
+
+	/** Forgets all the names looked up so far */
+	public void clear() {
+		strict.clear();
+		relaxed.clear();
+	}
+
+	/** Finds the parse function of the named command as the default commandFinder would, and then
+	 * among the commands of IProvider extensions; returns null if there is none */
+	protected /*@Nullable*/ IParse resolve(SMT.Configuration smtConfig, String name) {
+		if (smtConfig.relax) {
+			Class<? extends ICommand> clazz = smtConfig.commands.get(name);
+			if (clazz != null) return parseFunction(clazz);
+		}
+		String[] prefixes = smtConfig.commandExtensionPrefixes;
+		int n = smtConfig.relax ? prefixes.length : 1;
+		for (int i = 0; i < n; i++) {
+			String className = prefixes[i] + name.replace('-','_');
+			IParse f = builtins.get(className);
+			if (f != null) return f;
+			try {
+				Class<?> clazz = Class.forName(className);
+				if (!ICommand.class.isAssignableFrom(clazz)) continue;
+				return parseFunction(clazz);
+			} catch (ClassNotFoundException e) {
+				continue;
+			}
+		}
+		if (smtConfig.relax) return provided().get(name);
+		return null;
+	}
+
+	/** Returns a function that calls the static parse(Parser) method of the given command class */
+	static protected IParse parseFunction(Class<?> clazz) {
+		IParse f = builtins.get(clazz.getName());
+		if (f != null) return f;
+		final Method m;
+		try {
+			m = clazz.getMethod("parse",Parser.class);
+		} catch (final NoSuchMethodException e) {
+			return new IParse() {
+				@Override
+				public /*@Nullable*/ Command parse(Parser p) throws Exception { throw e; }
+			};
+		}
+		return new IParse() {
+			@Override
+			public /*@Nullable*/ Command parse(Parser p) throws Exception {
+				try {
+					return (Command)m.invoke(null,p);
+				} catch (InvocationTargetException e) {
+					// Report what the parse method threw, as a directly called one would
+					Throwable t = e.getTargetException();
+					if (t instanceof Exception) throw (Exception)t;
+					if (t instanceof Error) throw (Error)t;
+					throw e;
+				}
+			}
+		};
+	}
+}
@@ -0,0 +1,288 @@
+/*
+ * This file is part of the SMT project.
+ * Copyright 2010 David R. Cok
+ * Created August 2010
+ */
+package org.smtlib.sexpr;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+import org.smtlib.CharSequenceInfinite;
+import org.smtlib.IParser.AbortParseException;
+import org.smtlib.IParser.ParserException;
+import org.smtlib.IPos;
+import org.smtlib.ISource;
+import org.smtlib.SMT;
+
+/** A Parser whose lexical scanning is hand-coded: it reads the characters of the source one at a time
+ * and decides on the kind of token from the first character, rather than matching the input against
+ * the combined regular expression of Lexer. It produces the same tokens, with the same positions,
+ * as Lexer does, and it allocates nothing for a token beyond the token itself and its text.
+ * <P>
+ * The one deliberate difference concerns the end-of-input character that CharSequenceInfinite appends
+ * at the end of its input: it ends a comment, numeral or invalid token that precedes it, whereas the
+ * regular expressions would continue to read past it.
+ * Use Factory.Direct to obtain parsers of this kind.
+ */
+public class DirectParser extends Parser {
+
+	/** The position of the next character to be scanned */
+	protected int cp = 0;
+
+	/** The beginning and end of the whitespace and comment text preceding the most recently scanned token */
+	private int prefixStart = 0, prefixEnd = 0;
+
+	/** A buffer in which to accumulate token text */
+	final private StringBuilder text = new StringBuilder();
+
+	/** The character that CharSequenceInfinite appends to mark the end of input */
+	final static private char END = CharSequenceInfinite.endChar;
+
+	/** Creates a parser using an SMT configuration object and a source for
+	 * characters; ordinarily use a factory to obtain a parser.
+	 */
+	public DirectParser(SMT.Configuration smtConfig, ISource src) {
+		super(smtConfig, src);
+	}
+
+	@Override
+	public int currentPos() {
+		return cp;
+	}
+
+	@Override
+	public void abortLine() {
+		int i = cp;
+		char c;
+		while (i < csr.length() && (c=csr.charAt(i)) != '\r' && c != '\n') ++i;
+		cp = i;
+	}
+
+	@Override
+	protected void skipRestOfLine() {
+		while (cp < csr.length() && !isLineTermination(csr.charAt(cp))) ++cp;
+	}
+
+	@Override
+	public /*@Nullable*/ String prefixCommentText() {
+		if (prefixStart == prefixEnd) return null;
+		String s = text(prefixStart,prefixEnd);
+		if (s.startsWith("\n")) s = s.substring(1);
+		else if (s.startsWith("\r\n")) s = s.substring(2);
+		return s;
+	}
+
+	/** Returns the text between the given positions of the input */
+	protected String text(int start, int end) {
+		text.setLength(0);
+		text.append(csr,start,end);
+		return text.toString();
+	}
+
+	/** True for the characters that Lexer treats as whitespace (\p{Space}) */
+	static protected boolean isWhiteSpace(char c) {
+		return c == ' ' || c == '\n' || c == '\r' || c == '\t' || c == '\f' || c == '\u000B';
+	}
+
+	/** True for the characters that end a comment (those that . does not match) */
+	static protected boolean isLineTermination(char c) {
+		return c == '\n' || c == '\r' || c == '\u0085' || c == (char)0x2028 || c == (char)0x2029;
+	}
+
+	/** True for the characters that may appear in a simple symbol or keyword, other than the first */
+	static protected boolean isSymbolChar(char c) {
+		return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || isSymbolPunctuation(c);
+	}
+
+	/** True for the non-alphanumeric characters that may appear in a simple symbol */
+	static protected boolean isSymbolPunctuation(char c) {
+		switch (c) {
+			case '_': case '~': case '!': case '@': case '$': case '%': case '^': case '&': case '*':
+			case '+': case '=': case '<': case '>': case '.': case '?': case '/': case '-':
+				return true;
+			default:
+				return false;
+		}
+	}
+
+	/** True for the characters that may appear within a bar-enclosed symbol */
+	static protected boolean isQuotedSymbolChar(char c) {
+		if (isSymbolChar(c)) return true;
+		switch (c) {
+			case '"': case '\'': case '(': case ')': case ',': case ':': case ';': case '{': case '}':
+			case '#': case '`': case '[': case ']': case ' ': case '\t': case '\r': case '\n':
+				return true;
+			default:
+				return false;
+		}
+	}
+
+	static protected boolean isDigit(char c) {
+		return c >= '0' && c <= '9';
+	}
+
+	/** True if the given position is the end-of-input character at the end of the input */
+	protected boolean isEnd(int p, char c) {
+		return c == END && p+1 >= csr.length();
+	}
+
+	/** True if a numeric literal may end just before the given position: that is, it is followed by
+	 * whitespace, a parenthesis, a comment or the end of input */
+	protected boolean atTrailer(int p) {
+		if (p >= csr.length()) return true;
+		char c = csr.charAt(p);
+		if (isWhiteSpace(c) || c == '(' || c == ')' || c == ';') return true;
+		if (isEnd(p,c)) return true;
+		// The regular expression $ also matches before a final line termination
+		if (isLineTermination(c) && p+1 >= csr.length()) return true;
+		return false;
+	}
+
+	/** Returns the position just after the sequence of digits beginning at the given position */
+	protected int digits(int p) {
+		while (p < csr.length() && isDigit(csr.charAt(p))) ++p;
+		return p;
+	}
+
+	@Override
+	protected ILexToken scan() throws ParserException {
+		final CharSequence cs = csr;
+		int p = cp;
+		char c = 0;
+		// Skip whitespace and comments
+		while (p < cs.length()) {
+			c = cs.charAt(p);
+			if (isWhiteSpace(c)) {
+				++p;
+			} else if (c == ';') {
+				++p;
+				while (p < cs.length() && !isLineTermination(c=cs.charAt(p)) && !isEnd(p,c)) ++p;
+			} else {
+				break;
+			}
+		}
+		prefixStart = cp;
+		prefixEnd = p;
+		int begin = p;
+		if (p >= cs.length()) {
+			cp = p;
+			return EOD(p);
+		}
+		c = cs.charAt(p);
+		ILexToken token = null;
+		int end = p+1;
+		switch (c) {
+			case '(':
+				token = LP(p);
+				break;
+			case ')':
+				token = RP(p);
+				break;
+			case '"':
+				token = scanString(p);
+				if (token != null) end = charEnd(token);
+				break;
+			case '|': {
+				int q = p+1;
+				while (q < cs.length() && isQuotedSymbolChar(c=cs.charAt(q))) ++q;
+				if (q < cs.length() && cs.charAt(q) == '|') {
+					end = q+1;
+					token = setPos(new LexSymbol(text(begin,end)),begin,end);
+				} else {
+					end = q;
+					token = error("Bar(|)-enclosed symbol is not terminated: " + text(begin,end),begin,end);
+				}
+				break;
+			}
+			case ':': {
+				int q = p+1;
+				while (q < cs.length() && isSymbolChar(cs.charAt(q))) ++q;
+				if (q > p+1) {
+					end = q;
+					token = setPos(new LexKeyword(text(begin,end)),begin,end);
+				}
+				break;
+			}
+			case '#': {
+				if (p+1 < cs.length()) {
+					char k = cs.charAt(p+1);
+					int q = p+2;
+					if (k == 'b') {
+						while (q < cs.length() && ((c=cs.charAt(q)) == '0' || c == '1')) ++q;
+					} else if (k == 'x') {
+						while (q < cs.length() && (isDigit(c=cs.charAt(q)) || (c >= 'a' && c <= 'f') || (c >= 'A' && c <= 'F'))) ++q;
+					}
+					if (q > p+2 && atTrailer(q)) {
+						end = q;
+						String digits = text(p+2,q);
+						token = k == 'b' ? setPos(new LexBinaryLiteral(digits),begin,end) : setPos(new LexHexLiteral(digits),begin,end);
+					}
+				}
+				break;
+			}
+			case END:
+			case (char)4:
+				token = EOD(p);
+				break;
+			case (char)24:
+				cp = p+1;
+				throw new AbortParseException();
+			default:
+				if (isDigit(c)) {
+					token = scanNumber(p);
+					if (token != null) end = charEnd(token);
+				} else if (isSymbolChar(c)) {
+					int q = p+1;
+					while (q < cs.length() && isSymbolChar(cs.charAt(q))) ++q;
+					end = q;
+					token = setPos(new LexSymbol(text(begin,end)),begin,end);
+				}
+				break;
+		}
+		if (token == null) {
+			// Any other sequence of non-whitespace characters, other than parentheses and comments, is an error
+			int q = p+1;
+			while (q < cs.length() && !isWhiteSpace(c=cs.charAt(q)) && c != '(' && c != ')' && c != ';' && !isEnd(q,c)) ++q;
+			end = q;
+			String matched = text(begin,end);
+			if (matched.charAt(0) < ' ') matched = "(ASCII char " + (int)matched.charAt(0) + " (decimal))";
+			token = error("Invalid token: " + matched,begin,end);
+		}
+		cp = end;
+		return token;
+	}
+
+	/** Scans a numeral or decimal beginning (with a digit) at the given position, returning null if
+	 * the characters there are not a number followed by whitespace, a parenthesis, a comment or
+	 * the end of input */
+	protected /*@Nullable*/ ILexToken scanNumber(int begin) {
+		int q = digits(begin);
+		int end = q;
+		boolean fraction = false;
+		if (q+1 < csr.length() && csr.charAt(q) == '.' && isDigit(csr.charAt(q+1))) {
+			end = digits(q+1);
+			fraction = true;
+		}
+		if (!atTrailer(end)) return null;
+		if (q - begin > 1 && csr.charAt(begin) == '0') {
+			return error("Incorrect format for a number - no leading zeros allowed: " + text(begin,end),begin,end);
+		} else if (fraction) {
+			return setPos(new LexDecimal(new BigDecimal(text(begin,end))),begin,end);
+		} else if (end - begin < 19) {
+			long n = 0;
+			for (int i = begin; i < end; i++) n = n*10 + (csr.charAt(i) - '0');
+			return setPos(new LexNumeral(BigInteger.valueOf(n)),begin,end);
+		} else {
+			return setPos(new LexNumeral(new BigInteger(text(begin,end))),begin,end);
+		}
+	}
+
+	/** Creates an error token for the given range of characters, logging the error message */
+	protected ILexToken error(String msg, int begin, int end) {
+		IPos pos = pos(begin,end);
+		ILexToken token = setPos(new LexError(msg),pos);
+		smt().log.logError(smt().responseFactory.error(msg,pos));
+		return token;
+	}
+}
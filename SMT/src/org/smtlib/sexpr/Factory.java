@@ -46,6 +46,16 @@ public class Factory implements IParser.IFactory {
 		return new Printer(w);
 	}
 	
+	/** A factory that is the same as Factory, except that the parsers it creates scan their
+	 * input with a hand-coded lexer (see DirectParser) rather than with regular expressions.
+	 */
+	public static class Direct extends Factory {
+		@Override
+		public Parser createParser(SMT.Configuration smtConfig, ISource source) {
+			return new DirectParser(smtConfig, source);
+		}
+	}
+	
 	/** This method will initialize the factories and default printer in the configuration
 	 * with appropriate objects from this implementation; it should be called as part of
 	 * initial set up of the configuration.
@@ -112,6 +112,11 @@ public class Lexer {
 	/** Any comment text found before the current token */
 	public String prefixCommentText;
 	
+	/** Returns any whitespace and comment text found before the most recently scanned token */
+	public /*@Nullable*/ String prefixCommentText() {
+		return prefixCommentText;
+	}
+	
 	/** The source of input used in this lexer; typically a different
 	 * lexer object will be used for each source (e.g. different file, string,
 	 * port, etc.) of input data.
@@ -139,8 +144,12 @@ public class Lexer {
 
 	/** Pattern regular expression for SMT-LIB whitespace */
 	private final static String rgxWhiteSpace = "[\\p{Space}]+"; // includes line termination
+	/** Pattern regular expression for the rest of a line: like .* (which stops at line terminations), but
+	 * also stopping at the end-of-input characters, which a matcher over input of unknown length would
+	 * otherwise keep reading past */
+	private final static String rgxRestOfLine = "[^\\n\\r\\u0085\\u2028\\u2029\\031\\004]*";
 	/** Pattern regular expression for SMT-LIB comment */
-	private final static String rgxComment = ";.*";              // be sure dot does not include line termination
+	private final static String rgxComment = ";" + rgxRestOfLine;
 	/** Pattern regular expression for SMT-LIB numeral */
 	private final static String rgxNumeral = "0|[1-9][0-9]*";
 	/** Pattern regular expression for an invalid SMT-LIB numeral or decimal (that has leading zeros) */
@@ -170,7 +179,7 @@ public class Lexer {
 	/** Pattern regular expression for detecting the end of input */
 	private final static String rgxEndOfInput = "\\z|\\031|\\004"; // FIXME - use CharSequenceReader.endChar
 	/** Pattern regular expression for checking that a sequence of digits is not followed by other non-white space, non-comment, non-parenthesis characters */
-	private final static String trailer = "(?:[\\s\\(\\);]|$)";
+	private final static String trailer = "(?:[\\s\\(\\);\\031\\004]|$)";
 
 	/** 
 	 * This composite regular expression matches tokens in the SMTLIB input.  It first gobbles up any
@@ -214,7 +223,7 @@ public class Lexer {
 		+   ")"  );
 	
 	/** A pattern to skip up to the end of the line */
-	final public static Pattern skipThroughEndOfLine = Pattern.compile(".*");
+	final public static Pattern skipThroughEndOfLine = Pattern.compile(rgxRestOfLine);
 	
 	// We need lexical tokens that inherit from ILexToken so they can be returned uniformly from
 	// getToken(); they also need to actually be the tokens used in the Parser (i.e. from org.smtlib.impl.*);
@@ -224,31 +233,31 @@ public class Lexer {
 	// substitute a different set of Parser token classes.
 	// TODO: Devise a new lexer factory for this purpose.
 	
-	private static class LexSymbol extends Symbol implements ILexToken, ISexpr.IToken<String> {
+	static class LexSymbol extends Symbol implements ILexToken, ISexpr.IToken<String> {
 		public LexSymbol(String n) { super(n); }
 	}
 
-	private static class LexNumeral extends Numeral implements ILexToken, ISexpr.IToken<BigInteger> {
+	static class LexNumeral extends Numeral implements ILexToken, ISexpr.IToken<BigInteger> {
 		public LexNumeral(BigInteger n) { super(n); }
 	}
 
-	private static class LexDecimal extends Decimal implements ILexToken, ISexpr.IToken<BigDecimal> {
+	static class LexDecimal extends Decimal implements ILexToken, ISexpr.IToken<BigDecimal> {
 		public LexDecimal(BigDecimal n) { super(n); }
 	}
 
-	private static class LexStringLiteral extends StringLiteral implements ILexToken, ISexpr.IToken<String> {
+	static class LexStringLiteral extends StringLiteral implements ILexToken, ISexpr.IToken<String> {
 		public LexStringLiteral(String n, boolean quoted) { super(n,quoted); }
 	}
 
-	private static class LexBinaryLiteral extends BinaryLiteral implements ILexToken, ISexpr.IToken<String> {
+	static class LexBinaryLiteral extends BinaryLiteral implements ILexToken, ISexpr.IToken<String> {
 		public LexBinaryLiteral(String n) { super(n); }
 	}
 
-	private static class LexHexLiteral extends HexLiteral implements ILexToken, ISexpr.IToken<String> {
+	static class LexHexLiteral extends HexLiteral implements ILexToken, ISexpr.IToken<String> {
 		public LexHexLiteral(String n) { super(n); }
 	}
 
-	private static class LexKeyword extends Keyword implements ILexToken, ISexpr.IToken<String> {
+	static class LexKeyword extends Keyword implements ILexToken, ISexpr.IToken<String> {
 		public LexKeyword(String n) { super(n); }
 
 		@Override
@@ -258,7 +267,25 @@ public class Lexer {
 		public boolean isError() { return false; }
 	}
 
-	private class LexError extends org.smtlib.impl.SMTExpr.Error implements ILexToken, ISexpr.IToken<String> {
+	// The following create tokens like those the lexer produces, for S-expressions that are
+	// rebuilt rather than read from text (e.g. by org.smtlib.LogicSnapshot).
+	
+	/** Returns a symbol token (which is also an ISymbol); the argument may have enclosing bars */
+	public static ISexpr.IToken<String> symbolToken(String s) { return new LexSymbol(s); }
+	
+	/** Returns a keyword token (which is also an IKeyword); the argument includes the leading colon */
+	public static ISexpr.IToken<String> keywordToken(String s) { return new LexKeyword(s); }
+	
+	/** Returns a string literal token (which is also an IStringLiteral) with the given unquoted value */
+	public static ISexpr.IToken<String> stringToken(String s) { return new LexStringLiteral(s,false); }
+	
+	/** Returns a numeral token (which is also an INumeral) */
+	public static ISexpr.IToken<BigInteger> numeralToken(BigInteger n) { return new LexNumeral(n); }
+	
+	/** Returns a decimal token (which is also an IDecimal) */
+	public static ISexpr.IToken<BigDecimal> decimalToken(BigDecimal n) { return new LexDecimal(n); }
+
+	class LexError extends org.smtlib.impl.SMTExpr.Error implements ILexToken, ISexpr.IToken<String> {
 		public LexError(String n) { super(n); }
 
 		@Override
@@ -284,7 +311,7 @@ public class Lexer {
 	 * @throws ParserException if something bad or an intentional abort happens
 	 */
 	public ILexToken peekToken() throws ParserException {
-		if (nextToken == null) nextToken = getToken();
+		if (nextToken == null) nextToken = scan();
 		return nextToken;
 	}
 	
@@ -345,6 +372,20 @@ public class Lexer {
 		return new Pos(start,end,source);
 	}
 	
+	/** Sets the position of the given token to the given range of this Lexer's source, without
+	 * creating an IPos object */
+	protected <T extends Pos.Posable> T setPos(T t, int start, int end) {
+		t.setPos(start,end,source);
+		return t;
+	}
+	
+	/** The end of the range of characters of the given token, or -1 if it has no position */
+	static protected int charEnd(ILexToken token) {
+		if (token instanceof Pos.Posable) return ((Pos.Posable)token).charEnd();
+		IPos pos = token.pos();
+		return pos == null ? -1 : pos.charEnd();
+	}
+	
 	/** Returns the first token found in the given text */
 	public ILexToken getToken(String text)  throws ParserException {
 		if (!text.isEmpty() && text.charAt(0) == '"') {
@@ -362,11 +403,136 @@ public class Lexer {
 		if (nextToken != null) {
 			token = nextToken;
 			nextToken = null;
-			return token;
+		} else {
+			token = scan();
 		}
+		int end = charEnd(token);
+		if (end >= 0) consumedEnd = end;
+		return token;
+	}
+	
+	/** The end of the most recently consumed (not just peeked at) token */
+	private int consumedEnd = 0;
+	
+	/** If the source is a sliding window (see CharSequenceInfinite.discard), discards the characters
+	 * before the line holding the end of the most recently consumed token; the parser calls this between
+	 * commands, once the previous command has been executed.
+	 */
+	protected void discardConsumed() {
+		if (csr instanceof CharSequenceInfinite && consumedEnd > 0) {
+			((CharSequenceInfinite)csr).discard(source.lineBeginning(consumedEnd-1));
+		}
+	}
+	
+	/** Scans and returns the next lexical token from the input, advancing the scanner;
+	 * this implementation uses the combined regular expression.
+	 * @throws ParserException if something bad or an intentional abort happens
+	 */
+	protected ILexToken scan() throws ParserException {
 		return getToken(matcher);
 	}
 	
+	/** Skips the remainder of the current line, after a parsing error, leaving the
+	 * scanner at the line termination */
+	protected void skipRestOfLine() {
+		Matcher m = skipThroughEndOfLine.matcher(csr);
+		m.region(matcher.regionStart(),matcher.regionEnd());
+		if (m.lookingAt()) {
+			matcher.region(m.end(),matcher.regionEnd());
+		} // If the match fails, there was nothing left before the end of the line
+	}
+	
+	/** Scans a string literal, beginning with the opening quote at the given position; returns
+	 * the string literal token, or an error token (with the error logged) if the literal is not
+	 * terminated */
+	protected /*@Nullable*/ ILexToken scanString(int begin) {
+		int p = begin;
+		int end;
+		String matched;
+		IPos pos;
+		ILexToken token = null;
+		try {
+			if (smtConfig.isVersion(SMT.Configuration.SMTLIB.V25)) { // Version 2.5ff
+				while (true) {
+					p++;
+					int c = csr.charAt(p);
+					if (c == '"') {
+						if (p+1 < csr.length() && csr.charAt(p+1) == '"') {
+							p++;
+						} else {
+							end = p+1;
+							matched = csr.subSequence(begin,end).toString();
+							pos = pos(begin,end);
+							token = setPos(new LexStringLiteral(matched,true),pos);
+							break;
+						}
+					} else {
+						if (c >= ' ' && c <= '~') continue;
+						if (c == '\t' || c == '\r' || c == '\n') continue;
+						if (c >= 128) continue; // Version 2.5, but only within comments, string literals, quoted symbols
+						if (c == 25) {
+							end = p;
+							matched = csr.subSequence(begin,end).toString();
+							pos = pos(begin,end);
+							smtConfig.log.logError(smtConfig.responseFactory.error("String literal is not terminated: " + matched,pos));
+							token = setPos(new LexError(matched),pos);
+							break; // End of data - no closing right paren
+						}
+						smtConfig.log.logError(smtConfig.responseFactory.error("Invalid character: ASCII(decimal) = " + c,
+								pos(p,p+1)));
+						continue;
+					}
+				}
+			} else if (SMT.Configuration.SMTLIB.V20.toString().equals(SMT.Configuration.smtlib)) { // Version 2.0
+				while (true) {
+					p++;
+					int c = csr.charAt(p);
+					if (c == '\\') {
+						c = csr.charAt(++p);
+						// \\ is translated to \ and \" to "
+						// \x for anything else is just \x
+						//								if (c == '\\' || c == '"') {
+						//									continue;
+						//								} else {
+						//									smtConfig.log.logError(smtConfig.responseFactory.error("Invalid escape sequence " + (char)c + " (decimal ASCII = " + (int)c + ")",
+						//											pos(p,p+1)));
+						//								}
+					} else if (c == '"') {
+						end = p+1;
+						matched = csr.subSequence(begin,end).toString();
+						pos = pos(begin,end);
+						token = setPos(new LexStringLiteral(matched,true),pos);
+						break;
+					} else {
+						if (c >= ' ' && c <= '~') continue;
+						if (c == '\t' || c == '\r' || c == '\n') continue;
+						if (c == 25) {
+							end = p;
+							matched = csr.subSequence(begin,end).toString();
+							pos = pos(begin,end);
+							smtConfig.log.logError(smtConfig.responseFactory.error("String literal is not terminated: " + matched,pos));
+							token = setPos(new LexError(matched),pos);
+							break; // End of data - no closing right paren
+						}
+						smtConfig.log.logError(smtConfig.responseFactory.error("Invalid character: ASCII(decimal) = " + c,
+								pos(p,p+1)));
+						continue;
+					}
+				}
+			}
+		} catch (IndexOutOfBoundsException e) {
+			// If the CharSequence does not expand itself and does not terminate 
+			// itself with an end of data character, and does not end with a
+			// quote character, we get this exception
+			end = p;
+			matched = csr.subSequence(begin,end).toString();
+			pos = pos(begin,end);
+			token = setPos(new LexError(matched),pos);
+			smtConfig.log.logError(smtConfig.responseFactory.error("String literal is not terminated: " + matched,token.pos()));
+		}
+		return token;
+	}
+	
 	/** Returns the next token found in the given matcher, advancing the matcher */
 	protected ILexToken getToken(Matcher matcher) throws ParserException {
 		ILexToken token = null;
@@ -406,87 +572,8 @@ public class Lexer {
 				token = setPos(new LexSymbol(matched),pos);
 			} else if ((matched = matcher.group(k=7)) != null) { // string 
 				// The match is just to the initial quote
-				int begin = matcher.start(k); // position of the initial quote
-				int p = begin;
-				try {
-					if (smtConfig.isVersion(SMT.Configuration.SMTLIB.V25)) { // Version 2.5ff
-						while (true) {
-							p++;
-							int c = csr.charAt(p);
-							if (c == '"') {
-								if (p+1 < csr.length() && csr.charAt(p+1) == '"') {
-									p++;
-								} else {
-									end = p+1;
-									matched = csr.subSequence(begin,end).toString();
-									pos = pos(begin,end);
-									token = setPos(new LexStringLiteral(matched,true),pos);
-									break;
-								}
-							} else {
-								if (c >= ' ' && c <= '~') continue;
-								if (c == '\t' || c == '\r' || c == '\n') continue;
-								if (c >= 128) continue; // Version 2.5, but only within comments, string literals, quoted symbols
-								if (c == 25) {
-									end = p;
-									matched = csr.subSequence(begin,end).toString();
-									pos = pos(begin,end);
-									smtConfig.log.logError(smtConfig.responseFactory.error("String literal is not terminated: " + matched,pos));
-									token = setPos(new LexError(matched),pos);
-									break; // End of data - no closing right paren
-								}
-								smtConfig.log.logError(smtConfig.responseFactory.error("Invalid character: ASCII(decimal) = " + (int)c,
-										pos(p,p+1)));
-								continue;
-							}
-						}
-					} else if (SMT.Configuration.SMTLIB.V20.toString().equals(smtConfig.smtlib)) { // Version 2.0
-						while (true) {
-							p++;
-							int c = csr.charAt(p);
-							if (c == '\\') {
-								c = csr.charAt(++p);
-								// \\ is translated to \ and \" to "
-								// \x for anything else is just \x
-								//								if (c == '\\' || c == '"') {
-								//									continue;
-								//								} else {
-								//									smtConfig.log.logError(smtConfig.responseFactory.error("Invalid escape sequence " + (char)c + " (decimal ASCII = " + (int)c + ")",
-								//											pos(p,p+1)));
-								//								}
-							} else if (c == '"') {
-								end = p+1;
-								matched = csr.subSequence(begin,end).toString();
-								pos = pos(begin,end);
-								token = setPos(new LexStringLiteral(matched,true),pos);
-								break;
-							} else {
-								if (c >= ' ' && c <= '~') continue;
-								if (c == '\t' || c == '\r' || c == '\n') continue;
-								if (c == 25) {
-									end = p;
-									matched = csr.subSequence(begin,end).toString();
-									pos = pos(begin,end);
-									smtConfig.log.logError(smtConfig.responseFactory.error("String literal is not terminated: " + matched,pos));
-									token = setPos(new LexError(matched),pos);
-									break; // End of data - no closing right paren
-								}
-								smtConfig.log.logError(smtConfig.responseFactory.error("Invalid character: ASCII(decimal) = " + (int)c,
-										pos(p,p+1)));
-								continue;
-							}
-						}
-					}
-				} catch (IndexOutOfBoundsException e) {
-					// If the CharSequence does not expand itself and does not terminate 
-					// itself with an end of data character, and does not end with a
-					// quote character, we get this exception
-					end = p;
-					matched = csr.subSequence(begin,end).toString();
-					pos = pos(begin,end);
-					token = setPos(new LexError(matched),pos);
-					smtConfig.log.logError(smtConfig.responseFactory.error("String literal is not terminated: " + matched,token.pos()));
-				}
+				token = scanString(matcher.start(k));
+				if (token != null) end = charEnd(token);
 			} else if ((matched = matcher.group(k=9)) != null) { // colon-initiated keyword
 				pos = pos(matcher.start(k),matcher.end(k));
 				//token = factory.keyword(matched,pos);
@@ -7,9 +7,7 @@ package org.smtlib.sexpr;
 
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
 import java.util.*;
-import java.util.regex.Matcher;
 
 import org.smtlib.*;
 import org.smtlib.ICommand.IScript;
@@ -133,6 +131,9 @@ public class Parser extends Lexer implements IParser {
 	/** This field is used to communicate the beginning LP while parsing commands */
 	public /*@Nullable*/ ILexToken savedlp;
 	
+	/** The position of the most recently parsed command */
+	protected /*@Nullable*/ IPos lastCommandPos;
+	
 	/** This field is used only to communicate the position of the name of a command to the command creator
 	 * (instead of using method arguments).
 	 */
@@ -149,6 +150,14 @@ public class Parser extends Lexer implements IParser {
 	public Command parseCommand() {
 		boolean savedTopLevel = smtConfig.topLevel;
 		Command command = null;
+		if (smtConfig.exprFactory instanceof HashConsFactory) ((HashConsFactory)smtConfig.exprFactory).nextCommand();
+		if (csr instanceof CharSequenceInfinite) {
+			// The previous command has been executed, so its text may be discarded; its position keeps a
+			// copy of the text, for errors reported against it later (e.g. replies to pipelined commands)
+			if (lastCommandPos instanceof Pos) ((Pos)lastCommandPos).detach();
+			lastCommandPos = null;
+			discardConsumed();
+		}
 		try {
 			while (true) { // The while loop is just so that AbortParseException can cause a retry
 				try {
@@ -161,7 +170,7 @@ public class Parser extends Lexer implements IParser {
 						do { getToken(); } while (!isLP() && !isEOD());
 						return null;
 					}
-					String prefixText = prefixCommentText;
+					String prefixText = prefixCommentText();
 					smtConfig.topLevel = false;
 					Symbol sym = parseSymbolOrReservedWord("Expected a symbol here, not a #");
 					if (sym == null) {
@@ -180,19 +189,23 @@ public class Parser extends Lexer implements IParser {
 						// If an error occurs in parsing the command, an error message should be logged and
 						// null returned (if null is returned, an error message is expected to have been logged).
 						
-						// This call translates a name to the class that implements the command with that name.
+						// This call translates a name to the function that parses the command with that name
+						// (ordinarily the static parse method of the class that implements the command).
 						// The user can change the lookup behavior by assigning a new command finder object in
 						// the configuration
-						Class<? extends ICommand> clazz = smt().commandFinder.findCommand(name);
-						if (clazz == null) {
+						CommandRegistry.IParse parser = smt().commandRegistry.find(smt(),name);
+						if (parser == null) {
 							lastError = error("Unknown command: " + name,sym.pos());
 							command = null;
 						} else {
-							// Call the static parser method of the command class; that will create an
+							// Call the parse function of the command; that will create an
 							// instance of the appropriate command, initialized according to the parsed data.
 							// If the parse fails, null is returned and an error will have been logged.
-							Method m = clazz.getMethod("parse",Parser.class);
-							command = (Command)m.invoke(null,this);
+							try {
+								command = parser.parse(this);
+							} catch (Exception ex) {
+								lastError = error(ex.toString(),sym.pos());
+							}
 							rp = null;
 							if (command != null) {
 								if (!isRP()) {
@@ -204,16 +217,12 @@ public class Parser extends Lexer implements IParser {
 								}
 							}
 						}
-					} catch (InvocationTargetException ex) {
-						if (ex.getTargetException() instanceof StackOverflowError) {
-							lastError = error("Stack overflow occurred while parsing input", sym.pos());
-							throw new ParserException(null,null);
-						} else if (ex.getTargetException() instanceof OutOfMemoryError) {
-							lastError = error("Out of memory error occurred while parsing input", sym.pos());
-							throw new ParserException(null,null);
-						} else {
-							lastError = error(ex.getTargetException().toString(),sym.pos());
-						}
+					} catch (StackOverflowError ex) {
+						lastError = error("Stack overflow occurred while parsing input", sym.pos());
+						throw new ParserException(null,null);
+					} catch (OutOfMemoryError ex) {
+						lastError = error("Out of memory error occurred while parsing input", sym.pos());
+						throw new ParserException(null,null);
 					}
 					if (command == null) {
 						skipThruRP();
@@ -223,6 +232,7 @@ public class Parser extends Lexer implements IParser {
 					}
 					if (command != null) {
 						setPos(command,pos(savedlp.pos(),rp.pos()));
+						lastCommandPos = command.pos();
 						command.prefixText = prefixText;
 					}
 				} catch (AbortParseException e) {
@@ -230,15 +240,8 @@ public class Parser extends Lexer implements IParser {
 					smtConfig.topLevel = true;
 					continue;
 				} catch (ParserException e) {
-					Matcher m = skipThroughEndOfLine.matcher(csr);
-					m.region(matcher.regionStart(),matcher.regionEnd());
 					if (e.getMessage() != null) lastError = smtConfig.log.logError(smtConfig.responseFactory.error(e.getMessage(),e.pos()));
-					if (m.lookingAt()) {
-						//smtConfig.log.logOut("SKIPPED " + m.start() + " " + m.end());
-						matcher.region(m.end(),matcher.regionEnd());
-					} else {
-						//smtConfig.log.logOut("NOTHING TO SKIP");
-					} // If the match fails, there was nothing left before the end of the line
+					skipRestOfLine();
 				}
 				break;
 			}
@@ -420,10 +423,35 @@ public class Parser extends Lexer implements IParser {
 	}
 	
 	/** Parses an expression, returning null with error messages if there is not a valid
-	 * expression in the token stream.
+	 * expression in the token stream.  The compound expressions that have been begun but
+	 * not finished are kept on an explicit stack rather than in nested calls, so the depth
+	 * to which expressions may be nested is limited only by the heap.
 	 */
 	@Override
 	public /*@Nullable*/IExpr parseExpr() throws ParserException {
+		List<PendingExpr> stack = new ArrayList<PendingExpr>();
+		while (true) {
+			int n = stack.size();
+			IExpr e = beginExpr(stack);
+			PendingExpr p = stack.size() > n ? stack.get(n) : null;
+			// Finish whatever expressions can now be finished, innermost first
+			while (p == null || !p.more()) {
+				if (p != null) {
+					stack.remove(stack.size()-1);
+					e = p.result;
+				}
+				if (stack.isEmpty()) return e;
+				p = stack.get(stack.size()-1);
+				p.add(e);
+			}
+		}
+	}
+	
+	/** Parses an expression that has no subexpressions, returning it (or null with error
+	 * messages if it is not valid), or else parses the beginning of an expression that has
+	 * subexpressions, pushing it onto the stack and returning null.
+	 */
+	protected /*@Nullable*/IExpr beginExpr(List<PendingExpr> stack) throws ParserException {
 		// Here we suffer a bit for using a hand-written top-down parser.
 		// An IExpr can be
 		//		literal
@@ -454,57 +482,187 @@ public class Parser extends Lexer implements IParser {
 		if (head == null) { skipThruRP(); return null; }
 		if (head instanceof ISymbol) { // in particular we want reserved words here
 			String s = ((ISymbol)head).value();
-			if (Utils.FORALL.equals(s)) {
+			if (Utils.FORALL.equals(s) || Utils.EXISTS.equals(s)) {
 				List<IDeclaration> decls = parseDeclarations();
-				IExpr expr = decls == null ? null : parseExpr();
-				ILexToken rp = expr == null ? null : parseRP();
-				if (rp == null) { skipThruRP(); return null ; }
-				return setPos(smtConfig.exprFactory.forall(decls, expr), pos(lp.pos(), rp.pos()));
-			} else if (Utils.EXISTS.equals(s)) {
-				List<IDeclaration> decls = parseDeclarations();
-				IExpr expr = decls == null ? null : parseExpr();
-				ILexToken rp = expr == null ? null : parseRP();
-				if (rp == null) { skipThruRP(); return null ; }
-				return setPos(smtConfig.exprFactory.exists(decls, expr), pos(lp.pos(), rp.pos()));
+				if (decls == null) { skipThruRP(); return null; }
+				stack.add(new PendingQuantifier(lp,Utils.FORALL.equals(s),decls));
+				return null;
 			} else if (Utils.LET.equals(s)) {
-				List<IBinding> decls = parseBindings();
-				IExpr expr = decls == null ? null : parseExpr();
-				ILexToken rp = expr == null ? null : parseRP();
-				if (rp == null) { skipThruRP(); return null ; }
-				return setPos(smtConfig.exprFactory.let(decls, expr), pos(lp.pos(), rp.pos()));
+				ILexToken blp = parseLP();
+				if (blp == null) { skipThruRP(); return null; }
+				stack.add(new PendingLet(lp,blp));
+				return null;
 			} else if (Utils.AS.equals(s)) {
 				return parseAsIdentifierRest(lp);
 			} else if (Utils.UNDERSCORE.equals(s)) {
 				return parseIdentifierRest(lp);
 			} else if (Utils.NAMED_EXPR.equals(s)) {
-				IExpr expr = parseExpr();
-				if (expr instanceof IExpr.IError) expr = null;
-				List<IAttribute<?>> list = parseAttributeSequence();
-				if (list == null) { skipThruRP(); return null; }
-				ILexToken rp = parseRP();
-				if (rp == null) { skipThruRP(); return null; }
-				return setPos(smtConfig.exprFactory.attributedExpr(expr,list),pos(lp.pos(), rp.pos()));
+				stack.add(new PendingAttributed(lp));
+				return null;
 			}
 		}
-		List<IExpr> list = new LinkedList<IExpr>();
-		boolean anyErrors = false;
-		while (!isRP()) {
-			if (isEOD()) {
+		stack.add(new PendingFcn(lp,head));
+		return null;
+	}
+	
+	/** A compound expression whose parse parseExpr has begun but not finished */
+	protected abstract class PendingExpr {
+		/** The left parenthesis that begins the expression */
+		final protected ILexToken lp;
+		
+		/** The finished expression, or null if it has errors, once the parse is done */
+		protected /*@Nullable*/ IExpr result = null;
+		
+		/** Whether the parse of the expression is done */
+		protected boolean done = false;
+		
+		protected PendingExpr(ILexToken lp) {
+			this.lp = lp;
+		}
+		
+		/** Parses what precedes the next subexpression, returning true if one is
+		 * needed and false (with result set) if the expression is finished */
+		protected boolean more() throws ParserException {
+			return !done;
+		}
+		
+		/** Takes the next subexpression, which is null if it had errors */
+		abstract protected void add(/*@Nullable*/ IExpr e) throws ParserException;
+		
+		/** Records that the expression is finished, with the given result */
+		protected void finish(/*@Nullable*/ IExpr r) {
+			result = r;
+			done = true;
+		}
+	}
+	
+	/** A function application: the head and the arguments so far */
+	protected class PendingFcn extends PendingExpr {
+		final protected IQualifiedIdentifier head;
+		final protected List<IExpr> list = new LinkedList<IExpr>();
+		protected boolean anyErrors = false;
+		
+		protected PendingFcn(ILexToken lp, IQualifiedIdentifier head) {
+			super(lp);
+			this.head = head;
+		}
+		
+		@Override
+		protected boolean more() throws ParserException {
+			if (!isRP()) {
+				if (!isEOD()) return true;
 				error("Unexpected end of data while parsing a sequence of expressions",pos(lp.pos().charStart(),currentPos()));
-				return null; 
+				finish(null);
+				return false;
 			}
-			IExpr e = parseExpr();
+			if (anyErrors) { skipThruRP(); finish(null); return false; }
+			ILexToken rp = parseRP();
+			if (rp == null) { skipThruRP(); finish(null); return false; }
+			if (list.size() == 0) {
+				error("A function expression must have at least one argument",pos(lp.pos(),rp.pos()));
+				finish(null);
+				return false;
+			}
+			finish(setPos(smtConfig.exprFactory.fcn(head,list), pos(lp.pos(), rp.pos())));
+			return false;
+		}
+		
+		@Override
+		protected void add(/*@Nullable*/ IExpr e) {
 			if (e != null) list.add(e);
 			else anyErrors = true;
 		}
-		if (anyErrors) { skipThruRP(); return null; }
-		ILexToken rp = parseRP();
-		if (rp == null) { skipThruRP(); return null; }
-		if (list.size() == 0) {
-			error("A function expression must have at least one argument",pos(lp.pos(),rp.pos()));
-			return null;
+	}
+	
+	/** A forall or exists expression, awaiting its body */
+	protected class PendingQuantifier extends PendingExpr {
+		final protected boolean forall;
+		final protected List<IDeclaration> decls;
+		
+		protected PendingQuantifier(ILexToken lp, boolean forall, List<IDeclaration> decls) {
+			super(lp);
+			this.forall = forall;
+			this.decls = decls;
+		}
+		
+		@Override
+		protected void add(/*@Nullable*/ IExpr expr) throws ParserException {
+			ILexToken rp = expr == null ? null : parseRP();
+			if (rp == null) { skipThruRP(); finish(null); return; }
+			finish(setPos(forall ? smtConfig.exprFactory.forall(decls, expr) : smtConfig.exprFactory.exists(decls, expr),
+					pos(lp.pos(), rp.pos())));
+		}
+	}
+	
+	/** A let expression: the bindings so far (cf. parseBindings and parseBinding), then the body */
+	protected class PendingLet extends PendingExpr {
+		/** The left parenthesis that begins the list of bindings */
+		final protected ILexToken blp;
+		final protected List<IBinding> bindings = new LinkedList<IBinding>();
+		final protected Set<ISymbol> names = new HashSet<ISymbol>();
+		/** The left parenthesis and symbol of the binding whose expression is awaited */
+		protected /*@Nullable*/ ILexToken bindingLp = null;
+		protected /*@Nullable*/ ISymbol bindingSym = null;
+		/** Whether the bindings are all parsed, so that the body is awaited */
+		protected boolean body = false;
+		
+		protected PendingLet(ILexToken lp, ILexToken blp) {
+			super(lp);
+			this.blp = blp;
+		}
+		
+		@Override
+		protected boolean more() throws ParserException {
+			if (done || body) return !done;
+			if (!isRP()) {
+				if (isEOD()) {
+					error("Unexpected end of data while parsing a sequence of parameter bindings",pos(blp.pos().charStart(),currentPos()));
+					skipThruRP(); finish(null); return false;
+				}
+				bindingLp = parseLP();
+				bindingSym = bindingLp == null ? null : parseSymbol();
+				if (bindingSym == null) { skipThruRP(); skipThruRP(); finish(null); return false; }
+				return true;
+			}
+			ILexToken rp = parseRP();
+			if (rp == null) { skipThruRP(); skipThruRP(); finish(null); return false; }
+			body = true;
+			return true;
+		}
+		
+		@Override
+		protected void add(/*@Nullable*/ IExpr expr) throws ParserException {
+			ILexToken rp = expr == null ? null : parseRP();
+			if (body) {
+				if (rp == null) { skipThruRP(); finish(null); return; }
+				finish(setPos(smtConfig.exprFactory.let(bindings, expr), pos(lp.pos(), rp.pos())));
+				return;
+			}
+			if (rp == null) { skipThruRP(); skipThruRP(); finish(null); return; }
+			IBinding binding = setPos(smtConfig.exprFactory.binding(bindingSym,expr), pos(bindingLp.pos(), rp.pos()));
+			bindings.add(binding);
+			if (!names.add(binding.parameter())) {
+				error("Parameter list has a duplicate name: " + smtConfig.defaultPrinter.toString(binding.parameter()),binding.parameter().pos());
+				skipThruRP(); finish(null);
+			}
+		}
+	}
+	
+	/** An attributed (!) expression, awaiting the expression */
+	protected class PendingAttributed extends PendingExpr {
+		protected PendingAttributed(ILexToken lp) {
+			super(lp);
+		}
+		
+		@Override
+		protected void add(/*@Nullable*/ IExpr expr) throws ParserException {
+			if (expr instanceof IExpr.IError) expr = null;
+			List<IAttribute<?>> list = parseAttributeSequence();
+			if (list == null) { skipThruRP(); finish(null); return; }
+			ILexToken rp = parseRP();
+			if (rp == null) { skipThruRP(); finish(null); return; }
+			finish(setPos(smtConfig.exprFactory.attributedExpr(expr,list),pos(lp.pos(), rp.pos())));
 		}
-		return setPos(smtConfig.exprFactory.fcn(head,list), pos(lp.pos(), rp.pos()));
 	}
 	
 	/** Parses a parenthesized sequence of IDeclaration items, returning null with error messages if an error occurs */
@@ -898,7 +1056,7 @@ public class Parser extends Lexer implements IParser {
 		}
 		String clazzName = "org.smtlib.logic." + name;
 		try {
-			Class<? extends ILogic> clazz = (Class<? extends ILogic>)Class.forName(clazzName);
+			Class<? extends ILogic> clazz = Class.forName(clazzName).asSubclass(ILogic.class);
 			Constructor<? extends ILogic> con = clazz.getConstructor(ISymbol.class,Collection.class);
 			return con.newInstance(name,attributes);
 		} catch (ClassNotFoundException e) {
@@ -952,9 +1110,35 @@ public class Parser extends Lexer implements IParser {
 	
 	//@Override // FIXME - put this in the interface
 	public /*@Nullable*/ IResponse parseResponse(String response) throws ParserException {
-		IResponse.IFactory f = smtConfig.responseFactory;
 		response = response.trim();
-		if ("".equals(response)) return f.empty();
+		if ("".equals(response)) return smtConfig.responseFactory.empty();
+		IResponse r = wordResponse(response);
+		if (r != null) return r;
+		// FIXME - more - iterate over a list?
+		
+		return sexprResponse(parseSexpr());
+		//return f.error("Could not translate response: " + response);
+	}
+	
+	/** Parses one response from the parser's source, which is read only as far as the response
+	 * extends; this allows a (possibly very large) response to be parsed as it is read from the
+	 * solver, rather than first being collected into a String (cf. SolverProcess.nextReply()).
+	 * Unlike parseResponse(String), the source is not preprocessed in any way.
+	 */
+	//@Override // FIXME - put this in the interface
+	public /*@Nullable*/ IResponse parseResponse() throws ParserException {
+		if (isEOD()) return smtConfig.responseFactory.empty();
+		ILexToken token = peekToken();
+		if (token instanceof ISymbol) {
+			IResponse r = wordResponse(((ISymbol)token).value());
+			if (r != null) { getToken(); return r; }
+		}
+		return sexprResponse(parseSexpr());
+	}
+	
+	/** Returns the response corresponding to a one-word reply, or null if the word is not one of the standard replies */
+	protected /*@Nullable*/ IResponse wordResponse(String response) {
+		IResponse.IFactory f = smtConfig.responseFactory;
 		if ("success".equals(response)) return f.success();
 		if ("sat".equals(response)) return f.sat();
 		if ("unsat".equals(response)) return f.unsat();
@@ -963,23 +1147,25 @@ public class Parser extends Lexer implements IParser {
 		if ("unsupported".equals(response)) return f.unsupported();
 		if ("true".equals(response)) return smtConfig.exprFactory.symbol("true");
 		if ("false".equals(response)) return smtConfig.exprFactory.symbol("false");
-		// FIXME - more - iterate over a list?
-		
-		ISexpr sexpr = parseSexpr();
+		return null;
+	}
+	
+	/** Converts a parsed reply to a response: error and get-info replies are recognized, other 
+	 * S-expressions are the response themselves */
+	protected /*@Nullable*/ IResponse sexprResponse(/*@Nullable*/ ISexpr sexpr) {
 		if (sexpr instanceof ISexpr.ISeq) {
 			List<ISexpr> list = ((ISexpr.ISeq)sexpr).sexprs();
 			if (list.size() >= 2) {
 				if (list.get(0).toString().equals("error") && list.get(1) instanceof IStringLiteral) {
-					return f.error(((IStringLiteral)list.get(1)).value());
+					return smtConfig.responseFactory.error(((IStringLiteral)list.get(1)).value());
 				}
 				if (list.get(0) instanceof IKeyword) {
 					IAttribute<?> attr = smtConfig.exprFactory.attribute((IKeyword)list.get(0),list.get(1));
-					return f.get_info_response(attr);
+					return smtConfig.responseFactory.get_info_response(attr);
 				}
 			}
 		}
 		return sexpr;
-		//return f.error("Could not translate response: " + response);
 	}
 	
 	/** Parses a left parenthesis, returning null and emitting an error message
@@ -8,7 +8,10 @@ package org.smtlib.sexpr;
 import java.io.*;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.smtlib.*;
 import org.smtlib.ICommand.IScript;
@@ -55,6 +58,14 @@ public class Printer implements IPrinter, org.smtlib.IVisitor</*@Nullable*/ Void
 	
 	/** The system-dependent line termination */
 	static public final String eol = System.getProperty("line.separator");
+	
+	/** If positive, a subterm that occurs more than once in an expression given to print, and that
+	 * has at least this many nodes, is printed just once, as a let binding (cf. Sharing); otherwise
+	 * expressions are printed as trees */
+	protected int share = 0;
+	
+	/** The factory with which the let bindings are built when sharing subterms */
+	/*@Nullable*/ protected IExpr.IFactory factory = null;
 
 	/** Creates a printer object */
 	public Printer(Writer w) {
@@ -66,10 +77,23 @@ public class Printer implements IPrinter, org.smtlib.IVisitor</*@Nullable*/ Void
 		return new Printer(w);
 	}
 	
-	/** Prints the argument to the receiver */
+	/** Sets the receiver to share the repeated subterms of the expressions given to print (cf. the
+	 * share field), returning the receiver */
+	public Printer share(int threshold, IExpr.IFactory factory) {
+		this.share = threshold;
+		this.factory = factory;
+		return this;
+	}
+	
+	/** Prints the argument to the receiver; an expression is printed with its repeated subterms
+	 * shared, if the receiver is set to share them */
 	@Override
 	public <T extends IAccept> void print(T expr) throws IVisitor.VisitorException {
-		expr.accept(this);
+		if (share > 0 && factory != null && expr instanceof IExpr) {
+			Sharing.share((IExpr)expr,factory,share).accept(this);
+		} else {
+			expr.accept(this);
+		}
 	}
 	
 	/** Returns the argument as a String using a Printer of the same type as the receiver,
@@ -215,19 +239,87 @@ public class Printer implements IPrinter, org.smtlib.IVisitor</*@Nullable*/ Void
 
 	@Override
 	public Void visit(IFcnExpr e) throws IVisitor.VisitorException {
+		List<Object> todo = new ArrayList<Object>();
+		push(e,todo);
+		printPending(todo,e);
+		return null;
+	}
+	
+	/** Pushes onto todo, last first, the text and the parts of the given function application */
+	protected void push(IFcnExpr e, List<Object> todo) {
+		todo.add(")");
+		List<IExpr> args = e.args();
+		for (int i = args.size(); --i >= 0; ) {
+			IExpr a = args.get(i);
+			todo.add(a != null ? a : "???");
+			todo.add(" ");
+		}
+		todo.add(e.head());
+		todo.add("(");
+	}
+	
+	/** Pushes onto todo, last first, the text and the parts of the given let expression */
+	protected void push(ILet e, List<Object> todo) {
+		todo.add(")");
+		todo.add(e.expr());
+		todo.add(") ");
+		List<IBinding> bindings = e.bindings();
+		for (int i = bindings.size(); --i >= 0; ) {
+			todo.add(" ");
+			todo.add(bindings.get(i));
+		}
+		todo.add("(" + Utils.LET + " (");
+	}
+	
+	/** Writes the Strings and prints the parts in todo, last first, until it is empty; the function
+	 * applications and lets that this class would print as it does itself (cf. the plain methods) are expanded
+	 * in place on todo rather than printed by a nested call, so that the depth of the Java stack
+	 * does not grow with their depth of nesting; e is the expression being printed, for error reports */
+	protected void printPending(List<Object> todo, IExpr e) throws IVisitor.VisitorException {
 		try {
-			w.append("(");
-			e.head().accept(this);
-			for (IExpr a: e.args()) {
-				w.append(" ");
-				if (a != null) a.accept(this);
-				else w.append("???");
+			while (!todo.isEmpty()) {
+				Object o = todo.remove(todo.size()-1);
+				if (o instanceof String) w.append((String)o);
+				else if (o instanceof IFcnExpr && plain((IFcnExpr)o)) push((IFcnExpr)o,todo);
+				else if (o instanceof ILet && plain((ILet)o)) push((ILet)o,todo);
+				else ((IAccept)o).accept(this);
 			}
-			w.append(")");
 		} catch (IOException ex) {
 			throw new IVisitor.VisitorException(ex,e.pos());
 		}
-		return null;
+	}
+	
+	/** Whether the given function application is printed by visit(IFcnExpr) just as this class
+	 * prints it, so that it may be expanded in place (cf. printPending); by default, whether the class of
+	 * the receiver inherits visit(IFcnExpr) from this class.  A derived class that overrides
+	 * visit(IFcnExpr) but delegates most applications to the super method may override this to say which. */
+	protected boolean plain(IFcnExpr e) {
+		return inherited()[0];
+	}
+	
+	/** Whether the given let expression is printed by visit(ILet) just as this class prints it;
+	 * by default, whether the class of the receiver inherits visit(ILet) from this class */
+	protected boolean plain(ILet e) {
+		return inherited()[1];
+	}
+	
+	/** For each class of printer, whether it inherits visit(IFcnExpr) and visit(ILet) from this class */
+	static private final Map<Class<?>,boolean[]> inherits = new ConcurrentHashMap<Class<?>,boolean[]>();
+	
+	/** Returns whether the class of the receiver inherits visit(IFcnExpr) and visit(ILet) from this class */
+	protected boolean[] inherited() {
+		Class<?> c = getClass();
+		boolean[] b = inherits.get(c);
+		if (b == null) {
+			try {
+				b = new boolean[]{ c.getMethod("visit",IFcnExpr.class).getDeclaringClass() == Printer.class,
+								   c.getMethod("visit",ILet.class).getDeclaringClass() == Printer.class };
+			} catch (NoSuchMethodException ex) {
+				b = new boolean[]{ false, false };
+			}
+			inherits.put(c,b);
+		}
+		return b;
 	}
 
 	@Override
@@ -266,18 +358,9 @@ public class Printer implements IPrinter, org.smtlib.IVisitor</*@Nullable*/ Void
 
 	@Override
 	public Void visit(ILet e) throws IVisitor.VisitorException {
-		try {
-			w.append("(" + Utils.LET + " (");
-			for (IBinding a: e.bindings()) {
-				a.accept(this);
-				w.append(" ");
-			}
-			w.append(") ");
-			e.expr().accept(this);
-			w.append(")");
-		} catch (IOException ex) {
-			throw new IVisitor.VisitorException(ex,e.pos());
-		}
+		List<Object> todo = new ArrayList<Object>();
+		push(e,todo);
+		printPending(todo,e);
 		return null;
 	}
 
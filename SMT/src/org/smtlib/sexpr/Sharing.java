@@ -0,0 +1,275 @@
+/*
+ * This file is part of the SMT project.
+ * Copyright 2010 David R. Cok
+ * Created August 2010
+ */
+package org.smtlib.sexpr;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.smtlib.IExpr;
+import org.smtlib.IExpr.IAttributedExpr;
+import org.smtlib.IExpr.IBinding;
+import org.smtlib.IExpr.IExists;
+import org.smtlib.IExpr.IFcnExpr;
+import org.smtlib.IExpr.IForall;
+import org.smtlib.IExpr.ILet;
+import org.smtlib.IExpr.ISymbol;
+import org.smtlib.IVisitor;
+
+/** This class rewrites an expression so that each subterm that occurs in it more than once, and
+ * that is large enough to be worth naming, is written just once, as the value of a let binding.
+ * Generated terms are often DAGs with much sharing; printed as a tree such a term can be
+ * exponentially larger than it is in memory, whereas the rewritten term prints in space
+ * proportional to the DAG.
+ * <P>
+ * Subterms are compared structurally (two distinct objects that print the same are the same
+ * subterm), but the work done is proportional to the number of distinct objects, so terms built
+ * by the HashConsFactory, in which structurally equal terms are already one object, are the
+ * cheapest to analyze. Only function applications that are not within a binder (let, forall,
+ * exists) or an attributed expression are shared, since a subterm within a binder may refer to
+ * the bound variables. The let variables are named so as not to clash with any symbol in the
+ * expression. Each pass over the expression works from an explicit stack, so the depth of the
+ * expression is limited only by the heap.
+ */
+public class Sharing {
+
+	/** The prefix of the names of let variables, lengthened if some symbol in the expression begins with it */
+	static public final String PREFIX = "?s";
+
+	/** The factory used to build the rewritten expression */
+	final protected IExpr.IFactory factory;
+
+	/** The least size (the number of nodes in its tree) of a subterm that is shared */
+	final protected int threshold;
+
+	/** The shape of each distinct object in the expression */
+	final protected Map<IExpr,Shape> seen = new IdentityHashMap<IExpr,Shape>();
+
+	/** The shapes of the function applications and atoms seen so far, by structure */
+	final protected Map<Object,Shape> shapes = new HashMap<Object,Shape>();
+
+	/** The let bindings, grouped by level: a binding refers only to variables of lower levels */
+	final protected List<List<IBinding>> levels = new ArrayList<List<IBinding>>();
+
+	/** The symbols in the expression that begin with the first character of PREFIX */
+	final protected Set<String> names = new HashSet<String>();
+
+	/** The prefix of the let variables */
+	protected String prefix = PREFIX;
+
+	/** The number of let variables so far */
+	protected int count = 0;
+
+	/** A class of structurally equal subterms */
+	static protected class Shape {
+		/** The first subterm seen with this shape */
+		final public IExpr expr;
+
+		/** The shapes of the arguments, if this is a function application that may be shared; otherwise null */
+		final public /*@Nullable*/ Shape[] args;
+
+		/** The number of nodes in the tree of this subterm, up to Long.MAX_VALUE */
+		public long size = 1;
+
+		/** The number of times this subterm occurs in the expression, once all shared subterms are named */
+		public int refs = 0;
+
+		/** The greatest level of the shared subterms of this one; -1 if not yet computed */
+		public int depth = -1;
+
+		/** The number of arguments whose depth has been computed, while that of this subterm is being computed */
+		public int next = 0;
+
+		/** The let variable that names this subterm, once it is bound */
+		public /*@Nullable*/ ISymbol name;
+
+		/** The rewritten subterm, once computed */
+		public /*@Nullable*/ IExpr rewritten;
+
+		public Shape(IExpr expr, /*@Nullable*/ Shape[] args) {
+			this.expr = expr;
+			this.args = args;
+		}
+	}
+
+	protected Sharing(IExpr.IFactory factory, int threshold) {
+		this.factory = factory;
+		this.threshold = threshold;
+	}
+
+	/** Returns the given expression with each subterm that occurs more than once, and has at least
+	 * threshold nodes, bound by a let and replaced by the let variable; the argument itself is returned
+	 * if no subterm is shared or if threshold is not positive.
+	 */
+	static public IExpr share(IExpr e, IExpr.IFactory factory, int threshold) throws IVisitor.VisitorException {
+		if (threshold <= 0) return e;
+		return new Sharing(factory,threshold).rewrite(e);
+	}
+
+	/** Does the work of share */
+	protected IExpr rewrite(IExpr e) throws IVisitor.VisitorException {
+		Shape root = shape(e);
+		for (boolean clash = true; clash; ) {
+			clash = false;
+			for (String n: names) {
+				if (n.startsWith(prefix)) { prefix = PREFIX.charAt(0) + prefix; clash = true; break; }
+			}
+		}
+		root.refs = 1;
+		count(root);
+		build(root);
+		IExpr body = root.rewritten;
+		if (levels.isEmpty()) return e;
+		for (int i = levels.size(); --i >= 0; ) {
+			body = factory.let(levels.get(i),body);
+		}
+		return body;
+	}
+
+	/** Returns the shape of the given subterm, computing the shapes of its subterms as needed */
+	protected Shape shape(IExpr root) throws IVisitor.VisitorException {
+		List<IExpr> stack = new ArrayList<IExpr>();
+		stack.add(root);
+		while (!stack.isEmpty()) {
+			IExpr e = stack.get(stack.size()-1);
+			if (seen.containsKey(e)) { stack.remove(stack.size()-1); continue; }
+			if (e instanceof IFcnExpr) {
+				// The arguments are shaped first, left to right
+				List<IExpr> args = ((IFcnExpr)e).args();
+				int n = stack.size();
+				for (int i = args.size(); --i >= 0; ) {
+					if (!seen.containsKey(args.get(i))) stack.add(args.get(i));
+				}
+				if (stack.size() > n) continue;
+			}
+			stack.remove(stack.size()-1);
+			seen.put(e,newShape(e));
+		}
+		return seen.get(root);
+	}
+
+	/** Returns the shape of the given subterm, whose arguments (if any) are already shaped */
+	protected Shape newShape(IExpr e) throws IVisitor.VisitorException {
+		Shape s;
+		if (e instanceof IFcnExpr) {
+			IFcnExpr f = (IFcnExpr)e;
+			List<IExpr> args = f.args();
+			Shape[] argShapes = new Shape[args.size()];
+			List<Object> key = new ArrayList<Object>(argShapes.length + 1);
+			key.add(Printer.write(f.head()));
+			names(f.head());
+			long size = 1;
+			for (int i = 0; i < argShapes.length; i++) {
+				Shape a = argShapes[i] = seen.get(args.get(i));
+				key.add(a);
+				size = size + a.size < 0 ? Long.MAX_VALUE : size + a.size;
+			}
+			s = shapes.get(key);
+			if (s == null) {
+				s = new Shape(e, argShapes.length == 0 ? null : argShapes);
+				s.size = size;
+				shapes.put(key,s);
+			}
+		} else if (e instanceof ILet || e instanceof IForall || e instanceof IExists || e instanceof IAttributedExpr) {
+			// Never shared, and nothing within is shared
+			names(e);
+			s = new Shape(e,null);
+		} else {
+			// An atom: a symbol, literal or other identifier
+			names(e);
+			String key = Printer.write(e);
+			s = shapes.get(key);
+			if (s == null) shapes.put(key, s = new Shape(e,null));
+		}
+		return s;
+	}
+
+	/** Counts the occurrences of the subterms of the given subterm, which is reached for the first time */
+	protected void count(Shape root) {
+		List<Shape> todo = new ArrayList<Shape>();
+		todo.add(root);
+		while (!todo.isEmpty()) {
+			Shape s = todo.remove(todo.size()-1);
+			if (s.args == null) continue;
+			for (Shape a: s.args) {
+				if (a.refs++ == 0) todo.add(a);
+			}
+		}
+	}
+
+	/** Whether the given subterm is shared */
+	protected boolean shared(Shape s) {
+		return s.args != null && s.refs > 1 && s.size >= threshold;
+	}
+
+	/** Computes, for the given subterm and the subterms within it, bottom-up, the greatest level of
+	 * the let variables needed (the level of a shared subterm is one more than that of the subterms
+	 * it needs) and the rewritten form, in which the shared subterms within it (but not the subterm
+	 * itself) are replaced by their let variables; each shared subterm is bound to a let variable
+	 * once its rewritten form is known. */
+	protected void build(Shape root) throws IVisitor.VisitorException {
+		List<Shape> stack = new ArrayList<Shape>();
+		stack.add(root);
+		while (!stack.isEmpty()) {
+			Shape s = stack.get(stack.size()-1);
+			if (s.args != null && s.next < s.args.length) {
+				Shape a = s.args[s.next++];
+				if (a.depth < 0) stack.add(a);
+				continue;
+			}
+			stack.remove(stack.size()-1);
+			int d = 0;
+			if (s.args != null) for (Shape a: s.args) {
+				int da = shared(a) ? a.depth + 1 : a.depth;
+				if (da > d) d = da;
+			}
+			s.depth = d;
+			s.rewritten = rewritten(s);
+			if (shared(s)) {
+				s.name = factory.symbol(prefix + (++count));
+				while (levels.size() <= d) levels.add(new ArrayList<IBinding>());
+				levels.get(d).add(factory.binding(s.name,s.rewritten));
+			}
+		}
+	}
+
+	/** Returns the rewritten form of the given subterm, given those of its arguments */
+	protected IExpr rewritten(Shape s) throws IVisitor.VisitorException {
+		if (s.args == null) return s.expr;
+		IFcnExpr f = (IFcnExpr)s.expr;
+		List<IExpr> args = new ArrayList<IExpr>(s.args.length);
+		boolean changed = false;
+		for (int i = 0; i < s.args.length; i++) {
+			Shape a = s.args[i];
+			IExpr arg = shared(a) ? a.name : a.rewritten;
+			changed |= arg != f.args().get(i);
+			args.add(arg);
+		}
+		return changed ? factory.fcn(f.head(),args) : f;
+	}
+
+	/** The objects already scanned for symbol names */
+	final protected Set<IExpr> scanned = java.util.Collections.newSetFromMap(new IdentityHashMap<IExpr,Boolean>());
+
+	/** Records the symbols within the given subterm that might clash with a let variable */
+	protected void names(IExpr e) throws IVisitor.VisitorException {
+		e.accept(new IVisitor.TreeVisitor<Void>() {
+			@Override
+			public Void visit(IFcnExpr e) throws IVisitor.VisitorException {
+				return scanned.add(e) ? super.visit(e) : null;
+			}
+			@Override
+			public Void visit(ISymbol e) throws IVisitor.VisitorException {
+				if (e.value().charAt(0) == PREFIX.charAt(0)) names.add(e.value());
+				return null;
+			}
+		});
+	}
+}
@@ -0,0 +1,98 @@
+/*
+ * This file is part of the SMT project.
+ * Copyright 2010 David R. Cok
+ * Created August 2010
+ */
+package org.smtlib.solvers;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import org.smtlib.IAccept;
+import org.smtlib.IExpr;
+import org.smtlib.IExpr.IFcnExpr;
+import org.smtlib.IVisitor;
+
+/** A base class for the translators of the solver adapters that do not speak
+ * SMT-LIB.  Rather than returning a new String for each node, which the parent
+ * then concatenates into its own result, each visit method appends its
+ * translation to the one buffer 'out', so translating an expression costs time
+ * linear in the size of the output.
+ * <P>
+ * A function application that is reached more than once in what is translated
+ * (the same object, as happens in generated terms that are DAGs) is translated
+ * just once; later occurrences reuse the text.  The counts and the texts are
+ * kept for as long as the translator is, so a translator that is kept across
+ * several expressions also reuses the text of a subterm that they share.
+ * Subclasses implement fcn rather than visit(IFcnExpr); a subclass whose
+ * translation of a subterm depends on where it occurs overrides memo().
+ */
+public abstract class BufferedTranslator extends IVisitor.NullVisitor<Void> {
+
+	/** The buffer into which the translation is written */
+	protected final StringBuilder out = new StringBuilder();
+
+	/** The number of times each function application has been reached in the expressions translated so far */
+	protected final Map<IExpr,Integer> refs = new IdentityHashMap<IExpr,Integer>();
+
+	/** The text of each function application that is reached more than once, once translated */
+	protected final Map<IExpr,String> memo = new IdentityHashMap<IExpr,String>();
+
+	/** Translates the argument, returning the text of its translation */
+	public String translate(IAccept e) throws IVisitor.VisitorException {
+		out.setLength(0);
+		if (e instanceof IExpr) count((IExpr)e);
+		e.accept(this);
+		return out.toString();
+	}
+
+	/** Translates the argument, returning its text but leaving the buffer as it
+	 * was; this is for the few places in which a translation is needed as a
+	 * String, such as a function name to be compared or a term to be repeated.
+	 */
+	protected String text(IAccept e) throws IVisitor.VisitorException {
+		int mark = out.length();
+		e.accept(this);
+		String s = out.substring(mark);
+		out.setLength(mark);
+		return s;
+	}
+
+	/** Adds the function applications within the argument to refs */
+	protected void count(IExpr e) throws IVisitor.VisitorException {
+		e.accept(new IVisitor.TreeVisitor<Void>() {
+			@Override
+			public Void visit(IFcnExpr e) throws IVisitor.VisitorException {
+				Integer n = refs.put(e, n(refs.get(e)) + 1);
+				return n == null ? super.visit(e) : null;
+			}
+		});
+	}
+
+	private static int n(/*@Nullable*/ Integer n) {
+		return n == null ? 0 : n;
+	}
+
+	/** Returns the texts of the function applications translated in the current
+	 * context; the default is that a subterm translates the same wherever it occurs */
+	protected Map<IExpr,String> memo() {
+		return memo;
+	}
+
+	@Override
+	public final Void visit(IFcnExpr e) throws IVisitor.VisitorException {
+		Map<IExpr,String> m = memo();
+		String s = m.get(e);
+		if (s != null) {
+			out.append(s);
+			return null;
+		}
+		int mark = out.length();
+		fcn(e);
+		if (n(refs.get(e)) > 1) m.put(e, out.substring(mark));
+		return null;
+	}
+
+	/** Appends the translation of a function application */
+	abstract protected Void fcn(IFcnExpr e) throws IVisitor.VisitorException;
+}
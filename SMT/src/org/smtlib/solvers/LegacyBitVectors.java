@@ -0,0 +1,75 @@
+/*
+ * This file is part of the SMT project.
+ * Copyright 2010 David R. Cok
+ * Created August 2010
+ */
+package org.smtlib.solvers;
+
+import java.io.IOException;
+import java.math.BigInteger;
+
+import org.smtlib.CharSequenceInfinite;
+
+/** A reply from a solver, read as it is scanned, in which bit-vector constants written in the
+ * legacy form bv<value>[<width>] are rewritten as binary literals, as the solver adapters'
+ * parseResponse(String) methods do for a reply that has been collected into a String.
+ */
+public class LegacyBitVectors extends CharSequenceInfinite {
+
+	/** The reply as written by the solver */
+	final protected CharSequenceInfinite in;
+
+	/** The index in 'in' of the next character to read */
+	protected int next;
+
+	/** Rewritten characters not yet moved into the buffer */
+	final protected StringBuilder rewritten = new StringBuilder();
+
+	public LegacyBitVectors(CharSequenceInfinite in) {
+		super(4096,0,2);
+		this.in = in;
+		this.next = in.discarded();
+	}
+
+	/** Rewrites the rest of the current line of the reply (or, for a long line, enough to fill the
+	 * buffer), then moves as much of it as fits into the buffer */
+	@Override
+	protected boolean readChars() throws IOException {
+		int room = buf.length - amountRead;
+		while (rewritten.length() < room) {
+			char c = in.charAt(next);
+			if (c == endChar) break;
+			if (c == 'b' && rewrite()) continue;
+			rewritten.append(c);
+			++next;
+			if (c == '\n') break;
+		}
+		in.discard(next);
+		int n = Math.min(rewritten.length(),room);
+		if (n == 0) return false;
+		rewritten.getChars(0,n,buf,amountRead);
+		rewritten.delete(0,n);
+		amountRead += n;
+		return true;
+	}
+
+	/** If the text at 'next' is a constant bv<value>[<width>], appends it as a binary literal
+	 * #b<bits> and moves past it, returning true; otherwise returns false */
+	protected boolean rewrite() {
+		int i = next+1;
+		if (in.charAt(i++) != 'v') return false;
+		int valueStart = i;
+		while (Character.isDigit(in.charAt(i))) ++i;
+		if (i == valueStart || in.charAt(i) != '[') return false;
+		int valueEnd = i++;
+		int widthStart = i;
+		while (Character.isDigit(in.charAt(i))) ++i;
+		if (i == widthStart || in.charAt(i) != ']') return false;
+		BigInteger value = new BigInteger(in.subSequence(valueStart,valueEnd).toString());
+		int width = Integer.parseInt(in.subSequence(widthStart,i).toString());
+		rewritten.append("#b");
+		for (int k = width-1; k >= 0; --k) rewritten.append(value.testBit(k) ? '1' : '0');
+		next = i+1;
+		return true;
+	}
+}
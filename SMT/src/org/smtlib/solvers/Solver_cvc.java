@@ -140,6 +140,7 @@ public class Solver_cvc extends Solver_test implements ISolver {
 		try {
 			IResponse status = super.pop(number);
 			if (!status.isOK()) return status;
+			translator = null;
 			if (number == 0) return smtConfig.responseFactory.success();
 			while (number-- > 0) {
 				String response = solverProcess.sendAndListen("POP;\n");
@@ -158,6 +159,7 @@ public class Solver_cvc extends Solver_test implements ISolver {
 		try {
 			IResponse status = super.push(number);
 			if (!status.isOK()) return status;
+			translator = null;
 			if (number == 0) return smtConfig.responseFactory.success();
 			while (number-- > 0) {
 				String response = solverProcess.sendAndListen("PUSH;\n");
@@ -171,9 +173,17 @@ public class Solver_cvc extends Solver_test implements ISolver {
 		}
 	}
 
+	@Override
+	public IResponse reset() {
+		translator = null;
+		return super.reset();
+	}
+
 	@Override
 	public IResponse set_logic(String logicName, /*@Nullable*/ IPos pos) {
-		return super.set_logic(logicName,pos);
+		IResponse status = super.set_logic(logicName,pos);
+		if (status.isOK()) translator = null;
+		return status;
 	}
 
 	@Override
@@ -457,7 +467,7 @@ public class Solver_cvc extends Solver_test implements ISolver {
 	
 	@Override
 	public IResponse get_value(IExpr... terms) {
-		TypeChecker tc = new TypeChecker(symTable);
+		TypeChecker tc = new TypeChecker(symTable,typemap);
 		try {
 			for (IExpr term: terms) {
 				term.accept(tc);
@@ -549,12 +559,25 @@ public class Solver_cvc extends Solver_test implements ISolver {
 
 
 
+	/** The translator kept for the current push level, if smtConfig.memo is set and one has been needed;
+	 * it is dropped by push, pop, reset and set-logic, after which its memoized text may be stale */
+	protected /*@Nullable*/ Translator translator = null;
+
+	/** Returns the translator for the next expression: a new one, or, if smtConfig.memo is set, the
+	 * one kept for the current push level, so that the texts of shared subterms are reused across
+	 * the assertions of that level */
+	protected Translator translator() {
+		if (!smtConfig.memo) return new Translator(typemap,smtConfig);
+		if (translator == null) translator = new Translator(typemap,smtConfig);
+		return translator;
+	}
+
 	public String translate(IExpr expr) throws IVisitor.VisitorException {
-		return expr.accept(new Translator(typemap,smtConfig));
+		return translator().translate(expr);
 	}
 	
 	public String translate(ISort expr) throws IVisitor.VisitorException {
-		return expr.accept(new Translator(typemap,smtConfig));
+		return new Translator(typemap,smtConfig).translate(expr);
 	}
 	
 	/* CVC does distinguish formulas and terms, but allows
@@ -631,7 +654,7 @@ public class Solver_cvc extends Solver_test implements ISolver {
 	}
 	
 	
-	public class Translator extends IVisitor.NullVisitor<String> {
+	public class Translator extends BufferedTranslator {
 		boolean isFormula = true;
 		final private Map<IExpr,ISort> typemap;
 		final private SMT.Configuration smtConfig;
@@ -640,6 +663,14 @@ public class Solver_cvc extends Solver_test implements ISolver {
 			this.typemap = typemap;
 			this.smtConfig = smtConfig;
 		}
+
+		/** The texts of the function applications translated as terms, which differ from their texts as formulas */
+		final private Map<IExpr,String> termMemo = new IdentityHashMap<IExpr,String>();
+
+		@Override
+		protected Map<IExpr,String> memo() {
+			return isFormula ? memo : termMemo;
+		}
 		
 		public /*@Nullable*/ IPos pos(Object e) {
 			return e instanceof IPos.IPosable ? ((IPos.IPosable)e).pos() : null;
@@ -651,11 +682,11 @@ public class Solver_cvc extends Solver_test implements ISolver {
 			} else if (id instanceof IParameterizedIdentifier){
 				IParameterizedIdentifier pid = (IParameterizedIdentifier)id;
 				ISymbol head = pid.headSymbol();
-				String nm = org.smtlib.sexpr.Printer.write(head);
+				StringBuilder nm = new StringBuilder(org.smtlib.sexpr.Printer.write(head));
 				for (INumeral n: pid.numerals()) {
-					nm = nm + "$_" + org.smtlib.sexpr.Printer.write(n);
+					nm.append("$_").append(org.smtlib.sexpr.Printer.write(n));
 				}
-				return nm;
+				return nm.toString();
 			} else {
 				throw new VisitorException("Unexpected kind of identifier: " + id.getClass(),id.pos());
 			}
@@ -666,12 +697,12 @@ public class Solver_cvc extends Solver_test implements ISolver {
 		}
 		
 		@Override
-		public String visit(IAttributedExpr e) throws IVisitor.VisitorException {
+		public Void visit(IAttributedExpr e) throws IVisitor.VisitorException {
 			IExpr expr = e.expr();
 			IAttribute<?> attr = e.attributes().get(0);
 			if (attr.keyword().toString().equals(":named")) {
 				String name = encode(attr.attrValue());
-				String ex = expr.accept(this);
+				String ex = text(expr);
 				String def = name + " : " + "BOOLEAN" + " = " + ex + ";\n";
 				try {
 					String response = solverProcess.sendAndListen(def);
@@ -681,114 +712,113 @@ public class Solver_cvc extends Solver_test implements ISolver {
 				} catch (IOException exc) {
 					throw new VisitorException("Failed to define attributed expression: " + exc, e.pos());
 				}
-				return ex;
+				out.append(ex);
+				return null;
 			} else {
 				throw new VisitorException("Unexpected kind of keyword: " + smtConfig.defaultPrinter.toString(attr.keyword()),attr.pos());
 			}
 		}
 
 		@Override
-		public String visit(IDecimal e) throws IVisitor.VisitorException {
+		public Void visit(IDecimal e) throws IVisitor.VisitorException {
 			// CVC has rationals for decimal numbers
 			BigDecimal v = e.value();
 			int scale = v.scale();
 			if (scale >= 0) {
 				BigDecimal num = v.scaleByPowerOfTen(scale);
 				BigDecimal den = BigDecimal.ONE.scaleByPowerOfTen(scale);
-				return "(" + num.toBigInteger() + "/" + den.toBigInteger() + ")";
+				out.append("(").append(num.toBigInteger()).append("/").append(den.toBigInteger()).append(")");
 			} else {
 				BigDecimal num = v.scaleByPowerOfTen(-scale);
-				return "(" + num.toBigInteger() + ")";
+				out.append("(").append(num.toBigInteger()).append(")");
 			}
+			return null;
 		}
 
 		@Override
-		public String visit(IStringLiteral e) throws IVisitor.VisitorException {
+		public Void visit(IStringLiteral e) throws IVisitor.VisitorException {
 			throw new VisitorException("The CVC solver cannot handle string literals", pos(e));
 		}
 
 		@Override
-		public String visit(INumeral e) throws IVisitor.VisitorException {
-			return org.smtlib.sexpr.Printer.write(e);
+		public Void visit(INumeral e) throws IVisitor.VisitorException {
+			out.append(org.smtlib.sexpr.Printer.write(e));
+			return null;
 		}
 
 		@Override
-		public String visit(IBinaryLiteral e) throws IVisitor.VisitorException {
+		public Void visit(IBinaryLiteral e) throws IVisitor.VisitorException {
 			// CVC prefix is 0bin - LSB is on right, MSB on left
-			return "0bin" + e.value();
+			out.append("0bin").append(e.value());
+			return null;
 		}
 
 		@Override
-		public String visit(IHexLiteral e) throws IVisitor.VisitorException {
+		public Void visit(IHexLiteral e) throws IVisitor.VisitorException {
 			// CVC prefix is 0hex - LSB is on right, MSB on left
-			return "0hex" + e.value();
+			out.append("0hex").append(e.value());
+			return null;
 		}
 		
 		//@ requires iter.hasNext();
-		private <T extends IExpr> String rightassoc(String fcnname, Iterator<T> iter ) throws IVisitor.VisitorException {
+		private <T extends IExpr> void rightassoc(String fcnname, Iterator<T> iter ) throws IVisitor.VisitorException {
 			T n = iter.next();
 			if (!iter.hasNext()) {
-				return n.accept(this);
+				n.accept(this);
 			} else {
-				StringBuilder sb = new StringBuilder();
-				sb.append("(");
-				sb.append(n.accept(this));
-				sb.append(" ");
-				sb.append(fcnname);
-				sb.append(" ");
-				sb.append(rightassoc(fcnname,iter));
-				sb.append(")");
-				return sb.toString();
+				out.append("(");
+				n.accept(this);
+				out.append(" ");
+				out.append(fcnname);
+				out.append(" ");
+				rightassoc(fcnname,iter);
+				out.append(")");
 			}
 		}
 
 		//@ requires iter.hasNext();
 		//@ requires length > 0;
-		private <T extends IExpr> String remove_leftassoc(String fcnname, int length, Iterator<T> iter ) throws IVisitor.VisitorException {
+		private <T extends IExpr> void remove_leftassoc(String fcnname, int length, Iterator<T> iter ) throws IVisitor.VisitorException {
 			if (length == 1) {
-				return iter.next().accept(this);
+				iter.next().accept(this);
 			} else {
-				StringBuilder sb = new StringBuilder();
-				sb.append("(");
-				sb.append(remove_leftassoc(fcnname,length-1,iter));
-				sb.append(" ");
-				sb.append(fcnname);
-				sb.append(" ");
-				sb.append(iter.next().accept(this));
-				sb.append(")");
-				return sb.toString();
+				out.append("(");
+				remove_leftassoc(fcnname,length-1,iter);
+				out.append(" ");
+				out.append(fcnname);
+				out.append(" ");
+				iter.next().accept(this);
+				out.append(")");
 			}
 		}
 		
 		//@ requires iter.hasNext();
 		//@ requires length > 0;
-		private <T extends IAccept> String remove_chainable(String newName, int length, Iterator<IExpr> iter ) throws IVisitor.VisitorException {
-			StringBuilder sb = new StringBuilder();
+		private <T extends IAccept> void remove_chainable(String newName, int length, Iterator<IExpr> iter ) throws IVisitor.VisitorException {
 			if (length == 2) {
-				sb.append("(");
-				sb.append(iter.next().accept(this));
-				sb.append(" ");
-				sb.append(newName);
-				sb.append(" ");
-				sb.append(iter.next().accept(this));
-				sb.append(")");
+				out.append("(");
+				iter.next().accept(this);
+				out.append(" ");
+				out.append(newName);
+				out.append(" ");
+				iter.next().accept(this);
+				out.append(")");
 			} else {
 				boolean first = true;
 				IExpr left = iter.next();
-				sb.append("(");
+				out.append("(");
 				while (iter.hasNext()) {
-					if (first) first = false; else sb.append(" AND ");
-					sb.append("(");
-					sb.append(left.accept(this));
-					sb.append(" ");
-					sb.append(newName);
-					sb.append(" ");
-					sb.append((left = iter.next()).accept(this));
-					sb.append(")");
+					if (first) first = false; else out.append(" AND ");
+					out.append("(");
+					left.accept(this);
+					out.append(" ");
+					out.append(newName);
+					out.append(" ");
+					(left = iter.next()).accept(this);
+					out.append(")");
 				}
-				sb.append(")");
+				out.append(")");
 			}
-			return sb.toString();
 		}
 
 		Set<String> infix = new HashSet<String>();
@@ -797,15 +827,14 @@ public class Solver_cvc extends Solver_test implements ISolver {
 		}
 
 		@Override
-		public String visit(IFcnExpr e) throws IVisitor.VisitorException {
+		protected Void fcn(IFcnExpr e) throws IVisitor.VisitorException {
 			boolean resultIsFormula = this.isFormula;
 			Iterator<IExpr> iter = e.args().iterator();
 			if (!iter.hasNext()) throw new SMTLIBRuntimeException("Did not expect an empty argument list");
 			String oldName = e.head().headSymbol().toString();
-			String newName = e.head().headSymbol().accept(this);
+			String newName = text(e.head().headSymbol());
 			int length = e.args().size();
 			// FIXME - should we be doing these comparisons with strings?
-			StringBuilder sb = new StringBuilder();
 			try {
 				// Determine if the arguments are formulas or terms
 				if (resultIsFormula) {
@@ -829,12 +858,15 @@ public class Solver_cvc extends Solver_test implements ISolver {
 							if ("=".equals(newName)) newName = "<=>";
 							else if ("DISTINCT".equals(newName)) {
 								if (e.args().size() > 2) {
-									return "FALSE";
+									out.append("FALSE");
 								} else {
-									String a1 = iter.next().accept(this);
-									String a2 = iter.next().accept(this);
-									return "((" + a1 + ")XOR(" + a2 + "))"; 
+									out.append("((");
+									iter.next().accept(this);
+									out.append(")XOR(");
+									iter.next().accept(this);
+									out.append("))");
 								}
+								return null;
 							} // FIXME - what about ite?
 						} else {
 							// Arguments must be terms
@@ -847,123 +879,123 @@ public class Solver_cvc extends Solver_test implements ISolver {
 
 				if (infix.contains(newName) && length >= 2) {
 					// infix
-					sb.append("(");
-					sb.append(iter.next().accept(this));
+					out.append("(");
+					iter.next().accept(this);
 					while (iter.hasNext()) {
-						sb.append(" ");
-						sb.append(newName);
-						sb.append(" ");
-						sb.append(iter.next().accept(this));
+						out.append(" ");
+						out.append(newName);
+						out.append(" ");
+						iter.next().accept(this);
 					}
-					sb.append(")");
+					out.append(")");
 				} else if (newName.equals("=>")) {
-					sb.append(rightassoc(newName,iter));
+					rightassoc(newName,iter);
 				} else if (oldName.equals("=")) {
 					boolean argsAreBool = typemap.get(e.args().get(0)).isBool();
 					boolean needsAnd = length > 2;
-					if (needsAnd) sb.append("(");
-					String right = iter.next().accept(this);
+					if (needsAnd) out.append("(");
+					String right = text(iter.next());
 					while (iter.hasNext()) {
 						String left = right;
-						right = iter.next().accept(this);
+						right = text(iter.next());
 						if (resultIsFormula) {
-							sb.append("((");
-							sb.append(left);
-							sb.append(")");
-							sb.append(newName);
-							sb.append("(");
-							sb.append(right);
-							sb.append("))");
+							out.append("((");
+							out.append(left);
+							out.append(")");
+							out.append(newName);
+							out.append("(");
+							out.append(right);
+							out.append("))");
 						} else {
 							throw new VisitorException("CVC does not permit = in terms",e.pos());
 						}
 						if (needsAnd) {
-							if (!iter.hasNext()) sb.append(")");
-							else sb.append(" AND ");
+							if (!iter.hasNext()) out.append(")");
+							else out.append(" AND ");
 						}
 					}
 				} else if (newName.equals("~") || newName.equals("NOT")) {
-					sb.append("(");
-					sb.append(newName);
-					sb.append(" ");
-					sb.append(iter.next().accept(this));
-					sb.append(" )");
+					out.append("(");
+					out.append(newName);
+					out.append(" ");
+					iter.next().accept(this);
+					out.append(" )");
 				} else if (newName.equals("DISTINCT")) {
 					if (isFormula) {
 						if (length == 2) {
-							sb.append("( ");
-							sb.append(iter.next().accept(this));
-							sb.append(" XOR ");
-							sb.append(iter.next().accept(this));
-							sb.append(" )");
+							out.append("( ");
+							iter.next().accept(this);
+							out.append(" XOR ");
+							iter.next().accept(this);
+							out.append(" )");
 						} else {
-							sb.append("( ");
+							out.append("( ");
 							boolean first = true;
 							while (iter.hasNext()) {
 								IExpr left = iter.next();
 								Iterator<IExpr> iter2 = e.args().iterator();
 								IExpr right;
 								while ((right = iter2.next()) != left) {
-									if (first) first = false; else sb.append(" AND ");
-									sb.append("( ");
-									sb.append(left.accept(this));
-									sb.append(" XOR ");
-									sb.append(right.accept(this));
-									sb.append(" )");
+									if (first) first = false; else out.append(" AND ");
+									out.append("( ");
+									left.accept(this);
+									out.append(" XOR ");
+									right.accept(this);
+									out.append(" )");
 								}
 							}
-							sb.append(" )");
+							out.append(" )");
 						}
 					} else {
-						sb.append("DISTINCT(");
-						sb.append(iter.next().accept(this));
+						out.append("DISTINCT(");
+						iter.next().accept(this);
 						while (iter.hasNext()) {
-							sb.append(",");
-							sb.append(iter.next().accept(this));
+							out.append(",");
+							iter.next().accept(this);
 						}
-						sb.append(")");
+						out.append(")");
 					}
 				} else if (symTable.arrayTheorySet && oldName.equals("select")) {
-					sb.append(iter.next().accept(this));
-					sb.append("[");
-					sb.append(iter.next().accept(this));
-					sb.append("]");
+					iter.next().accept(this);
+					out.append("[");
+					iter.next().accept(this);
+					out.append("]");
 				} else if (symTable.arrayTheorySet && oldName.equals("store")) {
-					sb.append("(");
-					sb.append(iter.next().accept(this));
-					sb.append(" WITH [");
-					sb.append(iter.next().accept(this));
-					sb.append("] := ");
-					sb.append(iter.next().accept(this));
-					sb.append(")");
+					out.append("(");
+					iter.next().accept(this);
+					out.append(" WITH [");
+					iter.next().accept(this);
+					out.append("] := ");
+					iter.next().accept(this);
+					out.append(")");
 				} else if (oldName.equals("ite")) {
 					if (!resultIsFormula) {
 						throw new VisitorException("CVC only allows ite constructs at the formula level",e.pos());
 					}
 					// FIXME - formula only
-					sb.append("(IF ");
-					sb.append(iter.next().accept(this));
-					sb.append(" THEN ");
-					sb.append(iter.next().accept(this));
-					sb.append(" ELSE ");
-					sb.append(iter.next().accept(this));
-					sb.append(" ENDIF)");
+					out.append("(IF ");
+					iter.next().accept(this);
+					out.append(" THEN ");
+					iter.next().accept(this);
+					out.append(" ELSE ");
+					iter.next().accept(this);
+					out.append(" ENDIF)");
 				} else if (oldName.equals(">") || oldName.equals("<") || oldName.equals(">=") || oldName.equals("<=")) {
-					sb.append(remove_chainable(newName,length,iter));
+					remove_chainable(newName,length,iter);
 				} else if (length == 1 && newName.equals("-")) {
-					sb.append("(");
-					sb.append(oldName);
-					sb.append(" ");
-					sb.append(iter.next().accept(this));
-					sb.append(")");
+					out.append("(");
+					out.append(oldName);
+					out.append(" ");
+					iter.next().accept(this);
+					out.append(")");
 				} else if (symTable.bitVectorTheorySet && oldName.equals("extract")) {
 					IParameterizedIdentifier pid = (IParameterizedIdentifier)e.head();
-					sb.append(iter.next().accept(this));
-					sb.append("[");
-					sb.append(org.smtlib.sexpr.Printer.write(pid.numerals().get(0)));
-					sb.append(":");
-					sb.append(org.smtlib.sexpr.Printer.write(pid.numerals().get(1)));
-					sb.append("]");
+					iter.next().accept(this);
+					out.append("[");
+					out.append(org.smtlib.sexpr.Printer.write(pid.numerals().get(0)));
+					out.append(":");
+					out.append(org.smtlib.sexpr.Printer.write(pid.numerals().get(1)));
+					out.append("]");
 				} else if (symTable.bitVectorTheorySet && (oldName.equals("bvudiv") || oldName.equals("bvurem") || oldName.equals("bvshl") || oldName.equals("bvlshr")
 						|| oldName.equals("bvsge") || oldName.equals("bvsgt") || oldName.equals("bvsle") || oldName.equals("bvslt") 
 						|| oldName.equals("bvashr") 
@@ -973,13 +1005,13 @@ public class Solver_cvc extends Solver_test implements ISolver {
 					throw new VisitorException("SMT BitVector function " + oldName + " is not implemented in cvc",e.pos());
 				} else if (symTable.bitVectorTheorySet && ("@".equals(newName) || (oldName.startsWith("bv") && newName != null && newName.charAt(0) != 'B'))) {
 					// infix
-					sb.append("((");
-					sb.append(iter.next().accept(this));
-					sb.append(")");
-					sb.append(newName);
-					sb.append("(");
-					sb.append(iter.next().accept(this));
-					sb.append("))");
+					out.append("((");
+					iter.next().accept(this);
+					out.append(")");
+					out.append(newName);
+					out.append("(");
+					iter.next().accept(this);
+					out.append("))");
 				} else if (symTable.bitVectorTheorySet && (newName.equals("BVPLUS") || newName.equals("BVSUB") || newName.equals("BVMULT"))) {
 					ISort sort = typemap.get(e);
 					int k = 1;
@@ -989,14 +1021,14 @@ public class Solver_cvc extends Solver_test implements ISolver {
 							k = ((IParameterizedIdentifier)id).numerals().get(0).intValue();
 						}
 					}
-					sb.append(newName);
-					sb.append("(");
-					sb.append(k);
-					sb.append(",");
-					sb.append(iter.next().accept(this));
-					sb.append(",");
-					sb.append(iter.next().accept(this));
-					sb.append(")");
+					out.append(newName);
+					out.append("(");
+					out.append(k);
+					out.append(",");
+					iter.next().accept(this);
+					out.append(",");
+					iter.next().accept(this);
+					out.append(")");
 				} else if (symTable.bitVectorTheorySet && newName.equals("sign_extend")) {
 					ISort sort = typemap.get(e);
 					int k = 1;
@@ -1008,12 +1040,12 @@ public class Solver_cvc extends Solver_test implements ISolver {
 					}
 //					List<INumeral> numerals = ((IParameterizedIdentifier)e.head()).numerals();
 //					int arg = numerals.get(0).intValue();
-					sb.append("SX");
-					sb.append("(");
-					sb.append(iter.next().accept(this));
-					sb.append(",");
-					sb.append(k);
-					sb.append(")");
+					out.append("SX");
+					out.append("(");
+					iter.next().accept(this);
+					out.append(",");
+					out.append(k);
+					out.append(")");
 				} else if (symTable.bitVectorTheorySet && newName.equals("rotate_left")) {
 					ISort sort = typemap.get(e);
 					int k = 1;
@@ -1025,19 +1057,19 @@ public class Solver_cvc extends Solver_test implements ISolver {
 					}
 					List<INumeral> numerals = ((IParameterizedIdentifier)e.head()).numerals();
 					int arg = numerals.get(0).intValue();
-					String expr = (iter.next().accept(this));
+					String expr = text(iter.next());
 
-					sb.append("(");
-					sb.append(expr);
-					sb.append("[");
-					sb.append(k-1);
-					sb.append(":");
-					sb.append(k-arg);
-					sb.append("]@");
-					sb.append(expr);
-					sb.append("[");
-					sb.append(k-arg-1);
-					sb.append(":0])");
+					out.append("(");
+					out.append(expr);
+					out.append("[");
+					out.append(k-1);
+					out.append(":");
+					out.append(k-arg);
+					out.append("]@");
+					out.append(expr);
+					out.append("[");
+					out.append(k-arg-1);
+					out.append(":0])");
 				} else if (symTable.bitVectorTheorySet && newName.equals("rotate_right")) {
 					ISort sort = typemap.get(e);
 					int k = 1;
@@ -1049,19 +1081,19 @@ public class Solver_cvc extends Solver_test implements ISolver {
 					}
 					List<INumeral> numerals = ((IParameterizedIdentifier)e.head()).numerals();
 					int arg = numerals.get(0).intValue();
-					String expr = (iter.next().accept(this));
+					String expr = text(iter.next());
 
-					sb.append("(");
-					sb.append(expr);
-					sb.append("[");
-					sb.append(k-1);
-					sb.append(":");
-					sb.append(arg);
-					sb.append("]@");
-					sb.append(expr);
-					sb.append("[");
-					sb.append(arg-1);
-					sb.append(":0])");
+					out.append("(");
+					out.append(expr);
+					out.append("[");
+					out.append(k-1);
+					out.append(":");
+					out.append(arg);
+					out.append("]@");
+					out.append(expr);
+					out.append("[");
+					out.append(arg-1);
+					out.append(":0])");
 				} else if (symTable.bitVectorTheorySet && newName.equals("zero_extend")) {
 					ISort sort = typemap.get(e);
 					int k = 1;
@@ -1073,58 +1105,57 @@ public class Solver_cvc extends Solver_test implements ISolver {
 					}
 					List<INumeral> numerals = ((IParameterizedIdentifier)e.head()).numerals();
 					int arg = numerals.get(0).intValue();
-					String expr = (iter.next().accept(this));
 					
-					String addedzeros = "";
-					while (addedzeros.length() < arg) {
-						addedzeros = addedzeros + zeros.substring(zeros.length() - (arg-addedzeros.length()) );
+					out.append("(0bin");
+					for (int added = 0; added < arg; ) {
+						int n = Math.min(arg - added, zeros.length());
+						out.append(zeros, 0, n);
+						added += n;
 					}
-					sb.append("(0bin");
-					sb.append(addedzeros);
-					sb.append("@");
-					sb.append(expr);
-					sb.append(")");
+					out.append("@");
+					iter.next().accept(this);
+					out.append(")");
 				} else if (symTable.bitVectorTheorySet && newName.equals("repeat")) {
 					List<INumeral> numerals = ((IParameterizedIdentifier)e.head()).numerals();
 					int arg = numerals.get(0).intValue();
-					String expr = (iter.next().accept(this));
-					sb.append("((");
-					sb.append(expr);
+					String expr = text(iter.next());
+					out.append("((");
+					out.append(expr);
 					for (int i=1; i<arg; i++) {
-						sb.append(")@(");
-						sb.append(expr);
+						out.append(")@(");
+						out.append(expr);
 					}
-					sb.append("))");
+					out.append("))");
 				} else if (e.head() instanceof ParameterizedIdentifier) {
 					throw new VisitorException("Unknown parameterized function symbol: " + oldName, e.pos());
 				} else {
 					// usual functional notation
-					sb.append(newName == null ? oldName : newName);
+					out.append(newName == null ? oldName : newName);
 					if (!iter.hasNext()) {
-						sb.append("()"); // FIXME - should this have no parens at all?
+						out.append("()"); // FIXME - should this have no parens at all?
 					} else {
-						sb.append("(");
-						sb.append(iter.next().accept(this));
+						out.append("(");
+						iter.next().accept(this);
 						while (iter.hasNext()) {
-							sb.append(",");
-							sb.append(iter.next().accept(this));
+							out.append(",");
+							iter.next().accept(this);
 						}
-						sb.append(")");
+						out.append(")");
 					}
 				}
 			} finally {
 				isFormula = resultIsFormula;
 			}
-			return sb.toString();
+			return null;
 		}
 
 		@Override
-		public String visit(ISymbol e) throws IVisitor.VisitorException {
+		public Void visit(ISymbol e) throws IVisitor.VisitorException {
 			// FIXME - need to check what characters are allowed in a CVC name
 			String oldName = e.value();
 			if (!isFormula) {
-				if ("true".equals(oldName)) return "$_TRUE";
-				if ("false".equals(oldName)) return "$_FALSE";
+				if ("true".equals(oldName)) { out.append("$_TRUE"); return null; }
+				if ("false".equals(oldName)) { out.append("$_FALSE"); return null; }
 			}
 			String newName = fcnNames.get(oldName);
 			if (newName != null) {
@@ -1134,127 +1165,133 @@ public class Solver_cvc extends Solver_test implements ISolver {
 				// Use the ? character as an escape
 				newName = oldName;
 			}
-			return newName;
+			out.append(newName);
+			return null;
 		}
 
 		@Override
-		public String visit(IKeyword e) throws IVisitor.VisitorException {
+		public Void visit(IKeyword e) throws IVisitor.VisitorException {
 			throw new VisitorException("Did not expect a Keyword in an expression to be translated",pos(e));
 		}
 
 		@Override
-		public String visit(IError e) throws IVisitor.VisitorException {
+		public Void visit(IError e) throws IVisitor.VisitorException {
 			throw new VisitorException("Did not expect a Error token in an expression to be translated",pos(e));
 		}
 		
 		private final static String zeros = "00000000000000000000000000000000000000000000000000";
 
 		@Override
-		public String visit(IParameterizedIdentifier e) throws IVisitor.VisitorException {
+		public Void visit(IParameterizedIdentifier e) throws IVisitor.VisitorException {
 			String s = e.headSymbol().toString();
 			if (s.matches("bv[0-9]+")) {
 				int length = e.numerals().get(0).intValue();
 				BigInteger value = new BigInteger(s.substring(2));
 				String bits = value.toString(2);
-				while (bits.length() < length) {
-					int n = zeros.length() - (length - bits.length());
-					if (n < 0) n = 0;
-					bits = zeros.substring(n) + bits;
+				out.append("0bin");
+				for (int pad = length - bits.length(); pad > 0; ) {
+					int n = Math.min(pad, zeros.length());
+					out.append(zeros, 0, n);
+					pad -= n;
 				}
-				return "0bin" + bits;
+				out.append(bits);
+				return null;
 			}
 			// FIXME - use default printer properly to print Symbol
 			throw new IVisitor.VisitorException("Unsupported parameterized function symbol: " + e.headSymbol().toString(),e.pos());
 		}
 
 		@Override
-		public String visit(IForall e) throws IVisitor.VisitorException {
+		public Void visit(IForall e) throws IVisitor.VisitorException {
 			// FIXME - I think CVC only allows this in formulas
-			StringBuilder sb = new StringBuilder();
-			sb.append("(FORALL (");
+			out.append("(FORALL (");
 			boolean first = true;
 			for (IDeclaration d: e.parameters()) {
-				if (first) first = false; else sb.append(", ");
-				sb.append(d.parameter().accept(this));
-				sb.append(":");
-				sb.append(d.sort().accept(this));
+				if (first) first = false; else out.append(", ");
+				d.parameter().accept(this);
+				out.append(":");
+				d.sort().accept(this);
 			}
-			sb.append("): ");
-			sb.append(e.expr().accept(this));
-			sb.append(")");
-			return sb.toString();
+			out.append("): ");
+			e.expr().accept(this);
+			out.append(")");
+			return null;
 		}
 
 		@Override
-		public String visit(IExists e) throws IVisitor.VisitorException {
+		public Void visit(IExists e) throws IVisitor.VisitorException {
 			// FIXME - I think CVC only allows this in formulas
-			StringBuilder sb = new StringBuilder();
-			sb.append("(EXISTS (");
+			out.append("(EXISTS (");
 			boolean first = true;
 			for (IDeclaration d: e.parameters()) {
-				if (first) first = false; else sb.append(", ");
-				sb.append(d.parameter().accept(this));
-				sb.append(":");
-				sb.append(d.sort().accept(this));
+				if (first) first = false; else out.append(", ");
+				d.parameter().accept(this);
+				out.append(":");
+				d.sort().accept(this);
 			}
-			sb.append("): ");
-			sb.append(e.expr().accept(this));
-			sb.append(")");
-			return sb.toString();
+			out.append("): ");
+			e.expr().accept(this);
+			out.append(")");
+			return null;
 		}
 
 		@Override
-		public String visit(ILet e) throws IVisitor.VisitorException {
+		public Void visit(ILet e) throws IVisitor.VisitorException {
 			// FIXME - only in formulas?
-			StringBuilder sb = new StringBuilder();
-			sb.append("(LET ");
+			out.append("(LET ");
 			boolean first = true;
 			for (IBinding d: e.bindings()) {
-				if (first) first = false; else sb.append(", ");
-				sb.append(d.parameter().accept(this));
-				sb.append(" = ");
-				sb.append(d.expr().accept(this));
+				if (first) first = false; else out.append(", ");
+				d.parameter().accept(this);
+				out.append(" = ");
+				d.expr().accept(this);
 			}
-			sb.append(" IN ");
-			sb.append(e.expr().accept(this));
-			sb.append(")");
-			return sb.toString();
+			out.append(" IN ");
+			e.expr().accept(this);
+			out.append(")");
+			return null;
 		}
 
-		public String visit(ISort.IFamily s) throws IVisitor.VisitorException {
+		public Void visit(ISort.IFamily s) throws IVisitor.VisitorException {
 			return s.identifier().accept(this);
 		}
 		
-		public String visit(ISort.IAbbreviation s) throws IVisitor.VisitorException {
+		public Void visit(ISort.IAbbreviation s) throws IVisitor.VisitorException {
 			throw new UnsupportedOperationException("CVC visit-ISort.IAbbreviation");
 		}
 		
-		public String visit(ISort.IApplication s) throws IVisitor.VisitorException {
-			if (s.isBool()) return "BOOLEAN";
-			if (s.parameters().size() == 0) {
+		public Void visit(ISort.IApplication s) throws IVisitor.VisitorException {
+			if (s.isBool()) {
+				out.append("BOOLEAN");
+			} else if (s.parameters().size() == 0) {
 				String sort = encodeSort(s.family());
-				if ("Int".equals(sort)) return "INT";
-				if ("Real".equals(sort)) return "REAL";
-				return sort; // FIXME - Array, BitVector
+				if ("Int".equals(sort)) sort = "INT";
+				else if ("Real".equals(sort)) sort = "REAL";
+				out.append(sort); // FIXME - Array, BitVector
 			} else if (s.parameters().size() == 2) {
 				String sort = encodeSort(s.family());
 				if ("ARRAY".equals(sort)) {
 					List<ISort> args = s.parameters();
-					return "(ARRAY " + args.get(0).accept(this) + " OF " + args.get(1).accept(this) +")";
+					out.append("(ARRAY ");
+					args.get(0).accept(this);
+					out.append(" OF ");
+					args.get(1).accept(this);
+					out.append(")");
 				} else {
-					return "UNKNOWN";
+					out.append("UNKNOWN");
 				}
 				
 			} else {
-				return "UNKNOWN"; // FIXME
+				out.append("UNKNOWN"); // FIXME
 				//throw new UnsupportedOperationException("CVC visit-ISort.IExpression");
 			}
+			return null;
 		}
 		
-		public String visit(ISort.IFcnSort s) {
+		public Void visit(ISort.IFcnSort s) {
 			throw new UnsupportedOperationException("CVC visit-ISort.IFcnSort");
 		}
-		public String visit(ISort.IParameter s) {
+		public Void visit(ISort.IParameter s) {
 			throw new UnsupportedOperationException("CVC visit-ISort.IParameter");
 		}
 	}
@@ -14,11 +14,13 @@ import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.PrintStream;
 import java.io.StringWriter;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ScheduledFuture;
 
 import org.smtlib.*;
 import org.smtlib.ICommand.Ideclare_const;
@@ -33,9 +35,10 @@ import org.smtlib.IParser.ParserException;
 import org.smtlib.SMT.Configuration.SMTLIB;
 import org.smtlib.impl.Pos;
 import org.smtlib.impl.Response;
+import org.smtlib.sexpr.Sharing;
 
 /** This class is an adapter that takes the SMT-LIB ASTs and translates them into SMT commands */
-public class Solver_cvc4 extends AbstractSolver implements ISolver {
+public class Solver_cvc4 extends AbstractSolver implements ISolver, SolverPool.IPoolable {
 		
 	/** A reference to the SMT configuration */
 	protected SMT.Configuration smtConfig;
@@ -93,10 +96,9 @@ public class Solver_cvc4 extends AbstractSolver implements ISolver {
 			
 			@Override
 			public String listen() throws IOException {
-				// FIXME - need to put the two reads in parallel, otherwise one might block on a full buffer, preventing the other from completing
-				String err = listenThru(errors,null);
-				String out = listenThru(fromProcess,endMarker);
-				err = err + listenThru(errors,null);
+				StringBuilder errsb = new StringBuilder();
+				String out = listenThru(endMarker,errsb);
+				String err = errsb.toString();
 				if (out.endsWith(endMarker)) out = out.substring(0,out.length()-endMarker.length());
 				if (log != null) {
 					if (!out.isEmpty()) { log.write(";OUT: "); log.write(out); log.write(eol); log.flush(); } // input usually ends with a prompt and no line terminator
@@ -130,6 +132,31 @@ public class Solver_cvc4 extends AbstractSolver implements ISolver {
 		}
 	}
 	
+	@Override
+	public boolean isRunning() {
+		return solverProcess != null && solverProcess.isRunning(true);
+	}
+	
+	@Override
+	public IResponse recycle() {
+		try {
+			checkSatStatus = null;
+			options.clear();
+			options.putAll(smtConfig.utils.defaults);
+			// (reset) clears the :verbosity that start() set
+			if (smtConfig.solverVerbosity > 0) SolverPool.reset(solverProcess,"(set-option :verbosity " + smtConfig.solverVerbosity + ")\n");
+			else SolverPool.reset(solverProcess);
+			return smtConfig.responseFactory.success();
+		} catch (IOException e) {
+			return smtConfig.responseFactory.error("jSMTLIB: Failed to reset solver: " + e);
+		}
+	}
+	
+	@Override
+	public void rebind(SMT.Configuration smtConfig) {
+		this.smtConfig = smtConfig;
+	}
+	
 	/** Translates an S-expression into SMT syntax */
 	protected String translate(IAccept sexpr) throws IVisitor.VisitorException {
 		return translateSMT(sexpr);
@@ -195,7 +222,7 @@ public class Solver_cvc4 extends AbstractSolver implements ISolver {
 	@Override
 	public IResponse assertExpr(IExpr sexpr) {
 		try {
-			return sendCommand("(assert " + translate(sexpr) + ")");
+			return sendCommand("(assert " + translate(Sharing.share(sexpr,smtConfig.exprFactory,smtConfig.share)) + ")");
 		} catch (IVisitor.VisitorException e) {
 			return smtConfig.responseFactory.error("jSMTLIB: Failed to assert expression: " + e + " " + sexpr);
 		} catch (Exception e) {
@@ -267,6 +294,24 @@ public class Solver_cvc4 extends AbstractSolver implements ISolver {
 		return res;
 	}
 
+	@Override
+	public IResponse check_sat(Duration timeout) {
+		ScheduledFuture<?> deadline = solverProcess.cancelAfter(smtConfig.cancelDeadline(timeout));
+		IResponse res;
+		try {
+			res = check_sat();
+		} finally {
+			deadline.cancel(false);
+		}
+		if (solverProcess.isCancelled()) checkSatStatus = res = smtConfig.responseFactory.timeout();
+		return res;
+	}
+	
+	@Override
+	public void cancel() {
+		if (solverProcess != null) solverProcess.cancel();
+	}
+
 	@Override
 	public IResponse reset() {
 	    return sendCommand("(reset)");
@@ -0,0 +1,645 @@
+/*
+ * This file is part of the SMT project.
+ * Copyright 2010 David R. Cok
+ * Created August 2010
+ */
+package org.smtlib.solvers;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+import org.smtlib.*;
+import org.smtlib.ICommand.Ideclare_const;
+import org.smtlib.ICommand.Ideclare_datatypes;
+import org.smtlib.ICommand.Ideclare_fun;
+import org.smtlib.ICommand.Ideclare_sort;
+import org.smtlib.ICommand.Idefine_fun;
+import org.smtlib.ICommand.Idefine_sort;
+import org.smtlib.IExpr.IKeyword;
+import org.smtlib.IExpr.IStringLiteral;
+
+/** This class is an adapter that runs a portfolio of solvers: every command that changes the
+ * solver state is forwarded to each member solver, and check-sat races the members in parallel,
+ * answering with the first definitive sat or unsat. Members that are still working when the
+ * race is decided are cancelled; they are restarted and brought back in sync (by replaying the
+ * commands sent so far) before the next command. Queries about the result of a check-sat
+ * (get-value, get-model, etc.) are answered by the member that won the race.
+ * <P>
+ * The members are named by the 'executable' of the portfolio, as a comma-separated list of solver
+ * names, each optionally followed by '=' and the path of its executable, e.g.
+ * "z3_4_4,cvc4=/usr/bin/cvc4,yices2"; the members are started as if named with --solver.
+ * <P>
+ * The wins of each member are counted per logic by each portfolio; later races start the members
+ * in order of their wins, and once a logic has had pruneAfter races, members that have never won
+ * on that logic take part only in every pruneAfter-th race (they are still kept in sync), so that
+ * a member that has become the better choice can still show it.
+ * @author David Cok
+ */
+public class Solver_portfolio extends AbstractSolver implements ISolver {
+
+	/** A reference to the SMT configuration */
+	protected SMT.Configuration smtConfig;
+
+	/** A reference to the SMT configuration */
+	@Override
+	public SMT.Configuration smt() { return smtConfig; }
+
+	/** The number of races on a logic after which members that have never won on it are raced only
+	 * occasionally */
+	static public int pruneAfter = 20;
+
+	/** The number of wins of each member solver, by logic and then by solver name */
+	final protected Map<String,Map<String,Integer>> wins = new HashMap<String,Map<String,Integer>>();
+
+	/** The number of races decided, by logic */
+	final protected Map<String,Integer> races = new HashMap<String,Integer>();
+
+	/** The threads on which members run their check-sat commands */
+	static final protected ExecutorService racers = Executors.newCachedThreadPool(new ThreadFactory() {
+		@Override
+		public Thread newThread(Runnable r) {
+			Thread t = new Thread(r,"Solver_portfolio racer");
+			t.setDaemon(true);
+			return t;
+		}
+	});
+
+	/** A solver in the portfolio */
+	protected static class Member {
+		/** The name of the solver, as used with --solver */
+		final public String name;
+		/** The executable path, or null for the default */
+		final public /*@Nullable*/ String executable;
+		/** The running solver, or null if it must be (re)started and brought up to date */
+		public /*@Nullable*/ ISolver solver;
+
+		public Member(String name, /*@Nullable*/ String executable) {
+			this.name = name;
+			this.executable = executable;
+		}
+	}
+
+	/** A state-changing command, which is forwarded to each member and recorded so that it can be
+	 * replayed to a member that is restarted */
+	protected static abstract class Step {
+		/** Applies the command to the given solver */
+		abstract public IResponse apply(ISolver solver);
+	}
+
+	/** The member solvers */
+	final protected List<Member> members = new ArrayList<Member>();
+
+	/** The state-changing commands sent since the start or the last reset, less those undone by a pop
+	 * (cf. pop) */
+	final protected List<Step> history = new ArrayList<Step>();
+
+	/** For each assertion level pushed and not yet popped, innermost last, the index in history of
+	 * the push command that created it */
+	final protected List<Integer> scopes = new ArrayList<Integer>();
+
+	/** Whether the members were told to keep declarations when their scope is popped, in which case
+	 * pops are replayed rather than undone in the history */
+	protected boolean globalDeclarations = false;
+
+	/** The member that won the most recent race, or null */
+	protected /*@Nullable*/ Member winner = null;
+
+	/** The logic set by set-logic, or null */
+	protected /*@Nullable*/ String logic = null;
+
+	/** The checkSatStatus returned by check-sat, if sufficiently recent, otherwise null */
+	protected /*@Nullable*/ IResponse checkSatStatus = null;
+
+	@Override
+	public /*@Nullable*/IResponse checkSatStatus() { return checkSatStatus; }
+
+	/** Used to start the member solvers */
+	protected SMT smt;
+
+	/** Creates a portfolio of the solvers listed (comma-separated) in the argument */
+	public Solver_portfolio(SMT.Configuration smtConfig, /*@NonNull*/ String executable) {
+		this.smtConfig = smtConfig;
+		for (String spec: executable.split(",")) {
+			spec = spec.trim();
+			if (spec.isEmpty()) continue;
+			int k = spec.indexOf('=');
+			if (k < 0) members.add(new Member(spec,null));
+			else members.add(new Member(spec.substring(0,k).trim(),spec.substring(k+1).trim()));
+		}
+	}
+
+	@Override
+	public IResponse start() {
+		if (members.isEmpty()) {
+			return smtConfig.responseFactory.error("jSMTLIB: A portfolio needs a comma-separated list of solvers as its executable");
+		}
+		smt = new SMT();
+		smt.smtConfig = smtConfig;
+		smt.props = smt.readProperties();
+		for (Member m: members) {
+			m.solver = smt.startSolver(smtConfig,m.name,m.executable);
+			if (m.solver == null) {
+				return smtConfig.responseFactory.error("jSMTLIB: Failed to start the portfolio member " + m.name);
+			}
+		}
+		if (smtConfig.verbose != 0) smtConfig.log.logDiag("Started portfolio " + members.size());
+		return smtConfig.responseFactory.success();
+	}
+
+	/** Restarts any members that were cancelled, replaying the command history to them; a member
+	 * that cannot be restarted is dropped from the portfolio */
+	protected void resync() {
+		java.util.Iterator<Member> iter = members.iterator();
+		while (iter.hasNext()) {
+			Member m = iter.next();
+			if (m.solver != null) continue;
+			m.solver = smt.startSolver(smtConfig,m.name,m.executable);
+			if (m.solver == null) {
+				smtConfig.log.logDiag("jSMTLIB: Dropping portfolio member " + m.name + ", which could not be restarted");
+				iter.remove();
+				continue;
+			}
+			for (Step step: history) apply(step,m.solver);
+			if (smtConfig.verbose != 0) smtConfig.log.logDiag("Resynchronized portfolio member " + m.name);
+		}
+	}
+
+	/** Applies a step to a solver, converting an exception into an error response */
+	protected IResponse apply(Step step, ISolver solver) {
+		try {
+			return step.apply(solver);
+		} catch (RuntimeException e) {
+			String msg = e.getMessage();
+			return smtConfig.responseFactory.error(msg != null ? msg : e.toString());
+		}
+	}
+
+	/** Forwards a state-changing command to every member, recording it; the response is the first
+	 * member's, unless some member reported an error, in which case it is that error. */
+	protected IResponse forward(Step step) {
+		return forward(step,true);
+	}
+
+	/** Forwards a state-changing command to every member, as forward(Step) does, recording it in the
+	 * history only if record is true */
+	protected IResponse forward(Step step, boolean record) {
+		resync();
+		if (record) history.add(step);
+		checkSatStatus = null;
+		IResponse result = null;
+		for (Member m: members) {
+			IResponse r = apply(step,m.solver);
+			if (smtConfig.verbose != 0 && r.isError()) smtConfig.log.logDiag("Portfolio member " + m.name + " failed: " + ((IResponse.IError)r).errorMsg());
+			if (result == null || (r.isError() && !result.isError())) result = r;
+		}
+		return result != null ? result : smtConfig.responseFactory.error("jSMTLIB: The portfolio has no solvers");
+	}
+
+	/** Sends a query that does not change the solver state to one member: the winner of the most
+	 * recent race, if there is one, else the first member */
+	protected IResponse query(Step step) {
+		resync();
+		Member m = winner != null && winner.solver != null ? winner : members.isEmpty() ? null : members.get(0);
+		if (m == null) return smtConfig.responseFactory.error("jSMTLIB: The portfolio has no solvers");
+		return apply(step,m.solver);
+	}
+
+	/** Returns true if the response is a definitive sat or unsat */
+	protected boolean isDefinitive(IResponse r) {
+		return r == smtConfig.responseFactory.sat() || r == smtConfig.responseFactory.unsat();
+	}
+
+	/** Returns the members that take part in a race on the current logic, best first */
+	protected List<Member> contestants() {
+		List<Member> list = new ArrayList<Member>(members);
+		synchronized (wins) {
+			final Map<String,Integer> counts = logic == null ? null : wins.get(logic);
+			if (counts == null) return list;
+			Collections.sort(list, new Comparator<Member>() {
+				@Override
+				public int compare(Member a, Member b) {
+					return count(counts,b.name) - count(counts,a.name);
+				}
+			});
+			Integer n = races.get(logic);
+			if (n != null && n >= pruneAfter && n % pruneAfter != 0) {
+				List<Member> winners = new ArrayList<Member>();
+				for (Member m: list) if (count(counts,m.name) > 0) winners.add(m);
+				if (!winners.isEmpty()) return winners;
+			}
+		}
+		return list;
+	}
+
+	static private int count(Map<String,Integer> counts, String name) {
+		Integer n = counts.get(name);
+		return n == null ? 0 : n;
+	}
+
+	/** Records a win by the named member on the current logic */
+	protected void recordWin(String name) {
+		String key = logic == null ? "" : logic;
+		synchronized (wins) {
+			Map<String,Integer> counts = wins.get(key);
+			if (counts == null) wins.put(key, counts = new HashMap<String,Integer>());
+			counts.put(name, count(counts,name) + 1);
+			Integer n = races.get(key);
+			races.put(key, n == null ? 1 : n + 1);
+		}
+	}
+
+	/** Returns a copy of the win counts of each solver, by logic */
+	public Map<String,Map<String,Integer>> winStatistics() {
+		Map<String,Map<String,Integer>> copy = new HashMap<String,Map<String,Integer>>();
+		synchronized (wins) {
+			for (Map.Entry<String,Map<String,Integer>> e: wins.entrySet()) {
+				copy.put(e.getKey(), new HashMap<String,Integer>(e.getValue()));
+			}
+		}
+		return copy;
+	}
+
+	/** Runs the given check-sat command on the contestants in parallel, returning the first
+	 * definitive answer; if there is none (or the time runs out) the answer is unknown (or
+	 * timeout), or an error if every member failed. Members still working are cancelled, and are
+	 * exited once they stop.
+	 * @param step the check-sat command
+	 * @param timeout the maximum time to wait, or null to wait for the members to finish
+	 */
+	protected IResponse race(final Step step, /*@Nullable*/ Duration timeout) {
+		resync();
+		winner = null;
+		List<Member> contestants = contestants();
+		if (contestants.isEmpty()) return smtConfig.responseFactory.error("jSMTLIB: The portfolio has no solvers");
+		CompletionService<IResponse> service = new ExecutorCompletionService<IResponse>(racers);
+		Map<Future<IResponse>,Member> running = new HashMap<Future<IResponse>,Member>();
+		for (final Member m: contestants) {
+			final ISolver solver = m.solver;
+			running.put(service.submit(new Callable<IResponse>() {
+				@Override
+				public IResponse call() {
+					return apply(step,solver);
+				}
+			}),m);
+		}
+		long end = timeout == null ? 0 : System.nanoTime() + timeout.toNanos();
+		IResponse result = null;
+		boolean timedOut = false;
+		try {
+			while (!running.isEmpty()) {
+				Future<IResponse> f;
+				if (timeout == null) {
+					f = service.take();
+				} else {
+					f = service.poll(end - System.nanoTime(), TimeUnit.NANOSECONDS);
+					if (f == null) { timedOut = true; break; }
+				}
+				Member m = running.remove(f);
+				IResponse r;
+				try {
+					r = f.get();
+				} catch (ExecutionException e) {
+					r = smtConfig.responseFactory.error("jSMTLIB: " + e.getCause());
+				}
+				if (isDefinitive(r)) {
+					winner = m;
+					result = r;
+					recordWin(m.name);
+					if (smtConfig.verbose != 0) smtConfig.log.logDiag("Portfolio race won by " + m.name);
+					break;
+				}
+				if (result == null || (result.isError() && !r.isError())) result = r;
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			timedOut = true;
+		}
+		// The losers still working are stopped; they are restarted before the next command
+		for (Map.Entry<Future<IResponse>,Member> e: running.entrySet()) {
+			final Future<IResponse> f = e.getKey();
+			final ISolver loser = e.getValue().solver;
+			e.getValue().solver = null;
+			loser.cancel();
+			// Some adapters (those based on Solver_test) cannot be cancelled, so the process is
+			// exited once the command returns, on the racer thread rather than alongside it
+			racers.execute(new Runnable() {
+				@Override
+				public void run() {
+					try {
+						f.get();
+					} catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+					} catch (ExecutionException e) {
+						// The command failed, but the solver is exited all the same
+					}
+					apply(new Step() {
+						@Override
+						public IResponse apply(ISolver s) { return s.exit(); }
+					},loser);
+				}
+			});
+		}
+		if (winner == null && (timedOut || result == null)) result = smtConfig.responseFactory.timeout();
+		checkSatStatus = result;
+		return result;
+	}
+
+	@Override
+	public IResponse check_sat() {
+		return race(new Step() {
+			@Override
+			public IResponse apply(ISolver s) { return s.check_sat(); }
+		}, null);
+	}
+
+	@Override
+	public IResponse check_sat(Duration timeout) {
+		return race(new Step() {
+			@Override
+			public IResponse apply(ISolver s) { return s.check_sat(); }
+		}, timeout);
+	}
+
+	@Override
+	public IResponse check_sat_assuming(final IExpr ... exprs) {
+		return race(new Step() {
+			@Override
+			public IResponse apply(ISolver s) { return s.check_sat_assuming(exprs); }
+		}, null);
+	}
+
+	@Override
+	public void cancel() {
+		for (Member m: members) {
+			ISolver s = m.solver;
+			if (s != null) s.cancel();
+		}
+	}
+
+	@Override
+	public IResponse exit() {
+		IResponse result = smtConfig.responseFactory.success();
+		for (Member m: members) {
+			if (m.solver == null) continue;
+			IResponse r = apply(new Step() {
+				@Override
+				public IResponse apply(ISolver s) { return s.exit(); }
+			},m.solver);
+			if (r.isError() && !result.isError()) result = r;
+			m.solver = null;
+		}
+		members.clear();
+		if (smtConfig.verbose != 0) smtConfig.log.logDiag("Ended portfolio");
+		return result;
+	}
+
+	@Override
+	public IResponse reset() {
+		IResponse r = forward(new Step() {
+			@Override
+			public IResponse apply(ISolver s) { return s.reset(); }
+		});
+		history.clear();
+		scopes.clear();
+		globalDeclarations = false;
+		logic = null;
+		winner = null;
+		return r;
+	}
+
+	@Override
+	public IResponse reset_assertions() {
+		IResponse r = forward(new Step() {
+			@Override
+			public IResponse apply(ISolver s) { return s.reset_assertions(); }
+		});
+		// All levels are popped, and none is popped again, so the marks for them are not needed
+		scopes.clear();
+		return r;
+	}
+
+	@Override
+	public IResponse echo(final IStringLiteral arg) {
+		return query(new Step() {
+			@Override
+			public IResponse apply(ISolver s) { return s.echo(arg); }
+		});
+	}
+
+	@Override
+	public void comment(String comment) {
+		// Comments are not sent on to the members
+	}
+
+	@Override
+	public IResponse set_logic(final String logicName, final /*@Nullable*/ IPos pos) {
+		if (smtConfig.verbose != 0) smtConfig.log.logDiag("#set-logic " + logicName);
+		IResponse r = forward(new Step() {
+			@Override
+			public IResponse apply(ISolver s) { return s.set_logic(logicName,pos); }
+		});
+		if (!r.isError()) logic = logicName;
+		return r;
+	}
+
+	@Override
+	public IResponse push(final int number) {
+		IResponse r = forward(pushStep(number));
+		if (!r.isError()) {
+			int mark = history.size() - 1;
+			for (int i = 0; i < number; i++) scopes.add(mark);
+		}
+		return r;
+	}
+
+	/** Returns the step that pushes the given number of assertion levels */
+	protected Step pushStep(final int number) {
+		return new Step() {
+			@Override
+			public IResponse apply(ISolver s) { return s.push(number); }
+		};
+	}
+
+	/** Pops assertion levels in each member. Unless declarations are global, what a successful pop
+	 * undoes is dropped from the history rather than recorded with the pop, so that a restarted 
+	 * member replays only the commands still in scope, and the history does not keep growing with
+	 * each push and pop. */
+	@Override
+	public IResponse pop(final int number) {
+		boolean trim = !globalDeclarations && number <= scopes.size();
+		IResponse r = forward(new Step() {
+			@Override
+			public IResponse apply(ISolver s) { return s.pop(number); }
+		},!trim);
+		if (!trim) return r;
+		if (r.isError()) {
+			// The members may not all have popped, so the pop is replayed as it was sent
+			history.add(new Step() {
+				@Override
+				public IResponse apply(ISolver s) { return s.pop(number); }
+			});
+			return r;
+		}
+		int level = scopes.size() - number;
+		int mark = scopes.get(level);
+		history.subList(mark,history.size()).clear();
+		// The push at mark may also have created levels that remain, which are pushed again
+		int remaining = 0;
+		for (int i = level; --i >= 0 && scopes.get(i) == mark; ) ++remaining;
+		if (remaining > 0) history.add(pushStep(remaining));
+		scopes.subList(level,scopes.size()).clear();
+		return r;
+	}
+
+	@Override
+	public IResponse assertExpr(final IExpr expr) {
+		return forward(new Step() {
+			@Override
+			public IResponse apply(ISolver s) { return s.assertExpr(expr); }
+		});
+	}
+
+	@Override
+	public IResponse declare_const(final Ideclare_const cmd) {
+		return forward(new Step() {
+			@Override
+			public IResponse apply(ISolver s) { return s.declare_const(cmd); }
+		});
+	}
+
+	@Override
+	public IResponse declare_datatypes(final Ideclare_datatypes cmd) {
+		return forward(new Step() {
+			@Override
+			public IResponse apply(ISolver s) { return s.declare_datatypes(cmd); }
+		});
+	}
+
+	@Override
+	public IResponse declare_fun(final Ideclare_fun cmd) {
+		return forward(new Step() {
+			@Override
+			public IResponse apply(ISolver s) { return s.declare_fun(cmd); }
+		});
+	}
+
+	@Override
+	public IResponse declare_sort(final Ideclare_sort cmd) {
+		return forward(new Step() {
+			@Override
+			public IResponse apply(ISolver s) { return s.declare_sort(cmd); }
+		});
+	}
+
+	@Override
+	public IResponse define_fun(final Idefine_fun cmd) {
+		return forward(new Step() {
+			@Override
+			public IResponse apply(ISolver s) { return s.define_fun(cmd); }
+		});
+	}
+
+	@Override
+	public IResponse define_sort(final Idefine_sort cmd) {
+		return forward(new Step() {
+			@Override
+			public IResponse apply(ISolver s) { return s.define_sort(cmd); }
+		});
+	}
+
+	@Override
+	public IResponse set_option(final IKeyword option, final IAttributeValue value) {
+		IResponse r = forward(new Step() {
+			@Override
+			public IResponse apply(ISolver s) { return s.set_option(option,value); }
+		});
+		if (!r.isError() && Utils.GLOBAL_DECLARATIONS.equals(option.value())) globalDeclarations = Utils.TRUE.equals(value);
+		return r;
+	}
+
+	@Override
+	public IResponse set_info(final IKeyword key, final IAttributeValue value) {
+		return forward(new Step() {
+			@Override
+			public IResponse apply(ISolver s) { return s.set_info(key,value); }
+		});
+	}
+
+	@Override
+	public IResponse get_assertions() {
+		return query(new Step() {
+			@Override
+			public IResponse apply(ISolver s) { return s.get_assertions(); }
+		});
+	}
+
+	@Override
+	public IResponse get_proof() {
+		return query(new Step() {
+			@Override
+			public IResponse apply(ISolver s) { return s.get_proof(); }
+		});
+	}
+
+	@Override
+	public IResponse get_model() {
+		return query(new Step() {
+			@Override
+			public IResponse apply(ISolver s) { return s.get_model(); }
+		});
+	}
+
+	@Override
+	public IResponse get_unsat_core() {
+		return query(new Step() {
+			@Override
+			public IResponse apply(ISolver s) { return s.get_unsat_core(); }
+		});
+	}
+
+	@Override
+	public IResponse get_value(final IExpr... terms) {
+		return query(new Step() {
+			@Override
+			public IResponse apply(ISolver s) { return s.get_value(terms); }
+		});
+	}
+
+	@Override
+	public IResponse get_assignment() {
+		return query(new Step() {
+			@Override
+			public IResponse apply(ISolver s) { return s.get_assignment(); }
+		});
+	}
+
+	@Override
+	public IResponse get_option(final IKeyword option) {
+		return query(new Step() {
+			@Override
+			public IResponse apply(ISolver s) { return s.get_option(option); }
+		});
+	}
+
+	@Override
+	public IResponse get_info(final IKeyword option) {
+		return query(new Step() {
+			@Override
+			public IResponse apply(ISolver s) { return s.get_info(option); }
+		});
+	}
+}
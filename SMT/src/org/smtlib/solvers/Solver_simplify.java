@@ -9,6 +9,7 @@ import java.io.IOException;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
@@ -19,17 +20,6 @@ import org.smtlib.ICommand.IScript;
 import org.smtlib.ICommand.Ideclare_fun;
 import org.smtlib.*;
 import org.smtlib.ICommand.Idefine_fun;
-import org.smtlib.IResponse.IAssertionsResponse;
-import org.smtlib.IResponse.IAssignmentResponse;
-import org.smtlib.IResponse.IAttributeList;
-import org.smtlib.IResponse.IProofResponse;
-import org.smtlib.IResponse.IUnsatCoreResponse;
-import org.smtlib.IResponse.IValueResponse;
-import org.smtlib.ISort.IAbbreviation;
-import org.smtlib.ISort.IApplication;
-import org.smtlib.ISort.IFamily;
-import org.smtlib.ISort.IFcnSort;
-import org.smtlib.ISort.IParameter;
 import org.smtlib.IExpr.*;
 import org.smtlib.IVisitor.VisitorException;
 import org.smtlib.SMT.Configuration.SMTLIB;
@@ -347,7 +337,7 @@ public class Solver_simplify extends Solver_test implements ISolver {
 
 	@Override
 	public IResponse get_value(IExpr... terms) {
-		TypeChecker tc = new TypeChecker(symTable);
+		TypeChecker tc = new TypeChecker(symTable,typemap);
 		try {
 			for (IExpr term: terms) {
 				term.accept(tc);
@@ -372,7 +362,8 @@ public class Solver_simplify extends Solver_test implements ISolver {
 	
 	public /*@Nullable*/String translate(IExpr expr) throws IVisitor.VisitorException {
 		Translator t = new Translator(typemap,smtConfig);
-		String r = expr.accept(t);
+		String r = t.translate(expr);
+		if (r.length() == 0) return null; // nothing was translated
 		if (t.conjuncts.isEmpty()) return r;
 		String and = "(AND ";
 		for (String c: t.conjuncts) {
@@ -482,7 +473,7 @@ public class Solver_simplify extends Solver_test implements ISolver {
 		   { "OR","AND","IMPLIES","EXPLIES","XOR","IFF","NOT","FORALL","EXISTS"}));
 	}
 	
-	static public class Translator implements IVisitor<String> {
+	static public class Translator extends BufferedTranslator {
 		boolean isFormula = true;
 		final private Map<IExpr,ISort> typemap;
 		final private SMT.Configuration smtConfig;
@@ -493,35 +484,44 @@ public class Solver_simplify extends Solver_test implements ISolver {
 			this.smtConfig = smtConfig;
 		}
 
+		/** The texts of the function applications translated as terms, which differ from their texts as formulas */
+		final private Map<IExpr,String> termMemo = new IdentityHashMap<IExpr,String>();
+
+		@Override
+		protected Map<IExpr,String> memo() {
+			return isFormula ? memo : termMemo;
+		}
+
 		@Override
-		public String visit(IDecimal e) throws IVisitor.VisitorException {
+		public Void visit(IDecimal e) throws IVisitor.VisitorException {
 			throw new VisitorException("The simplify solver cannot handle decimal literals",e.pos());
 		}
 
 		@Override
-		public String visit(IStringLiteral e) throws IVisitor.VisitorException {
+		public Void visit(IStringLiteral e) throws IVisitor.VisitorException {
 			throw new VisitorException("The simplify solver cannot handle string literals",e.pos());
 		}
 
 		@Override
-		public String visit(INumeral e) throws IVisitor.VisitorException {
-			return e.value().toString();
+		public Void visit(INumeral e) throws IVisitor.VisitorException {
+			out.append(e.value());
+			return null;
 		}
 
 		@Override
-		public String visit(IBinaryLiteral e) throws IVisitor.VisitorException {
+		public Void visit(IBinaryLiteral e) throws IVisitor.VisitorException {
 			throw new VisitorException("Did not expect a Binary literal in an expression to be translated",e.pos());
 		}
 
 		@Override
-		public String visit(IHexLiteral e) throws IVisitor.VisitorException {
+		public Void visit(IHexLiteral e) throws IVisitor.VisitorException {
 			throw new VisitorException("Did not expect a Hex literal in an expression to be translated",e.pos());
 		}
 
 		@Override
-		public String visit(IFcnExpr e) throws IVisitor.VisitorException {
+		protected Void fcn(IFcnExpr e) throws IVisitor.VisitorException {
 			boolean resultIsFormula = this.isFormula;
-			StringBuilder sb = new StringBuilder();
+			int mark = out.length();
 			try {
 				Iterator<IExpr> iter = e.args().iterator();
 				if (!iter.hasNext()) throw new SMTLIBRuntimeException("Did not expect an empty argument list");
@@ -529,7 +529,7 @@ public class Solver_simplify extends Solver_test implements ISolver {
 					throw new VisitorException("Have not yet implemented parameterized bit-vector functions",e.pos());
 				}
 				ISymbol fcn = (ISymbol)e.head();
-				String newName = fcn.accept(this);
+				String newName = text(fcn);
 				
 				// Determine if the arguments are formulas or terms
 				if (resultIsFormula) {
@@ -570,16 +570,16 @@ public class Solver_simplify extends Solver_test implements ISolver {
 					// for formulas, NEQ is (NOT (IFF p q ...))
 					// In simplify, IFF is not implicitly chainable
 					int length = e.args().size();
-					if ((length&1)==0) sb.append("(NOT ");
-					sb.append(leftassoc("IFF",length,iter));
-					if ((length&1)==0) sb.append(")");
+					if ((length&1)==0) out.append("(NOT ");
+					leftassoc("IFF",length,iter);
+					if ((length&1)==0) out.append(")");
 											
 				} else if (newName.equals("IMPLIES")) {
 					// right-associative operators that need grouping
 					if (!iter.hasNext()) {
 						throw new VisitorException("implies (=>) operation without arguments",e.pos());
 					}
-					sb.append(rightassoc(newName,iter));
+					rightassoc(newName,iter);
 
 				} else if (newName.equals("DISTINCT")) {
 					// in simplify, DISTINCT is just for term arguments but the result is a formula
@@ -587,115 +587,111 @@ public class Solver_simplify extends Solver_test implements ISolver {
 						// arguments are formulas, result is formula
 						if (e.args().size() > 2) {
 							// More than two distinct boolean values?
-							sb.append("FALSE");
+							out.append("FALSE");
 						} else {
-							sb.append("(NOT (IFF");
+							out.append("(NOT (IFF");
 							while (iter.hasNext()) {
-								sb.append(" ");
-								sb.append(iter.next().accept(this));
+								out.append(" ");
+								iter.next().accept(this);
 							}
-							sb.append(" ))");
+							out.append(" ))");
 						}
 					} else if (resultIsFormula) {
 						// arguments are terms, result is formula - standard use in Simplify
-						sb.append("(DISTINCT");
+						out.append("(DISTINCT");
 						while (iter.hasNext()) {
-							sb.append(" ");
-							sb.append(iter.next().accept(this));
+							out.append(" ");
+							iter.next().accept(this);
 						}
-						sb.append(")");
+						out.append(")");
 					} else {
 						// used in a term position
 						throw new VisitorException("Use of DISTINCT in a term position is not yet implemented in the Simplify adapter",e.pos()); // FIXME - distinact as a term
 					}
 				} else if (ite_term.equals(newName)) {
 					if (isFormula) {
-						sb.append("(AND (IMPLIES ");
-						sb.append(e.args().get(0).accept(this));
-						sb.append(" ");
-						sb.append(e.args().get(1).accept(this));
-						sb.append(")");
-						sb.append("(IMPLIES (NOT ");
-						sb.append(e.args().get(0).accept(this));
-						sb.append(") ");
-						sb.append(e.args().get(2).accept(this));
-						sb.append("))");
+						out.append("(AND (IMPLIES ");
+						e.args().get(0).accept(this);
+						out.append(" ");
+						e.args().get(1).accept(this);
+						out.append(")");
+						out.append("(IMPLIES (NOT ");
+						e.args().get(0).accept(this);
+						out.append(") ");
+						e.args().get(2).accept(this);
+						out.append("))");
 					}
 				}
 				if (e.args().size() > 2 && nonchainables.contains(newName)) {
 					Iterator<IExpr> iter2 = e.args().iterator();
-					sb.append("(AND ");
+					out.append("(AND ");
 
 					IExpr left = iter2.next();
 					while (iter2.hasNext()) {
 						IExpr right = iter2.next();
-						sb.append("(" + newName + " ");
-						sb.append(left.accept(this));
-						sb.append(" ");
-						sb.append(right.accept(this));
-						sb.append(")");
+						out.append("(").append(newName).append(" ");
+						left.accept(this);
+						out.append(" ");
+						right.accept(this);
+						out.append(")");
 						left = right;
 					}
-					sb.append(")");
+					out.append(")");
 				}
 				if (e.args().size() > 2 && (newName.equals("-") || newName.equals("/"))) {
 					Iterator<IExpr> iter2 = e.args().iterator();
-					sb.append(leftassoc(newName,e.args().size(),iter2));
+					leftassoc(newName,e.args().size(),iter2);
 				}
 				
-				if (sb.length() == 0) {
-					sb.append("( ");
-					sb.append(newName);
+				if (out.length() == mark) {
+					out.append("( ");
+					out.append(newName);
 					while (iter.hasNext()) {
-						sb.append(" ");
-						sb.append(iter.next().accept(this));
+						out.append(" ");
+						iter.next().accept(this);
 					}
-					sb.append(" )");
+					out.append(" )");
 				}
 			} finally {
 				this.isFormula = resultIsFormula;
 			}
-			return sb.toString();
+			return null;
 		}
 		
 		//@ requires iter.hasNext();
-		private <T extends IExpr> String rightassoc(String fcnname, Iterator<T> iter ) throws IVisitor.VisitorException {
+		private <T extends IExpr> void rightassoc(String fcnname, Iterator<T> iter ) throws IVisitor.VisitorException {
 			T n = iter.next();
 			if (!iter.hasNext()) {
-				return n.accept(this);
+				n.accept(this);
 			} else {
-				StringBuilder sb = new StringBuilder();
-				sb.append("(");
-				sb.append(fcnname);
-				sb.append(" ");
-				sb.append(n.accept(this));
-				sb.append(" ");
-				sb.append(rightassoc(fcnname,iter));
-				sb.append(")");
-				return sb.toString();
+				out.append("(");
+				out.append(fcnname);
+				out.append(" ");
+				n.accept(this);
+				out.append(" ");
+				rightassoc(fcnname,iter);
+				out.append(")");
 			}
 		}
 
 		//@ requires iter.hasNext();
 		//@ requires length > 0;
-		private <T extends IExpr> String leftassoc(String fcnname, int length, Iterator<T> iter ) throws IVisitor.VisitorException {
+		private <T extends IExpr> void leftassoc(String fcnname, int length, Iterator<T> iter ) throws IVisitor.VisitorException {
 			if (length == 1) {
-				return iter.next().accept(this);
+				iter.next().accept(this);
 			} else {
-				StringBuilder sb = new StringBuilder();
-				sb.append("(");
-				sb.append(fcnname);
-				sb.append(" ");
-				sb.append(leftassoc(fcnname,length-1,iter));
-				sb.append(" ");
-				sb.append(iter.next().accept(this));
-				sb.append(")");
-				return sb.toString();
+				out.append("(");
+				out.append(fcnname);
+				out.append(" ");
+				leftassoc(fcnname,length-1,iter);
+				out.append(" ");
+				iter.next().accept(this);
+				out.append(")");
 			}
 		}
 
 		@Override
-		public String visit(ISymbol e) throws IVisitor.VisitorException {
+		public Void visit(ISymbol e) throws IVisitor.VisitorException {
 			// Symbols do not necessarily have sorts - e.g. if they are function names
 			ISort sort = typemap.get(e);
 			if (!isFormula && sort != null && sort.isBool()) {
@@ -710,103 +706,103 @@ public class Solver_simplify extends Solver_test implements ISolver {
 			if (newName != null) {
 				// There is a direct translation of a pre-defined SMT-LIB name
 				// into a simplify equivalent - use it.
+				out.append(newName);
 			} else {
 				// Use the ? character as an escape
 				newName = oldName.replace("?","??").replace("\n","?n").replace("\r","?r").replace("\t","?t");
+				out.append("|").append(newName);
 				if (reservedWords.contains(newName)) {
-					newName = newName + "?!";
+					out.append("?!");
 				}
-				newName = "|" + newName + "|";
+				out.append("|");
 			}
-			return newName;
+			return null;
 		}
 
 		@Override
-		public String visit(IKeyword e) throws IVisitor.VisitorException {
+		public Void visit(IKeyword e) throws IVisitor.VisitorException {
 			throw new VisitorException("Did not expect a Keyword in an expression to be translated",e.pos());
 		}
 
 		@Override
-		public String visit(IError e) throws IVisitor.VisitorException {
+		public Void visit(IError e) throws IVisitor.VisitorException {
 			throw new VisitorException("Did not expect a Error token in an expression to be translated",e.pos());
 		}
 
 		@Override
-		public String visit(IParameterizedIdentifier e) throws IVisitor.VisitorException {
+		public Void visit(IParameterizedIdentifier e) throws IVisitor.VisitorException {
 			if (!isFormula && typemap.get(e).isBool()) {
 				throw new VisitorException("Use of boolean in a term position is not yet implemented in the Simplify adapter",e.pos()); // FIXME - booleans as terms
 			}
 			// Since there is no overloading, the head will be a new symbol
 			// and we don't need to worry that it collides with a pre- or user-defined
 			// function name
-			String v = e.headSymbol().accept(this); // This will come back with bars
-			if (v.charAt(0) != '|') {
+			int mark = out.length();
+			e.headSymbol().accept(this); // This will come back with bars
+			if (out.charAt(mark) != '|') {
 				throw new VisitorException("INTERNAL ERROR: Do not expect to ever have a pre-defined name within a parameterized identifier",e.headSymbol().pos());
 			}
-			v = v.substring(0,v.length()-1);
+			out.setLength(out.length()-1);
 			for (INumeral n: e.numerals()) {
-				v = v + "?" + n.toString();
+				out.append("?").append(n.toString());
 			}
-			return v + "|";
+			out.append("|");
+			return null;
 		}
 
 		@Override
-		public String visit(IForall e) throws IVisitor.VisitorException {
+		public Void visit(IForall e) throws IVisitor.VisitorException {
 			if (!isFormula) {
 				throw new VisitorException("Use of forall in a term position is not yet implemented in the Simplify adapter",e.pos()); // FIXME - booleans as terms
 			}
-			StringBuilder sb = new StringBuilder();
-			sb.append("(FORALL (");
+			out.append("(FORALL (");
 			for (IDeclaration d: e.parameters()) {
 				if (d.sort().isBool()) {
 					throw new VisitorException("Boolean quantifiers are not implemented in the Simplify adapter",e.pos()); // FIXME - booleans as terms
 				}
-				sb.append(d.parameter().accept(this));
-				sb.append(" ");
+				d.parameter().accept(this);
+				out.append(" ");
 			}
-			sb.append(") ");
-			sb.append(e.expr().accept(this));
-			sb.append(")");
-			return sb.toString();
+			out.append(") ");
+			e.expr().accept(this);
+			out.append(")");
+			return null;
 		}
 
 		@Override
-		public String visit(IExists e) throws IVisitor.VisitorException {
+		public Void visit(IExists e) throws IVisitor.VisitorException {
 			if (!isFormula) {
 				throw new VisitorException("Use of exists in a term position is not yet implemented in the Simplify adapter",e.pos()); // FIXME - booleans as terms
 			}
-			StringBuilder sb = new StringBuilder();
-			sb.append("(EXISTS (");
+			out.append("(EXISTS (");
 			for (IDeclaration d: e.parameters()) {
 				if (d.sort().isBool()) {
 					throw new VisitorException("Boolean quantifiers are not implemented in the Simplify adapter",e.pos()); // FIXME - booleans as terms
 				}
-				sb.append(d.accept(this));
-				sb.append(" ");
+				d.accept(this);
+				out.append(" ");
 			}
-			sb.append(") ");
-			sb.append(e.expr().accept(this));
-			sb.append(")");
-			return sb.toString();
+			out.append(") ");
+			e.expr().accept(this);
+			out.append(")");
+			return null;
 		}
 		
 		@Override 
-		public String visit(IDeclaration e) throws IVisitor.VisitorException {
-			StringBuilder sb = new StringBuilder();
-			sb.append(e.parameter().accept(this));
-			return sb.toString();
+		public Void visit(IDeclaration e) throws IVisitor.VisitorException {
+			return e.parameter().accept(this);
 		}
 
 		@Override
-		public String visit(ILet e) throws IVisitor.VisitorException {
+		public Void visit(ILet e) throws IVisitor.VisitorException {
 			// Simplify does not have let
 			// We can create a new temp variable (or function of any quantified parameters)
 			// and then use that.
 			for (IBinding b : e.bindings()) {
-				String r = b.expr().accept(this);
+				String r = text(b.expr());
 				ISort s = typemap.get(b.expr());
 				// FIXME - don't use toString - also need to map to a unique new temporary
-				r = (s.isBool()? "(IFF " : "(EQ ") + b.parameter().accept(this) + " " + r + " )";
+				r = (s.isBool()? "(IFF " : "(EQ ") + text(b.parameter()) + " " + r + " )";
 				conjuncts.add(r);
 			}
 			return e.expr().accept(this);
@@ -814,139 +810,22 @@ public class Solver_simplify extends Solver_test implements ISolver {
 		}
 
 		@Override 
-		public String visit(IBinding e) throws IVisitor.VisitorException {
-//			StringBuilder sb = new StringBuilder();
-//			sb.append(e.parameter().accept(this));
-//			return sb.toString();
+		public Void visit(IBinding e) throws IVisitor.VisitorException {
 			throw new VisitorException("Use of bindings is not yet implemented in the Simplify adapter",e.pos()); // FIXME - let in Simplify
 		}
 
 		@Override
-		public String visit(IAttribute e) throws VisitorException {
-			// TODO Auto-generated method stub
-			return null;
-		}
-
-		@Override
-		public String visit(IAttributedExpr e) throws VisitorException {
+		public Void visit(IAttributedExpr e) throws VisitorException {
 			// FIXME - ignoring the name - should use a LBL expression
-			StringBuilder sb = new StringBuilder();
-			sb.append("(LBL ");
-			sb.append(e.attributes().get(0).attrValue().toString()); // Use the standard printer FIXME
-			sb.append(" ");
-			sb.append(e.expr().accept(this));
-			sb.append(")");
-			return sb.toString();
-		}
-
-		@Override
-		public String visit(org.smtlib.IResponse.IError e)
-				throws VisitorException {
-			// TODO Auto-generated method stub
-			return null;
-		}
-
-		@Override
-		public String visit(IAsIdentifier e) throws VisitorException {
-			// TODO Auto-generated method stub
-			return null;
-		}
-
-		@Override
-		public String visit(IScript e) throws VisitorException {
-			// TODO Auto-generated method stub
-			return null;
-		}
-
-		@Override
-		public String visit(ICommand e) throws VisitorException {
-			// TODO Auto-generated method stub
-			return null;
-		}
-
-		@Override
-		public String visit(IFamily s) throws VisitorException {
-			// TODO Auto-generated method stub
-			return null;
-		}
-
-		@Override
-		public String visit(IAbbreviation s) throws VisitorException {
-			// TODO Auto-generated method stub
-			return null;
-		}
-
-		@Override
-		public String visit(IApplication s) throws VisitorException {
-			// TODO Auto-generated method stub
+			out.append("(LBL ");
+			out.append(e.attributes().get(0).attrValue().toString()); // Use the standard printer FIXME
+			out.append(" ");
+			e.expr().accept(this);
+			out.append(")");
 			return null;
 		}
 
-		@Override
-		public String visit(IFcnSort s) throws VisitorException {
-			// TODO Auto-generated method stub
-			return null;
-		}
-
-		@Override
-		public String visit(IParameter s) throws VisitorException {
-			// TODO Auto-generated method stub
-			return null;
-		}
-
-		@Override
-		public String visit(ILogic s) throws VisitorException {
-			// TODO Auto-generated method stub
-			return null;
-		}
-
-		@Override
-		public String visit(ITheory s) throws VisitorException {
-			// TODO Auto-generated method stub
-			return null;
-		}
-
-		@Override
-		public String visit(IResponse e) throws VisitorException {
-			// TODO Auto-generated method stub
-			return null;
-		}
-
-		@Override
-		public String visit(IAssertionsResponse e) throws VisitorException {
-			// TODO Auto-generated method stub
-			return null;
-		}
-
-		@Override
-		public String visit(IAssignmentResponse e) throws VisitorException {
-			// TODO Auto-generated method stub
-			return null;
-		}
-
-		@Override
-		public String visit(IProofResponse e) throws VisitorException {
-			// TODO Auto-generated method stub
-			return null;
-		}
-
-		@Override
-		public String visit(IValueResponse e) throws VisitorException {
-			// TODO Auto-generated method stub
-			return null;
-		}
-
-		@Override
-		public String visit(IUnsatCoreResponse e) throws VisitorException {
-			// TODO Auto-generated method stub
-			return null;
-		}
-
-		@Override
-		public String visit(IAttributeList e) throws VisitorException {
-			// TODO Auto-generated method stub
-			return null;
-		}
+		// The remaining kinds of node are not translated and, as in NullVisitor, contribute nothing
 
 
 //		@Override
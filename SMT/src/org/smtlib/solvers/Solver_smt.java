@@ -14,10 +14,13 @@ import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.PrintStream;
 import java.io.StringWriter;
+import java.io.Writer;
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ScheduledFuture;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -30,10 +33,12 @@ import org.smtlib.IExpr.IKeyword;
 import org.smtlib.IExpr.INumeral;
 import org.smtlib.IExpr.IStringLiteral;
 import org.smtlib.IParser.ParserException;
+import org.smtlib.SMT.Configuration.SMTLIB;
+import org.smtlib.sexpr.Sharing;
 import org.smtlib.impl.Pos;
 
 /** This class is an adapter that takes the SMT-LIB ASTs and translates them into SMT commands */
-public class Solver_smt extends AbstractSolver implements ISolver {
+public class Solver_smt extends AbstractSolver implements ISolver, SolverPool.IPoolable {
 		
 	/** A reference to the SMT configuration */
 	protected SMT.Configuration smtConfig;
@@ -68,12 +73,15 @@ public class Solver_smt extends AbstractSolver implements ISolver {
 	public Solver_smt(SMT.Configuration smtConfig, /*@NonNull*/ String executable) {
 		this.smtConfig = smtConfig;
 		solverProcess = new SolverProcess(cmd(executable),prompt(),smtConfig.logfile); // FIXME - what prompt?
+		// The echo command that framing needs is new in SMT-LIB 2.5 (start() also checks for it)
+		solverProcess.setFramed(!smtConfig.isVersion(SMTLIB.V20));
 		responseParser = new org.smtlib.sexpr.Parser(smt(),new Pos.Source("",null));
 	}
 	
 	public Solver_smt(SMT.Configuration smtConfig, /*@NonNull*/ String[] args) {
 		this.smtConfig = smtConfig;
 		solverProcess = new SolverProcess(args,prompt(),smtConfig.logfile); // FIXME - what prompt?
+		solverProcess.setFramed(!smtConfig.isVersion(SMTLIB.V20));
 		responseParser = new org.smtlib.sexpr.Parser(smt(),new Pos.Source("",null));
 	}
 	
@@ -93,7 +101,7 @@ public class Solver_smt extends AbstractSolver implements ISolver {
 			//if (!smtConfig.batch) solverProcess.sendNoListen("(set-option :interactive-mode true)"); // FIXME - not sure we can do this - we'll lose the feedback
 			// Can't turn off printing success, or we get no feedback
 			//if (smtConfig.nosuccess) solverProcess.sendAndListen("(set-option :print-success false)");
-			solverProcess.sendAndListen("(set-option :print-success true)");
+			solverProcess.sendAndListen("(set-option :print-success true)\n");
 			if (smtConfig.verbose != 0) smtConfig.log.logDiag("Started SMT ");
 			return smtConfig.responseFactory.success();
 		} catch (Exception e) {
@@ -101,9 +109,52 @@ public class Solver_smt extends AbstractSolver implements ISolver {
 		}
 	}
 	
+	@Override
+	public boolean isRunning() {
+		return solverProcess != null && solverProcess.isRunning(true);
+	}
+	
+	@Override
+	public IResponse recycle() {
+		try {
+			checkSatStatus = null;
+			// The verbosity is part of the pool key, so the solver is set up again as start() does
+			String verbosity = smtConfig.solverVerbosity > 0 ? "(set-option :verbosity " + smtConfig.solverVerbosity + ")\n" : "";
+			SolverPool.reset(solverProcess,verbosity,"(set-option :print-success true)\n");
+			return smtConfig.responseFactory.success();
+		} catch (IOException e) {
+			return smtConfig.responseFactory.error("jSMTLIB: Failed to reset solver: " + e);
+		}
+	}
+	
+	@Override
+	public void rebind(SMT.Configuration smtConfig) {
+		this.smtConfig = smtConfig;
+	}
+	
 	/** Translates an S-expression into SMT syntax */
 	protected String translate(IAccept sexpr) throws IVisitor.VisitorException {
-		return translateSMT(sexpr);
+		StringWriter sw = new StringWriter();
+		translate(sw,sexpr);
+		return sw.toString();
+	}
+	
+	/** Translates an S-expression into SMT syntax, writing it to the given Writer */
+	protected void translate(Writer w, IAccept sexpr) throws IVisitor.VisitorException {
+		sexpr.accept(new org.smtlib.solvers.Printer(w).share(smtConfig.share,smtConfig.exprFactory));
+	}
+	
+	/** Returns the text of the given S-expression, between the given prefix and suffix, which is 
+	 * translated as it is sent to the solver */
+	protected SolverProcess.IText text(final String prefix, final IAccept sexpr, final String suffix) {
+		return new SolverProcess.IText() {
+			@Override
+			public void write(Writer w) throws IOException, IVisitor.VisitorException {
+				w.write(prefix);
+				translate(w,sexpr);
+				w.write(suffix);
+			}
+		};
 	}
 	
 	/** Translates an S-expression into standard SMT syntax */
@@ -114,14 +165,66 @@ public class Solver_smt extends AbstractSolver implements ISolver {
 	}
 	
 	public IResponse sendCommand(ICommand cmd) {
-		String translatedCmd = null;
 		try {
-			translatedCmd = translate(cmd);
-			return parseResponse(solverProcess.sendAndListen(translatedCmd,"\n"));
+			return parseResponse(solverProcess.sendAndListen(text("",cmd,"\n")));
 		} catch (IOException e) {
-			return smtConfig.responseFactory.error("jSMTLIB: Error writing to solver: " + translatedCmd + " " + e);
+			return smtConfig.responseFactory.error("jSMTLIB: Error writing to solver: " + cmd + " " + e);
 		} catch (IVisitor.VisitorException e) {
-			return smtConfig.responseFactory.error("jSMTLIB: Error writing to solver: " + translatedCmd + " " + e);
+			return smtConfig.responseFactory.error("jSMTLIB: Error writing to solver: " + cmd + " " + e);
+		}
+	}
+	
+	/** Sends a command whose only reply is success or an error, such as a declaration or an assertion.
+	 * If pipelining is enabled, the command is sent without waiting for the reply and success is 
+	 * returned; an error reply is logged, against the given position, once it is read. */
+	protected IResponse sendAcknowledged(String cmd, /*@Nullable*/ final IPos pos) {
+		if (!smtConfig.pipeline) return sendCommand(cmd);
+		try {
+			solverProcess.sendPipelined(new SolverProcess.Pending() {
+				@Override
+				public void reply(String reply) {
+					IResponse r = parseResponse(reply);
+					if (r.isError()) {
+						IResponse.IError e = (IResponse.IError)r;
+						if (e.pos() == null) e.setPos(pos);
+						smtConfig.log.logError(e);
+					}
+				}
+			},cmd,"\n");
+			return smtConfig.responseFactory.success();
+		} catch (IOException e) {
+			return smtConfig.responseFactory.error("jSMTLIB: Error writing to solver: " + cmd + " " + e, pos);
+		}
+	}
+	
+	/** Sends a command, given as text that is translated as it is sent, whose only reply is success 
+	 * or an error, pipelining it if enabled (cf. sendAcknowledged(String,IPos)) */
+	protected IResponse sendAcknowledged(SolverProcess.IText text, /*@Nullable*/ final IPos pos) throws IVisitor.VisitorException {
+		try {
+			if (!smtConfig.pipeline) return parseResponse(solverProcess.sendAndListen(text));
+			solverProcess.sendPipelined(new SolverProcess.Pending() {
+				@Override
+				public void reply(String reply) {
+					IResponse r = parseResponse(reply);
+					if (r.isError()) {
+						IResponse.IError e = (IResponse.IError)r;
+						if (e.pos() == null) e.setPos(pos);
+						smtConfig.log.logError(e);
+					}
+				}
+			},text);
+			return smtConfig.responseFactory.success();
+		} catch (IOException e) {
+			return smtConfig.responseFactory.error("jSMTLIB: Error writing to solver: " + e, pos);
+		}
+	}
+	
+	/** Sends a command whose only reply is success or an error, pipelining it if enabled */
+	protected IResponse sendAcknowledged(ICommand cmd) {
+		try {
+			return sendAcknowledged(text("",cmd,"\n"), cmd instanceof IPos.IPosable ? ((IPos.IPosable)cmd).pos() : null);
+		} catch (IVisitor.VisitorException e) {
+			return smtConfig.responseFactory.error("jSMTLIB: Error writing to solver: " + cmd + " " + e);
 		}
 	}
 	
@@ -133,6 +236,49 @@ public class Solver_smt extends AbstractSolver implements ISolver {
 		}
 	}
 	
+	/** Sends a command whose reply may be large (e.g. a proof or a set of values) and parses the 
+	 * reply as it is read from the solver, rather than first collecting it into a String. */
+	protected IResponse sendStreamed(final String ... cmd) {
+		return sendStreamed(new SolverProcess.IText() {
+			@Override
+			public void write(Writer w) throws IOException {
+				for (String s: cmd) w.write(s);
+			}
+		});
+	}
+	
+	/** Sends a command, given as text that is translated as it is sent, whose reply is parsed as it
+	 * is read (cf. sendStreamed(String...)); legacy bit-vector constants are rewritten as by
+	 * parseResponse(String), and anything the solver writes after the reply (e.g. an error following
+	 * a value) is read too, an error there being the response to the command */
+	protected IResponse sendStreamed(SolverProcess.IText cmd) {
+		try {
+			solverProcess.sendForReply(cmd);
+			IResponse response;
+			try {
+				responseParser = new org.smtlib.sexpr.Parser(smt(),new Pos.Source(new LegacyBitVectors(solverProcess.nextReply(SMT.Configuration.SMTLIB.V20.toString().equals(SMT.Configuration.smtlib))),null));
+				response = responseParser.parseResponse();
+			} catch (ParserException e) {
+				response = smtConfig.responseFactory.error("jSMTLIB: ParserException while parsing response: " + e);
+			}
+			String rest = solverProcess.endReply();
+			String err = solverProcess.errorOutput();
+			if (!err.isEmpty()) {
+				if (solverProcess.log != null) { solverProcess.log.write(";ERR: "); solverProcess.log.write(err); }
+				if (err.charAt(0) != ';') return parseResponse(err);
+			}
+			if (!rest.trim().isEmpty()) {
+				IResponse r = parseResponse(rest);
+				return r.isError() ? r : smtConfig.responseFactory.error("jSMTLIB: Unexpected output following the solver's reply: " + rest.trim());
+			}
+			return response;
+		} catch (IOException e) {
+			return smtConfig.responseFactory.error("jSMTLIB: Error writing to solver: " + e);
+		} catch (IVisitor.VisitorException e) {
+			return smtConfig.responseFactory.error("jSMTLIB: Error writing to solver: " + e);
+		}
+	}
+	
 	protected IResponse parseResponse(String response) {
 		try {
 			//FIXME
@@ -181,7 +327,8 @@ public class Solver_smt extends AbstractSolver implements ISolver {
 	@Override
 	public IResponse assertExpr(IExpr sexpr) {
 		try {
-			return sendCommand("(assert " + translate(sexpr) + ")");
+			IExpr e = Sharing.share(sexpr,smtConfig.exprFactory,smtConfig.share);
+			return sendAcknowledged(text("(assert ",e,")\n"),sexpr.pos());
 		} catch (IVisitor.VisitorException e) {
 			return smtConfig.responseFactory.error("jSMTLIB: Failed to assert expression: " + e + " " + sexpr);
 		} catch (Exception e) {
@@ -195,18 +342,8 @@ public class Solver_smt extends AbstractSolver implements ISolver {
 		
 		// FIXME - try sendCOmmand
 		try {
-			StringBuilder sb = new StringBuilder();
-			String s;
-			int parens = 0;
-			do {
-				s = solverProcess.sendAndListen("(get-assertions)\n");
-				int p = -1;
-				while (( p = s.indexOf('(',p+1)) != -1) parens++;
-				p = -1;
-				while (( p = s.indexOf(')',p+1)) != -1) parens--;
-				sb.append(s.replace('\n',' ').replace("\r",""));
-			} while (parens > 0);
-			s = sb.toString();
+			// The reply is framed by the sentinel, so it is read completely however many lines it has
+			String s = solverProcess.sendAndListen("(get-assertions)\n");
 			org.smtlib.sexpr.Parser p = new org.smtlib.sexpr.Parser(smtConfig,new org.smtlib.impl.Pos.Source(s,null));
 			List<IExpr> exprs = new LinkedList<IExpr>();
 			try {
@@ -250,14 +387,32 @@ public class Solver_smt extends AbstractSolver implements ISolver {
 		return res;
 	}
 
+	@Override
+	public IResponse check_sat(Duration timeout) {
+		ScheduledFuture<?> deadline = solverProcess.cancelAfter(timeout);
+		IResponse res;
+		try {
+			res = check_sat();
+		} finally {
+			deadline.cancel(false);
+		}
+		if (solverProcess.isCancelled()) checkSatStatus = res = smtConfig.responseFactory.timeout();
+		return res;
+	}
+	
+	@Override
+	public void cancel() {
+		if (solverProcess != null) solverProcess.cancel();
+	}
+
 	@Override
 	public IResponse pop(int number) {
-	    return sendCommand("(pop " + number + ")");
+	    return sendAcknowledged("(pop " + number + ")",null);
 	}
 
 	@Override
 	public IResponse push(int number) {
-		return sendCommand("(push " + number + ")");
+		return sendAcknowledged("(push " + number + ")",null);
 	}
 
 	@Override
@@ -340,54 +495,52 @@ public class Solver_smt extends AbstractSolver implements ISolver {
 
 	@Override
 	public IResponse declare_fun(Ideclare_fun cmd) {
-		return sendCommand(cmd);
+		return sendAcknowledged(cmd);
 	}
 
 	@Override
 	public IResponse define_fun(Idefine_fun cmd) {
-		return sendCommand(cmd);
+		return sendAcknowledged(cmd);
 	}
 
 	@Override
 	public IResponse declare_sort(Ideclare_sort cmd) {
-		return sendCommand(cmd);
+		return sendAcknowledged(cmd);
 	}
 
 	@Override
 	public IResponse define_sort(Idefine_sort cmd) {
-		return sendCommand(cmd);
+		return sendAcknowledged(cmd);
 	}
 	
 	@Override 
 	public IResponse get_proof() {
-		return sendCommand("(get-proof)");
+		return sendStreamed("(get-proof)\n");
 	}
 
 	@Override 
 	public IResponse get_unsat_core() {
-		return sendCommand("(get-unsat-core)");
+		return sendStreamed("(get-unsat-core)\n");
 	}
 
 	@Override 
 	public IResponse get_assignment() {
-		return sendCommand("(get-assignment)");
+		return sendStreamed("(get-assignment)\n");
 	}
 
 	@Override 
-	public IResponse get_value(IExpr... terms) {
-		try {
-			solverProcess.sendNoListen("(get-value (");
-			for (IExpr e: terms) {
-				solverProcess.sendNoListen(" ",translate(e));
+	public IResponse get_value(final IExpr... terms) {
+		return sendStreamed(new SolverProcess.IText() {
+			@Override
+			public void write(Writer w) throws IOException, IVisitor.VisitorException {
+				w.write("(get-value (");
+				for (IExpr e: terms) {
+					w.write(" ");
+					translate(w,e);
+				}
+				w.write("))\n");
 			}
-			String r = solverProcess.sendAndListen("))\n");
-			IResponse response = parseResponse(r);
-			return response;
-		} catch (IOException e) {
-			return smtConfig.responseFactory.error("jSMTLIB: Error writing to solver: " + e);
-		} catch (IVisitor.VisitorException e) {
-			return smtConfig.responseFactory.error("jSMTLIB: Error writing to solver: " + e);
-		}
+		});
 	}
 
 
@@ -7,6 +7,7 @@ package org.smtlib.solvers;
 
 import java.io.FileOutputStream;
 import java.io.PrintStream;
+import java.time.Duration;
 import java.util.*;
 
 import org.smtlib.ICommand.Ideclare_datatypes;
@@ -63,6 +64,9 @@ public class Solver_test implements ISolver {
 	/** The data structure that maintains the current values of options and info items for this solver. */
 	protected Map<String,IAttributeValue> options = new HashMap<String,IAttributeValue>();
 	
+	/** The regular and diagnostic output streams in use when this solver was created, to which reset() returns */
+	protected PrintStream initialOut, initialDiag;
+	
 	
 	
 	/** Constructor for an instance of this test solver class; the second argument is ignored - it is 
@@ -73,6 +77,8 @@ public class Solver_test implements ISolver {
 	 */
 	public Solver_test(SMT.Configuration smtConfig, String exec) {
 		this.smtConfig = smtConfig;
+		initialOut = smtConfig.log.out;
+		initialDiag = smtConfig.log.diag;
 		options.putAll(smt().utils.defaults);
 		this.symTable = new SymbolTable(smtConfig);
 		checkSatStatus = null;
@@ -97,8 +103,8 @@ public class Solver_test implements ISolver {
 		options.putAll(smt().utils.defaults);
 		((Response.Factory)smtConfig.responseFactory).printSuccess = true;
 		smtConfig.verbose = 0;
-		smtConfig.log.out = System.out;
-		smtConfig.log.diag = System.err;
+		smtConfig.log.out = initialOut;
+		smtConfig.log.diag = initialDiag;
 		smtConfig.globalDeclarations = false;
 		checkSatStatus = null;
 
@@ -118,8 +124,8 @@ public class Solver_test implements ISolver {
 		assertionSetStack.get(0).clear();
 		if (!smt().globalDeclarations) {
 			symTable.clear(true);
-			// FIXME - should we do anything with typemap? In general isn't typemap a big leaky thing?
 		}
+		typemap.clear();
 		return r;
 	}
 
@@ -194,6 +200,17 @@ public class Solver_test implements ISolver {
 		return checkSatStatus;
 	}
 	
+	@Override
+	public IResponse check_sat(Duration timeout) {
+		// No proving is done, so there is no need to enforce the deadline
+		return check_sat();
+	}
+	
+	@Override
+	public void cancel() {
+		// Nothing to cancel - all the work is done synchronously in this thread
+	}
+	
 	@Override
 	public IResponse check_sat_assuming(IExpr ... exprs) {
 		if (smtConfig.verbose != 0) smtConfig.log.logDiag("#check-sat-assuming");
@@ -228,7 +245,7 @@ public class Solver_test implements ISolver {
 	
 	@Override
 	public IResponse get_value(IExpr... terms) {
-		TypeChecker tc = new TypeChecker(symTable);
+		TypeChecker tc = new TypeChecker(symTable,typemap);
 		try {
 			for (IExpr term: terms) {
 				term.accept(tc);
@@ -305,6 +322,9 @@ public class Solver_test implements ISolver {
 				assertionSetStack.remove(0); 
 				symTable.pop(); 
 			}
+			// The sorts are only looked up while translating the expression just checked, so there is no
+			// need to keep them; otherwise every expression ever asserted would stay reachable from here
+			typemap.clear();
 		}
 		if (smtConfig.verbose != 0) smtConfig.log.logDiag("###stack size " + assertionSetStack.size());
 		checkSatStatus = null;
@@ -156,6 +156,7 @@ public class Solver_yices extends Solver_test implements ISolver {
 	public IResponse pop(int number) {
 		IResponse status = super.pop(number);
 		if (status.isError()) return status;
+		translator = null;
 		while (number-- > 0) {
 			IResponse response = send(null,"(pop)");
 			if (response != null) return response;
@@ -167,6 +168,7 @@ public class Solver_yices extends Solver_test implements ISolver {
 	public IResponse push(int number) {
 		IResponse status = super.push(number);
 		if (status.isError()) return status;
+		translator = null;
 		while (number-- > 0) {
 			IResponse response = send(null,"(push)");
 			if (response != null) return response;
@@ -174,11 +176,18 @@ public class Solver_yices extends Solver_test implements ISolver {
 		return smtConfig.responseFactory.success();
 	}
 
+	@Override
+	public IResponse reset() {
+		translator = null;
+		return super.reset();
+	}
+
 	@Override
 	public IResponse set_logic(String logicName, /*@Nullable*/ IPos pos) {
 		boolean lSet = logicSet != null;
 		IResponse status = super.set_logic(logicName,pos);
 		if (!status.isOK()) return status;
+		translator = null;
 
 		// FIXME - discrimninate among logics
 
@@ -199,7 +208,7 @@ public class Solver_yices extends Solver_test implements ISolver {
 			}
 			((Response.Factory)smtConfig.responseFactory).printSuccess = !Utils.FALSE.equals(value);
 		}
-		if (logicSet != null && (smtConfig.utils.INTERACTIVE_MODE.equals(option)||smtConfig.utils.PRODUCE_ASSERTIONS.equals(option))) {
+		if (logicSet != null && (Utils.INTERACTIVE_MODE.equals(option)||Utils.PRODUCE_ASSERTIONS.equals(option))) {
 			return smtConfig.responseFactory.error("jSMTLIB: The value of the " + option + " option must be set before the set-logic command");
 		}
 		if (Utils.PRODUCE_ASSIGNMENTS.equals(option) || 
@@ -461,12 +470,25 @@ public class Solver_yices extends Solver_test implements ISolver {
 		}
 	}
 	
+	/** The translator kept for the current push level, if smtConfig.memo is set and one has been needed;
+	 * it is dropped by push, pop, reset and set-logic, after which its memoized text may be stale */
+	protected /*@Nullable*/ Translator translator = null;
+
+	/** Returns the translator for the next expression: a new one, or, if smtConfig.memo is set, the
+	 * one kept for the current push level, so that the texts of shared subterms are reused across
+	 * the assertions of that level */
+	protected Translator translator() {
+		if (!smtConfig.memo) return new Translator();
+		if (translator == null) translator = new Translator();
+		return translator;
+	}
+
 	public /*@Nullable*/ String translate(IExpr expr) throws IVisitor.VisitorException {
-		return expr.accept(new Translator());
+		return translator().translate(expr);
 	}
 	
 	public /*@Nullable*/ String translate(ISort expr) throws IVisitor.VisitorException {
-		return expr.accept(new Translator());
+		return new Translator().translate(expr);
 	}
 	
 	/* Yices does not distinguish formulas and terms, so the mapping
@@ -543,7 +565,7 @@ public class Solver_yices extends Solver_test implements ISolver {
 	}
 
 	
-	public class Translator extends IVisitor.NullVisitor<String> {
+	public class Translator extends BufferedTranslator {
 		
 		public Translator() {}
 		
@@ -552,122 +574,117 @@ public class Solver_yices extends Solver_test implements ISolver {
 		}
 
 		@Override
-		public String visit(IDecimal e) throws IVisitor.VisitorException {
+		public Void visit(IDecimal e) throws IVisitor.VisitorException {
 			throw new VisitorException("The yices solver cannot handle decimal literals",e.pos());
 		}
 
 		@Override
-		public String visit(IStringLiteral e) throws IVisitor.VisitorException {
+		public Void visit(IStringLiteral e) throws IVisitor.VisitorException {
 			throw new VisitorException("The yices solver cannot handle string literals",e.pos());
 		}
 
 		@Override
-		public String visit(INumeral e) throws IVisitor.VisitorException {
-			return e.value().toString();
+		public Void visit(INumeral e) throws IVisitor.VisitorException {
+			out.append(e.value());
+			return null;
 		}
 
 		@Override
-		public String visit(IBinaryLiteral e) throws IVisitor.VisitorException {
-			return "0b" + e.value();
+		public Void visit(IBinaryLiteral e) throws IVisitor.VisitorException {
+			out.append("0b").append(e.value());
+			return null;
 		}
 
 		@Override
-		public String visit(IHexLiteral e) throws IVisitor.VisitorException {
+		public Void visit(IHexLiteral e) throws IVisitor.VisitorException {
 			// Convert to binary literal
 			final String[] bits = { "0000", "1000", "0100", "1100", "0010", "1010", "0110", "1110", "0001", "1001", "0101", "1101", "0011", "1011", "0111", "1111" };
-			StringBuilder s = new StringBuilder();
 			for (int i = 0; i < e.value().length(); i++) {
 				char c = e.value().charAt(i);
 				int k = c <= '9' ? (c-'0') : c <= 'Z' ? (c - 'A' + 10) : (c - 'a' + 10);
-				s.append(bits[k]);
+				out.append(bits[k]);
 			}
-			return s.toString();
+			return null;
 		}
 		
 
 		@Override
-		public String visit(IFcnExpr e) throws IVisitor.VisitorException {
+		protected Void fcn(IFcnExpr e) throws IVisitor.VisitorException {
 			Iterator<IExpr> iter = e.args().iterator();
 			if (!iter.hasNext()) throw new SMTLIBRuntimeException("Did not expect an empty argument list");
 			IQualifiedIdentifier fcn = e.head();
-			String fcnname = fcn.headSymbol().accept(this);
+			String fcnname = text(fcn.headSymbol());
 			// FIXME - should we be doing these comparisons with strings?
 			if (fcn instanceof ParameterizedIdentifier && fcn.headSymbol().toString().equals(fcnname)) {
 				throw new VisitorException("Unknown parameterized function symbol: " + fcnname, e.pos());
 			}
-			StringBuilder sb = new StringBuilder();
 			int length  = e.args().size();
 			if (fcnname.equals("or") || fcnname.equals("and")) {
 				// operators that are still multi-arity
-				sb.append("( ");
-				sb.append(fcnname);
+				out.append("( ");
+				out.append(fcnname);
 				while (iter.hasNext()) {
-					sb.append(" ");
-					sb.append(iter.next().accept(this));
+					out.append(" ");
+					iter.next().accept(this);
 				}
-				sb.append(" )");
-				return sb.toString();
+				out.append(" )");
 			} else if (fcnname.equals("=") || fcnname.equals("<") || fcnname.equals(">") || fcnname.equals("<=") || fcnname.equals(">=")) {
 				// chainable
-				return remove_chainable(fcnname,iter);
+				remove_chainable(fcnname,iter);
 			} else if (fcnname.equals("xor")) {
 				fcnname = "/=";
 				// left-associative operators that need grouping
-				return remove_leftassoc(fcnname,length,iter);
+				remove_leftassoc(fcnname,length,iter);
 			} else if (fcnname.equals("=>")) {
 				// right-associative operators that need grouping
 				if (!iter.hasNext()) {
 					throw new VisitorException("=> operation without arguments",e.pos());
 				}
-				return remove_rightassoc(fcnname,iter);
+				remove_rightassoc(fcnname,iter);
 			} else if (fcnname.equals("distinct")) {
 				if (length == 2) {
-					sb.append("(/=");
+					out.append("(/=");
 					while (iter.hasNext()) {
-						sb.append(" ");
-						sb.append(iter.next().accept(this));
+						out.append(" ");
+						iter.next().accept(this);
 					}
-					sb.append(")");
+					out.append(")");
 				} else {
 					int j = 0;
-					sb.append("(and");
+					out.append("(and");
 					while (iter.hasNext()) {
 						IExpr n = iter.next();
 						for (int k = 0; k<j; k++) {
-							sb.append(" (/= ");
-							sb.append(n.accept(this));
-							sb.append(" ");
-							sb.append(e.args().get(k).accept(this));
-							sb.append(")");
+							out.append(" (/= ");
+							n.accept(this);
+							out.append(" ");
+							e.args().get(k).accept(this);
+							out.append(")");
 						}
 						++j;
 					}
-					sb.append(")");
+					out.append(")");
 				}
-				return sb.toString();
 			} else if (length == 1 && fcnname.equals("-")) {
 				// In yices there is no negation: (- x) is just x
 				// We express negation with (- 0 x)
-				sb.append("(- 0 ");
-				sb.append(iter.next().accept(this));
-				sb.append(" )");
-				return sb.toString();
+				out.append("(- 0 ");
+				iter.next().accept(this);
+				out.append(" )");
 			} else if (length == 2 && symTable.arrayTheorySet && fcnname.equals("select")) {
-				sb.append("(");
-				sb.append(iter.next().accept(this));
-				sb.append(" ");
-				sb.append(iter.next().accept(this));
-				sb.append(")");
-				return sb.toString();
+				out.append("(");
+				iter.next().accept(this);
+				out.append(" ");
+				iter.next().accept(this);
+				out.append(")");
 			} else if (length == 3 && symTable.arrayTheorySet && fcnname.equals("store")) {
-				sb.append("(update ");
-				sb.append(iter.next().accept(this));
-				sb.append(" (");
-				sb.append(iter.next().accept(this));
-				sb.append(") ");
-				sb.append(iter.next().accept(this));
-				sb.append(")");
-				return sb.toString();
+				out.append("(update ");
+				iter.next().accept(this);
+				out.append(" (");
+				iter.next().accept(this);
+				out.append(") ");
+				iter.next().accept(this);
+				out.append(")");
 			} else {
 				if (symTable.bitVectorTheorySet) {
 					// Predefined: bvadd, bvmul, bvneg, bvnot, bvshl, bvlshr, concat, extract, bvult, bvudiv, bvurem, bvand, bvor
@@ -677,15 +694,15 @@ public class Solver_yices extends Solver_test implements ISolver {
 					} else if (newname.isEmpty()) {
 						throw new VisitorException("The BitVector function " + fcnname + " is not implemented in yices",e.pos());
 					} else if (fcnname.equals("extract")) {
-						sb.append("(bv-extract ");
+						out.append("(bv-extract ");
 						IParameterizedIdentifier pid = (IParameterizedIdentifier)fcn;
-						sb.append(pid.numerals().get(1).intValue());
-						sb.append(" ");
-						sb.append(pid.numerals().get(0).intValue());
-						sb.append(" ");
-						sb.append(iter.next().accept(this));
-						sb.append(")");
-						return sb.toString();
+						out.append(pid.numerals().get(1).intValue());
+						out.append(" ");
+						out.append(pid.numerals().get(0).intValue());
+						out.append(" ");
+						iter.next().accept(this);
+						out.append(")");
+						return null;
 					} else if (fcnname.equals("bvshl") || fcnname.equals("bvlshr")) {
 						throw new VisitorException("The BitVector function " + fcnname + " is not implementetd in yices",e.pos());
 					} else {
@@ -693,214 +710,208 @@ public class Solver_yices extends Solver_test implements ISolver {
 					}
 				}
 				// no associativity 
-				sb.append("( ");
-				sb.append(fcnname);
+				out.append("( ");
+				out.append(fcnname);
 				while (iter.hasNext()) {
-					sb.append(" ");
-					sb.append(iter.next().accept(this));
+					out.append(" ");
+					iter.next().accept(this);
 				}
-				sb.append(" )");
-				return sb.toString();
+				out.append(" )");
 			}
+			return null;
 		}
 			
 		//@ requires iter.hasNext();
-		private <T extends IExpr> String remove_rightassoc(String fcnname, Iterator<T> iter ) throws IVisitor.VisitorException {
+		private <T extends IExpr> void remove_rightassoc(String fcnname, Iterator<T> iter ) throws IVisitor.VisitorException {
 			T n = iter.next();
 			if (!iter.hasNext()) {
-				return n.accept(this);
+				n.accept(this);
 			} else {
-				StringBuilder sb = new StringBuilder();
-				sb.append("(");
-				sb.append(fcnname);
-				sb.append(" ");
-				sb.append(n.accept(this));
-				sb.append(" ");
-				sb.append(remove_rightassoc(fcnname,iter));
-				sb.append(")");
-				return sb.toString();
+				out.append("(");
+				out.append(fcnname);
+				out.append(" ");
+				n.accept(this);
+				out.append(" ");
+				remove_rightassoc(fcnname,iter);
+				out.append(")");
 			}
 		}
 
 		//@ requires iter.hasNext();
 		//@ requires length > 0;
-		private <T extends IExpr> String remove_leftassoc(String fcnname, int length, Iterator<T> iter ) throws IVisitor.VisitorException {
+		private <T extends IExpr> void remove_leftassoc(String fcnname, int length, Iterator<T> iter ) throws IVisitor.VisitorException {
 			if (length == 1) {
-				return iter.next().accept(this);
+				iter.next().accept(this);
 			} else {
-				StringBuilder sb = new StringBuilder();
-				sb.append("(");
-				sb.append(fcnname);
-				sb.append(" ");
-				sb.append(remove_leftassoc(fcnname,length-1,iter));
-				sb.append(" ");
-				sb.append(iter.next().accept(this));
-				sb.append(")");
-				return sb.toString();
+				out.append("(");
+				out.append(fcnname);
+				out.append(" ");
+				remove_leftassoc(fcnname,length-1,iter);
+				out.append(" ");
+				iter.next().accept(this);
+				out.append(")");
 			}
 		}
 		
 		//@ requires iter.hasNext();
 		//@ requires length > 0;
-		private <T extends IAccept> String remove_chainable(String fcnname, Iterator<T> iter ) throws IVisitor.VisitorException {
-			StringBuilder sb = new StringBuilder();
-			sb.append("(and ");
+		private <T extends IAccept> void remove_chainable(String fcnname, Iterator<T> iter ) throws IVisitor.VisitorException {
+			out.append("(and ");
 			T left = iter.next();
 			while (iter.hasNext()) {
-				sb.append("(");
-				sb.append(fcnname);
-				sb.append(" ");
-				sb.append(left.accept(this));
-				sb.append(" ");
-				sb.append((left=iter.next()).accept(this));
-				sb.append(")");
+				out.append("(");
+				out.append(fcnname);
+				out.append(" ");
+				left.accept(this);
+				out.append(" ");
+				(left=iter.next()).accept(this);
+				out.append(")");
 			}
-			sb.append(")");
-			return sb.toString();
+			out.append(")");
 		}
 
 		@Override
-		public String visit(ISymbol e) throws IVisitor.VisitorException {
-			return e.value(); // FIXME - translate
+		public Void visit(ISymbol e) throws IVisitor.VisitorException {
+			out.append(e.value()); // FIXME - translate
+			return null;
 		}
 
 		@Override
-		public String visit(IKeyword e) throws IVisitor.VisitorException {
+		public Void visit(IKeyword e) throws IVisitor.VisitorException {
 			throw new VisitorException("Did not expect a Keyword in an expression to be translated",e.pos());
 		}
 
 		@Override
-		public String visit(IError e) throws IVisitor.VisitorException {
+		public Void visit(IError e) throws IVisitor.VisitorException {
 			throw new VisitorException("Did not expect a Error token in an expression to be translated", e.pos());
 		}
 
 		@Override
-		public String visit(IParameterizedIdentifier e) throws IVisitor.VisitorException {
+		public Void visit(IParameterizedIdentifier e) throws IVisitor.VisitorException {
 			// FIXME - use default printer properly to print Symbol
 			throw new IVisitor.VisitorException("Unsupported parameterized function symbol: " + e.headSymbol().toString(),e.pos());
 		}
 
 		@Override
-		public String visit(IAsIdentifier e) throws IVisitor.VisitorException {
+		public Void visit(IAsIdentifier e) throws IVisitor.VisitorException {
 			throw new UnsupportedOperationException("visit-IAsIdentifier");
 		}
 
 		@Override
-		public String visit(IForall e) throws IVisitor.VisitorException {
-			StringBuffer sb = new StringBuffer();
-			sb.append("(forall (");
+		public Void visit(IForall e) throws IVisitor.VisitorException {
+			out.append("(forall (");
 			for (IDeclaration d: e.parameters()) {
-				sb.append(d.parameter().accept(this));
-				sb.append("::");
-				sb.append(d.sort().accept(this));
-				sb.append(" ");
+				d.parameter().accept(this);
+				out.append("::");
+				d.sort().accept(this);
+				out.append(" ");
 			}
-			sb.append(") ");
-			sb.append(e.expr().accept(this));
-			sb.append(")");
-			return sb.toString();
+			out.append(") ");
+			e.expr().accept(this);
+			out.append(")");
+			return null;
 		}
 
 		@Override
-		public String visit(IExists e) throws IVisitor.VisitorException {
-			StringBuffer sb = new StringBuffer();
-			sb.append("(exists (");
+		public Void visit(IExists e) throws IVisitor.VisitorException {
+			out.append("(exists (");
 			for (IDeclaration d: e.parameters()) {
-				sb.append(d.parameter().accept(this));
-				sb.append("::");
-				sb.append(d.sort().accept(this));
-				sb.append(" ");
+				d.parameter().accept(this);
+				out.append("::");
+				d.sort().accept(this);
+				out.append(" ");
 			}
-			sb.append(") ");
-			sb.append(e.expr().accept(this));
-			sb.append(")");
-			return sb.toString();
+			out.append(") ");
+			e.expr().accept(this);
+			out.append(")");
+			return null;
 		}
 
 		@Override
-		public String visit(ILet e) throws IVisitor.VisitorException {
-			StringBuffer sb = new StringBuffer();
-			sb.append("(let (");
+		public Void visit(ILet e) throws IVisitor.VisitorException {
+			out.append("(let (");
 			for (IBinding d: e.bindings()) {
-				sb.append("(");
-				sb.append(d.parameter().accept(this));
-				sb.append(" ");
-				sb.append(d.expr().accept(this));
-				sb.append(")");
+				out.append("(");
+				d.parameter().accept(this);
+				out.append(" ");
+				d.expr().accept(this);
+				out.append(")");
 			}
-			sb.append(") ");
-			sb.append(e.expr().accept(this));
-			sb.append(")");
-			return sb.toString();
+			out.append(") ");
+			e.expr().accept(this);
+			out.append(")");
+			return null;
 		}
 
 		@Override
-		public String visit(IAttribute<?> e) throws IVisitor.VisitorException {
+		public Void visit(IAttribute<?> e) throws IVisitor.VisitorException {
 			throw new UnsupportedOperationException("visit-IAttribute");
 		}
 
 		@Override
-		public String visit(IAttributedExpr e) throws IVisitor.VisitorException {
+		public Void visit(IAttributedExpr e) throws IVisitor.VisitorException {
 			IExpr expr = e.expr();
 			IAttribute<?> attr = e.attributes().get(0);
 			if (attr.keyword().toString().equals(":named")) {
 				String name = encode(attr.attrValue());
-				String ex = expr.accept(this);
-				String sort = typemap.get(expr).accept(this);
+				String ex = text(expr);
+				String sort = text(typemap.get(expr));
 				String def = "(define " + name + "::" + sort + " " + ex + ")";
 				IResponse response = send(e.pos(),def);
 				if (response != null) {
 					throw new VisitorException("Failed to define attributed expression: " + response, e.pos()); // FIXME - error message format?
 				}
-				return ex;
+				out.append(ex);
+				return null;
 			} else {
 				throw new VisitorException("Unexpected kind of keyword: " + smtConfig.defaultPrinter.toString(attr.keyword()),attr.pos());
 			}
 		}
 
 		@Override
-		public String visit(IDeclaration e) throws IVisitor.VisitorException {
+		public Void visit(IDeclaration e) throws IVisitor.VisitorException {
 			throw new UnsupportedOperationException("visit-IDeclaration");
 		}
 
-		public String visit(ISort.IFamily s) throws IVisitor.VisitorException {
+		public Void visit(ISort.IFamily s) throws IVisitor.VisitorException {
 			return s.identifier().accept(this);
 		}
 		
-		public String visit(ISort.IAbbreviation s) throws IVisitor.VisitorException {
+		public Void visit(ISort.IAbbreviation s) throws IVisitor.VisitorException {
 			throw new UnsupportedOperationException("visit-ISort.IAbbreviation");
 		}
 		
-		public String visit(ISort.IApplication s) throws IVisitor.VisitorException {
-			if (s.isBool()) return "bool";
-			String sort = s.family().headSymbol().accept(this);
+		public Void visit(ISort.IApplication s) throws IVisitor.VisitorException {
+			if (s.isBool()) {
+				out.append("bool");
+				return null;
+			}
+			String sort = text(s.family().headSymbol());
 			if (s.parameters().size() == 0) {
-				if ("Int".equals(sort)) return "int";
-				if ("Real".equals(sort)) return "real";
-				if (symTable.bitVectorTheorySet && "BitVec".equals(sort)) {
-					String sbv = "(bitvector ";
+				if ("Int".equals(sort)) sort = "int";
+				else if ("Real".equals(sort)) sort = "real";
+				else if (symTable.bitVectorTheorySet && "BitVec".equals(sort)) {
 					int k = ((IParameterizedIdentifier)s.family()).numerals().get(0).intValue();
-					sbv = sbv + k + ")";
-					return sbv;
+					sort = "(bitvector " + k + ")";
 				}
-				return sort;
+				out.append(sort);
+				return null;
 			} else {
 				if (symTable.arrayTheorySet && "Array".equals(sort)) {
-					StringBuilder sb = new StringBuilder();
-					sb.append("(-> ");
-					sb.append(s.parameters().get(0).accept(this));
-					sb.append(" ");
-					sb.append(s.parameters().get(1).accept(this));
-					sb.append(")");
-					return sb.toString();
+					out.append("(-> ");
+					s.parameters().get(0).accept(this);
+					out.append(" ");
+					s.parameters().get(1).accept(this);
+					out.append(")");
+					return null;
 				}
 				throw new VisitorException("Yices does not support user-defined parameterized sorts: " + s, s.pos());
 			}
 		}
-		public String visit(ISort.IFcnSort s) {
+		public Void visit(ISort.IFcnSort s) {
 			throw new UnsupportedOperationException("visit-ISort.IFcnSort");
 		}
-		public String visit(ISort.IParameter s) {
+		public Void visit(ISort.IParameter s) {
 			throw new UnsupportedOperationException("visit-ISort.IParameter");
 		}
 		
@@ -1,7 +1,6 @@
 package org.smtlib.solvers;
 
 import java.io.IOException;
-import java.io.StringWriter;
 import java.io.Writer;
 import java.util.Iterator;
 import java.util.LinkedList;
@@ -24,6 +23,7 @@ public class Solver_z3_2_11 extends Solver_z3_4_3 {
 		super(smtConfig,executable);
 		cmds = new String[]{ executable, "/smt2","/in","/m"}; 
 		solverProcess.setCmd(cmds);
+		solverProcess.setFramed(false); // Z3 2.11 predates the echo command
 		NAME_VALUE = "z3-2.11";
 		VERSION_VALUE = "2.11";
 	}
@@ -46,7 +46,7 @@ public class Solver_z3_2_11 extends Solver_z3_4_3 {
 	}
 	
 	@Override 
-	public IResponse get_value(IExpr... terms) {
+	public IResponse get_value(final IExpr... terms) {
 		// FIXME - do we really want to call get-option here? it involves going to the solver?
 		if (!Utils.TRUE.equals(get_option(smtConfig.exprFactory.keyword(Utils.PRODUCE_MODELS)))) {
 			return smtConfig.responseFactory.error("jSMTLIB: The get-value command is only valid if :produce-models has been enabled");
@@ -55,11 +55,17 @@ public class Solver_z3_2_11 extends Solver_z3_4_3 {
 			return smtConfig.responseFactory.error("jSMTLIB: A get-value command is valid only after check-sat has returned sat or unknown");
 		}
 		try {
-			solverProcess.sendNoListen("(get-value (");
-			for (IExpr e: terms) {
-				solverProcess.sendNoListen(" ",translate(e));
-			}
-			String r = solverProcess.sendAndListen("))\n");
+			String r = solverProcess.sendAndListen(new SolverProcess.IText() {
+				@Override
+				public void write(Writer w) throws IOException, IVisitor.VisitorException {
+					w.write("(get-value (");
+					for (IExpr e: terms) {
+						w.write(" ");
+						translate(w,e);
+					}
+					w.write("))\n");
+				}
+			});
 			IResponse response = parseResponse(r);
 			if (response instanceof ISeq) {
 				List<ISexpr> valueslist = new LinkedList<ISexpr>();
@@ -83,18 +89,22 @@ public class Solver_z3_2_11 extends Solver_z3_4_3 {
 
 	/** Translates an S-expression into Z3 syntax */
 	@Override
-	protected String translate(IAccept sexpr) throws IVisitor.VisitorException {
+	protected void translate(Writer w, IAccept sexpr) throws IVisitor.VisitorException {
 		// The z3 solver uses the standard S-expression concrete syntax, but not quite
 		// so we have to use our own translator
-		StringWriter sw = new StringWriter();
-		sexpr.accept(new Translator(sw));
-		return sw.toString();
+		sexpr.accept(new Translator(w).share(smtConfig.share,smtConfig.exprFactory));
 	}
 	
 	public class Translator extends Solver_z3_4_3.Translator {
 		
 		public Translator(Writer w) { super (w); }
 		
+		/** Every function application is printed by visit(IFcnExpr) below */
+		@Override
+		protected boolean plain(IFcnExpr e) {
+			return false;
+		}
+		
 		@Override
 		public Void visit(IBinaryLiteral e) throws IVisitor.VisitorException {
 			try {
@@ -15,12 +15,14 @@ import java.io.IOException;
 import java.io.PrintStream;
 import java.io.StringWriter;
 import java.io.Writer;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ScheduledFuture;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -45,9 +47,10 @@ import org.smtlib.IParser.ParserException;
 import org.smtlib.SMT.Configuration.SMTLIB;
 import org.smtlib.impl.Pos;
 import org.smtlib.sexpr.Printer;
+import org.smtlib.sexpr.Sharing;
 
 /** This class is an adapter that takes the SMT-LIB ASTs and translates them into Z3 commands */
-public class Solver_z3_4_3 extends AbstractSolver implements ISolver {
+public class Solver_z3_4_3 extends AbstractSolver implements ISolver, SolverPool.IPoolable {
 	
 	protected String NAME_VALUE = "z3-4.3";
 	protected String AUTHORS_VALUE = "Leonardo de Moura and Nikolaj Bjorner";
@@ -105,26 +108,72 @@ public class Solver_z3_4_3 extends AbstractSolver implements ISolver {
 		if (timeout > 0) {
 			List<String> args = new java.util.ArrayList<String>(cmds.length+1);
 			args.addAll(Arrays.asList(cmds));
-			if (isWindows) args.add("/T:" + Integer.toString((int)timeout));
-			else           args.add("-T:" + Integer.toString((int)timeout));
+			// The soft limit (in ms), after which z3 answers unknown; with -T (in seconds) z3 exits
+			String ms = Long.toString(Math.round(1000*timeout+0.5));
+			if (isWindows) args.add("/t:" + ms);
+			else           args.add("-t:" + ms);
 			cmds = args.toArray(new String[args.size()]);
 		}
 		solverProcess = new SolverProcess(cmds,"\n",smtConfig.logfile);
+		solverProcess.setFramed(true);
 		responseParser = new org.smtlib.sexpr.Parser(smt(),new Pos.Source("",null));
 	}
 
 	public IResponse sendCommand(ICommand cmd) {
-		String translatedCmd = null;
 		try {
-			translatedCmd = translate(cmd);
-			return parseResponse(solverProcess.sendAndListen(translatedCmd,"\n"));
+			return parseResponse(solverProcess.sendAndListen(text("",cmd,"\n")));
 		} catch (IOException e) {
-			throw new SMT.InternalException("jSMTLIB: Error writing to solver: " + translatedCmd + " .", e);
+			throw new SMT.InternalException("jSMTLIB: Error writing to solver: " + cmd + " .", e);
 		} catch (IVisitor.VisitorException e) {
-			throw new SMT.InternalException("jSMTLIB: Error writing to solver: " + translatedCmd + " .", e);
+			throw new SMT.InternalException("jSMTLIB: Error writing to solver: " + cmd + " .", e);
 		}
 	}
 	
+	/** Sends a command whose only reply is success or an error, such as a declaration or an assertion,
+	 * and returns the parsed reply. If pipelining is enabled, the command is sent without waiting for
+	 * the reply and success is returned; once the reply is read, an error reply is logged against the
+	 * position of the failed command, and an unparsable reply is raised as an InternalException, 
+	 * naming that position, by whichever later operation reads it.
+	 */
+	protected IResponse sendAcknowledged(/*@Nullable*/ final IPos pos, String ... text) throws IOException {
+		if (!smtConfig.pipeline) return parseResponse(solverProcess.sendAndListen(text));
+		solverProcess.sendPipelined(acknowledgement(pos),text);
+		return successOrEmpty(smtConfig);
+	}
+	
+	/** Sends a command, given as text that is translated as it is sent, whose only reply is success
+	 * or an error, as for sendAcknowledged(IPos,String...) */
+	protected IResponse sendAcknowledged(/*@Nullable*/ final IPos pos, SolverProcess.IText text) throws IOException, IVisitor.VisitorException {
+		if (!smtConfig.pipeline) return parseResponse(solverProcess.sendAndListen(text));
+		solverProcess.sendPipelined(acknowledgement(pos),text);
+		return successOrEmpty(smtConfig);
+	}
+	
+	/** The recipient of the reply to a pipelined command at the given position */
+	protected SolverProcess.Pending acknowledgement(/*@Nullable*/ final IPos pos) {
+		return new SolverProcess.Pending() {
+			@Override
+			public void reply(String reply) {
+				try {
+					IResponse r = parseResponse(reply);
+					if (r.isError()) {
+						IResponse.IError e = (IResponse.IError)r;
+						if (e.pos() == null) e.setPos(pos);
+						smtConfig.log.logError(e);
+					}
+				} catch (SMT.InternalException e) {
+					String where = pos == null || pos.source() == null ? "" : " at line " + pos.source().lineNumber(pos.charStart());
+					throw new SMT.InternalException("jSMTLIB: A pipelined command" + where + " failed: " + e.getMessage(), e);
+				}
+			}
+		};
+	}
+	
+	/** The position of the given command, if it has one */
+	protected /*@Nullable*/ IPos pos(ICommand cmd) {
+		return cmd instanceof IPos.IPosable ? ((IPos.IPosable)cmd).pos() : null;
+	}
+	
 	public IResponse sendCommand(String cmd) {
 		try {
 			return parseResponse(solverProcess.sendAndListen(cmd,"\n"));
@@ -164,6 +213,32 @@ public class Solver_z3_4_3 extends AbstractSolver implements ISolver {
 		}
 	}
 
+	@Override
+	public boolean isRunning() {
+		return solverProcess.isRunning(true);
+	}
+	
+	@Override
+	public IResponse recycle() {
+		try {
+			logicSet = false;
+			pushesDepth = 0;
+			checkSatStatus = null;
+			options.clear();
+			options.putAll(smtConfig.utils.defaults);
+			// As in start(), :verbosity is not set (cf. the FIXME there)
+			SolverPool.reset(solverProcess,"(set-option :print-success true)\n");
+			return smtConfig.responseFactory.success();
+		} catch (IOException e) {
+			return smtConfig.responseFactory.error("jSMTLIB: Failed to reset solver: " + e);
+		}
+	}
+	
+	@Override
+	public void rebind(SMT.Configuration smtConfig) {
+		this.smtConfig = smtConfig;
+	}
+
 	@Override 
 	public void comment(String comment) {
 		try {
@@ -175,13 +250,31 @@ public class Solver_z3_4_3 extends AbstractSolver implements ISolver {
 
 	/** Translates an S-expression into Z3 syntax */
 	protected String translate(IAccept sexpr) throws IVisitor.VisitorException {
-		// The z3 solver uses the standard S-expression concrete syntax, but not quite
-		// so we have to use our own translator
 		StringWriter sw = new StringWriter();
-		sexpr.accept(new Translator(sw));
+		translate(sw,sexpr);
 		return sw.toString();
 	}
 	
+	/** Translates an S-expression into Z3 syntax, writing it to the given Writer */
+	protected void translate(Writer w, IAccept sexpr) throws IVisitor.VisitorException {
+		// The z3 solver uses the standard S-expression concrete syntax, but not quite
+		// so we have to use our own translator
+		sexpr.accept(new Translator(w).share(smtConfig.share,smtConfig.exprFactory));
+	}
+	
+	/** Returns the text of the given S-expression, between the given prefix and suffix, which is 
+	 * translated as it is sent to the solver */
+	protected SolverProcess.IText text(final String prefix, final IAccept sexpr, final String suffix) {
+		return new SolverProcess.IText() {
+			@Override
+			public void write(Writer w) throws IOException, IVisitor.VisitorException {
+				w.write(prefix);
+				translate(w,sexpr);
+				w.write(suffix);
+			}
+		};
+	}
+	
 	/** Translates an S-expression into standard SMT syntax */
 	protected String translateSMT(IAccept sexpr) throws IVisitor.VisitorException {
 		// The z3 solver uses the standard S-expression concrete syntax, but not quite
@@ -214,20 +307,7 @@ public class Solver_z3_4_3 extends AbstractSolver implements ISolver {
 				String concat = "";
 				while (m.lookingAt()) {
 					if (!concat.isEmpty()) concat = concat + "; ";
-					String matched = m.group(1);
-					String prefix = "line ";
-					int offset = prefix.length();
-					if (matched.startsWith(prefix)) {
-						int k = matched.indexOf(' ',offset);
-						String number = matched.substring(offset, k);
-						try {
-							int n = Integer.parseInt(number);
-							matched = prefix + (n-linesOffset) + matched.substring(k);
-						} catch (NumberFormatException e) {
-							// Just continue
-						}
-					}
-					concat = concat + matched;
+					concat = concat + renumber(m.group(1));
 					m.region(m.end(0),m.regionEnd());
 				}
 				if (!concat.isEmpty()) response = concat;
@@ -239,6 +319,66 @@ public class Solver_z3_4_3 extends AbstractSolver implements ISolver {
 			throw new SMT.InternalException("jSMTLIB: ParserException while parsing response: " + response + " .", e);
 		}
 	}
+	
+	/** Adjusts the line number at the beginning of an error message from Z3, if there is one, for
+	 * the lines sent to the solver that were not in the input (cf. linesOffset) */
+	protected String renumber(String msg) {
+		String prefix = "line ";
+		int offset = prefix.length();
+		if (msg.startsWith(prefix)) {
+			int k = msg.indexOf(' ',offset);
+			if (k < 0) return msg;
+			String number = msg.substring(offset, k);
+			try {
+				int n = Integer.parseInt(number);
+				msg = prefix + (n-linesOffset) + msg.substring(k);
+			} catch (NumberFormatException e) {
+				// Just continue
+			}
+		}
+		return msg;
+	}
+	
+	/** Sends a command whose reply may be large (e.g. a model or proof) and parses the reply as
+	 * it is read from the solver, rather than first collecting it into a String; an error reply 
+	 * is thrown as an SMT.InternalException, as for parseResponse. */
+	protected IResponse sendStreamed(final String ... cmd) throws IOException {
+		solverProcess.sendForReply(cmd);
+		return streamedResponse();
+	}
+	
+	/** Sends a command, given as text that is translated as it is sent, whose reply is parsed as it
+	 * is read (cf. sendStreamed(String...)) */
+	protected IResponse sendStreamed(SolverProcess.IText cmd) throws IOException, IVisitor.VisitorException {
+		solverProcess.sendForReply(cmd);
+		return streamedResponse();
+	}
+	
+	/** Parses the reply to a command sent by sendStreamed as it is read, rewriting legacy bit-vector
+	 * constants and renumbering the lines of errors as parseResponse does; anything the solver writes
+	 * after the reply (e.g. an error following a value) is read too, an error there being thrown */
+	protected IResponse streamedResponse() throws IOException {
+		IResponse response;
+		ParserException failure = null;
+		try {
+			responseParser = new org.smtlib.sexpr.Parser(smt(),new Pos.Source(new LegacyBitVectors(solverProcess.nextReply(SMT.Configuration.SMTLIB.V20.toString().equals(SMT.Configuration.smtlib))),null));
+			response = responseParser.parseResponse();
+		} catch (ParserException e) {
+			response = null;
+			failure = e;
+		}
+		String rest = solverProcess.endReply();
+		String err = solverProcess.errorOutput();
+		if (!err.isEmpty() && solverProcess.log != null) { solverProcess.log.write(";ERR: "); solverProcess.log.write(err); }
+		if (!rest.trim().isEmpty()) {
+			IResponse r = parseResponse(rest);
+			if (r.isError()) throw new SMT.InternalException(renumber(((IResponse.IError)r).errorMsg()));
+			throw new SMT.InternalException("jSMTLIB: Unexpected output following the solver's reply: " + rest.trim());
+		}
+		if (response == null) throw new SMT.InternalException("jSMTLIB: ParserException while parsing response.", failure);
+		if (response.isError()) throw new SMT.InternalException(renumber(((IResponse.IError)response).errorMsg()));
+		return response;
+	}
 
 	@Override
 	public IResponse assertExpr(IExpr sexpr) {
@@ -250,8 +390,8 @@ public class Solver_z3_4_3 extends AbstractSolver implements ISolver {
 			throw new SMT.InternalException("jSMTLIB: The logic must be set before an assert command is issued");
 		}
 		try {
-			String s = solverProcess.sendAndListen("(assert ",translate(sexpr),")\n");
-			response = parseResponse(s);
+			IExpr e = Sharing.share(sexpr,smtConfig.exprFactory,smtConfig.share);
+			response = sendAcknowledged(sexpr.pos(),text("(assert ",e,")\n"));
 			checkSatStatus = null;
 		} catch (IVisitor.VisitorException e) {
 			throw new SMT.InternalException("jSMTLIB: Failed to assert expression; Asserted expr:" + sexpr, e);
@@ -271,18 +411,8 @@ public class Solver_z3_4_3 extends AbstractSolver implements ISolver {
 			throw new SMT.InternalException("jSMTLIB: The get-assertions command is only valid if :interactive-mode has been enabled");
 		}
 		try {
-			StringBuilder sb = new StringBuilder();
-			String s;
-			int parens = 0;
-			do {
-				s = solverProcess.sendAndListen("(get-assertions)\n");
-				int p = -1;
-				while (( p = s.indexOf('(',p+1)) != -1) parens++;
-				p = -1;
-				while (( p = s.indexOf(')',p+1)) != -1) parens--;
-				sb.append(s.replace('\n',' ').replace("\r",""));
-			} while (parens > 0);
-			s = sb.toString();
+			// The reply is framed by the sentinel, so it is read completely however many lines it has
+			String s = solverProcess.sendAndListen("(get-assertions)\n");
 			org.smtlib.sexpr.Parser p = new org.smtlib.sexpr.Parser(smtConfig,new org.smtlib.impl.Pos.Source(s,null));
 			List<IExpr> exprs = new LinkedList<IExpr>();
 			try {
@@ -334,6 +464,28 @@ public class Solver_z3_4_3 extends AbstractSolver implements ISolver {
 		return res;
 	}
 	
+	@Override
+	public IResponse check_sat(Duration timeout) {
+		ScheduledFuture<?> deadline = solverProcess.cancelAfter(smtConfig.cancelDeadline(timeout));
+		IResponse res;
+		try {
+			res = check_sat();
+		} catch (SMT.InternalException e) {
+			// A cancelled read surfaces as a failure to check-sat
+			if (!solverProcess.isCancelled()) throw e;
+			res = null;
+		} finally {
+			deadline.cancel(false);
+		}
+		if (solverProcess.isCancelled()) checkSatStatus = res = smtConfig.responseFactory.timeout();
+		return res;
+	}
+	
+	@Override
+	public void cancel() {
+		if (solverProcess != null) solverProcess.cancel();
+	}
+
 	@Override
 	public IResponse reset() {
 		logicSet = false;
@@ -407,7 +559,7 @@ public class Solver_z3_4_3 extends AbstractSolver implements ISolver {
 				throw new SMT.InternalException("jSMTLIB: The value of the " + option + " option must be 'true' or 'false'");
 			}
 		}
-		if (logicSet && (smtConfig.utils.INTERACTIVE_MODE.equals(option)||smtConfig.utils.PRODUCE_ASSERTIONS.equals(option))) {
+		if (logicSet && (Utils.INTERACTIVE_MODE.equals(option)||Utils.PRODUCE_ASSERTIONS.equals(option))) {
 			throw new SMT.InternalException("jSMTLIB: The value of the " + option + " option must be set before the set-logic command");
 		}
 		if (Utils.PRODUCE_ASSIGNMENTS.equals(option) || 
@@ -498,7 +650,7 @@ public class Solver_z3_4_3 extends AbstractSolver implements ISolver {
 		}
 		try {
 			checkSatStatus = null;
-			return parseResponse(solverProcess.sendAndListen(translate(cmd),"\n"));
+			return sendAcknowledged(pos(cmd),text("",cmd,"\n"));
 			
 		} catch (IOException e) {
 			throw new SMT.InternalException("jSMTLIB: Error writing to Z3 solver.", e);
@@ -525,7 +677,7 @@ public class Solver_z3_4_3 extends AbstractSolver implements ISolver {
 		}
 		try {
 			checkSatStatus = null;
-			return parseResponse(solverProcess.sendAndListen(translate(cmd),"\n"));
+			return sendAcknowledged(pos(cmd),text("",cmd,"\n"));
 		} catch (IOException e) {
 			throw new SMT.InternalException("jSMTLIB: Error writing to Z3 solver.", e);
 		} catch (IVisitor.VisitorException e) {
@@ -540,7 +692,7 @@ public class Solver_z3_4_3 extends AbstractSolver implements ISolver {
 		}
 		try {
 			checkSatStatus = null;
-			return parseResponse(solverProcess.sendAndListen(translate(cmd),"\n"));
+			return sendAcknowledged(pos(cmd),text("",cmd,"\n"));
 		} catch (IOException e) {
 			throw new SMT.InternalException("jSMTLIB: Error writing to Z3 solver.", e);
 		} catch (IVisitor.VisitorException e) {
@@ -555,7 +707,7 @@ public class Solver_z3_4_3 extends AbstractSolver implements ISolver {
 		}
 		try {
 			checkSatStatus = null;
-			return parseResponse(solverProcess.sendAndListen(translate(cmd),"\n"));
+			return sendAcknowledged(pos(cmd),text("",cmd,"\n"));
 		} catch (IOException e) {
 			throw new SMT.InternalException("jSMTLIB: Error writing to Z3 solver.", e);
 		} catch (IVisitor.VisitorException e) {
@@ -570,7 +722,7 @@ public class Solver_z3_4_3 extends AbstractSolver implements ISolver {
 		}
 		try {
 			checkSatStatus = null;
-			return parseResponse(solverProcess.sendAndListen(translate(cmd),"\n"));
+			return sendAcknowledged(pos(cmd),text("",cmd,"\n"));
 		} catch (IOException e) {
 			throw new SMT.InternalException("Error writing to Z3 solver.", e);
 		} catch (IVisitor.VisitorException e) {
@@ -585,7 +737,7 @@ public class Solver_z3_4_3 extends AbstractSolver implements ISolver {
 		}
 		try {
 			checkSatStatus = null;
-			return parseResponse(solverProcess.sendAndListen(translate(cmd),"\n"));
+			return sendAcknowledged(pos(cmd),text("",cmd,"\n"));
 		} catch (IOException e) {
 			throw new SMT.InternalException("jSMTLIB: Error writing to Z3 solver.", e);
 		} catch (IVisitor.VisitorException e) {
@@ -602,7 +754,7 @@ public class Solver_z3_4_3 extends AbstractSolver implements ISolver {
 			throw new SMT.InternalException("jSMTLIB: The get-proof command is only valid immediately after check-sat returned unsat");
 		}
 		try {
-			return parseResponse(solverProcess.sendAndListen("(get-proof)\n"));
+			return sendStreamed("(get-proof)\n");
 		} catch (IOException e) {
 			throw new SMT.InternalException("jSMTLIB: Error writing to Z3 solver.", e);
 		}
@@ -617,7 +769,7 @@ public class Solver_z3_4_3 extends AbstractSolver implements ISolver {
 			throw new SMT.InternalException("jSMTLIB: The get-unsat-core command is only valid immediately after check-sat returned unsat");
 		}
 		try {
-			IResponse response = parseResponse(solverProcess.sendAndListen("(get-unsat-core)\n"));
+			IResponse response = sendStreamed("(get-unsat-core)\n");
 			if (!(response instanceof Sexpr.Seq)) {
 				throw new SMT.InternalException("jSMTLIB: get_unsat_core did not return a list of symbols, but\n" + response.toString());
 			}
@@ -636,7 +788,7 @@ public class Solver_z3_4_3 extends AbstractSolver implements ISolver {
 			throw new SMT.InternalException("jSMTLIB: The get-model command is only valid immediately after check-sat returned sat");
 		}
 		try {
-			return parseResponse(solverProcess.sendAndListen("(get-model)\n"));
+			return sendStreamed("(get-model)\n");
 		} catch (IOException e) {
 			throw new SMT.InternalException("jSMTLIB: Error writing to Z3 solver.", e);
 		}
@@ -652,7 +804,7 @@ public class Solver_z3_4_3 extends AbstractSolver implements ISolver {
 			throw new SMT.InternalException("jSMTLIB: The get-assignment command is only valid immediately after check-sat returned sat or unknown");
 		}
 		try {
-			return parseResponse(solverProcess.sendAndListen("(get-assignment)\n"));
+			return sendStreamed("(get-assignment)\n");
 		} catch (IOException e) {
 			throw new SMT.InternalException("jSMTLIB: Error writing to Z3 solver.", e);
 		}
@@ -710,13 +862,17 @@ public class Solver_z3_4_3 extends AbstractSolver implements ISolver {
 				return ((Sexpr.Expr)sexpr).expr;
 			case "string-literal":
 				return smtConfig.exprFactory.quotedString(sexpr.toString());
+			case "binary":
+				return smtConfig.exprFactory.binary(((IExpr.IBinaryLiteral)sexpr).value());
+			case "hex-literal":
+				return smtConfig.exprFactory.hex(((IExpr.IHexLiteral)sexpr).value());
 			default:
 				throw new SMT.InternalException("encountered unknown kind of SExpr: '" + sexpr.kind() + "':" + sexpr.toString());
 		}
 	}
 
 	@Override 
-	public IResponse get_value(IExpr... terms) {
+	public IResponse get_value(final IExpr... terms) {
 		// FIXME - do we really want to call get-option here? it involves going to the solver?
 		if (!Utils.TRUE.equals(get_option(smtConfig.exprFactory.keyword(Utils.PRODUCE_MODELS)))) {
 			throw new SMT.InternalException("jSMTLIB: The get-value command is only valid if :produce-models has been enabled");
@@ -725,12 +881,17 @@ public class Solver_z3_4_3 extends AbstractSolver implements ISolver {
 			throw new SMT.InternalException("jSMTLIB: A get-value command is valid only after check-sat has returned sat or unknown");
 		}
 		try {
-			solverProcess.sendNoListen("(get-value (");
-			for (IExpr e: terms) {
-				solverProcess.sendNoListen(" ",translate(e));
-			}
-			String r = solverProcess.sendAndListen("))\n");
-			IResponse response = parseResponse(r);
+			IResponse response = sendStreamed(new SolverProcess.IText() {
+				@Override
+				public void write(Writer w) throws IOException, IVisitor.VisitorException {
+					w.write("(get-value (");
+					for (IExpr e: terms) {
+						w.write(" ");
+						translate(w,e);
+					}
+					w.write("))\n");
+				}
+			});
 //			return response;
 
 // old version:
@@ -840,6 +1001,12 @@ public class Solver_z3_4_3 extends AbstractSolver implements ISolver {
 //			}
 		}
 
+		/** Function applications are printed as the super class prints them, except - with more than two arguments */
+		@Override
+		protected boolean plain(IFcnExpr e) {
+			return !(e.args().size() > 2 && (e.head() instanceof IIdentifier) && e.head().toString().equals("-"));
+		}
+
 		//@ requires iter.hasNext();
 		//@ requires length > 0;
 		protected <T extends IExpr> void leftassoc(String fcnname, int length, Iterator<T> iter ) throws IVisitor.VisitorException {
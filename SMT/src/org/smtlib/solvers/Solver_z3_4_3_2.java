@@ -34,14 +34,9 @@ public class Solver_z3_4_3_2 extends Solver_z3_4_3 {
 		if (number == 0) return smtConfig.responseFactory.success();
 		try {
 			pushesDepth += number;
-			// This odd invocation is to correct a bug in Z3 4.3.2, where (push) can print out more than one success message.
-			solverProcess.sendNoListen("(push ",Integer.toString(number),")\n");
-			solverProcess.sendNoListen("(echo \"<<DONE>>\")\n");
-			String s;
-			do {
-				s = solverProcess.listen();
-			} while (!s.contains("<<DONE>>"));
-			// FIXME: If an error occurs, this will loop forever.
+			// Z3 4.3.2 has a bug in which (push) can print out more than one success message;
+			// sentinel framing reads all of them.
+			solverProcess.sendAndListen("(push ",Integer.toString(number),")\n");
 			// We can't use parseResponse to see if it an error, as the function does not expect Z3's buggy output.
 			return successOrEmpty(smtConfig);
 		} catch (Exception e) {
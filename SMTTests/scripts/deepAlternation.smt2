@@ -0,0 +1,7 @@
+; lets alternating with function applications, nested more deeply than type checking can handle
+; on the small Java stack that deep.scr gives it; the error is reported for that command alone
+(set-logic QF_UF)
+(declare-fun p () Bool)
+(assert (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) (and p (let ((x p)) x)))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))
+(assert (not p))
+(exit)
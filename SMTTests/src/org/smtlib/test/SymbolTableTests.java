@@ -0,0 +1,160 @@
+package org.smtlib.test;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.smtlib.IExpr;
+import org.smtlib.ISort;
+import org.smtlib.ISort.IFcnSort;
+import org.smtlib.SMT;
+import org.smtlib.SymbolTable;
+
+/** Tests the scoping of the symbol table directly, without parsing or invoking solvers */
+public class SymbolTableTests {
+
+	SMT.Configuration config;
+	SymbolTable table;
+	ISort bool;
+	ISort u;
+
+	@Before
+	public void setup() {
+		config = new SMT.Configuration();
+		table = new SymbolTable(config);
+		bool = config.sortFactory.Bool();
+		u = config.sortFactory.createSortExpression(config.exprFactory.symbol("U"));
+	}
+
+	/** Declares a constant of the given sort in the top scope of the table, returning its sort */
+	IFcnSort declare(SymbolTable t, String name, ISort sort) {
+		IFcnSort fsort = config.sortFactory.createFcnSort(new ISort[0], sort);
+		t.add(new SymbolTable.Entry(config.exprFactory.symbol(name), fsort, null));
+		return fsort;
+	}
+
+	/** Returns the sort of the constant with the given name, or null if there is none */
+	IFcnSort lookup(SymbolTable t, String name) {
+		return t.lookup(0, config.exprFactory.symbol(name));
+	}
+
+	@Test
+	public void shadowingAcrossPushPop() {
+		IFcnSort outer = declare(table, "x", bool);
+		table.push();
+		IFcnSort inner = declare(table, "x", u);
+		Assert.assertSame(inner, lookup(table, "x"));
+		table.push();
+		declare(table, "y", bool);
+		Assert.assertSame(inner, lookup(table, "x"));
+		table.pop();
+		Assert.assertNull(lookup(table, "y"));
+		Assert.assertSame(inner, lookup(table, "x"));
+		table.pop();
+		Assert.assertSame(outer, lookup(table, "x"));
+	}
+
+	@Test
+	public void shadowingManyScopes() {
+		IFcnSort[] sorts = new IFcnSort[100];
+		for (int i = 0; i < sorts.length; i++) {
+			table.push();
+			sorts[i] = declare(table, "x", i % 2 == 0 ? bool : u);
+		}
+		for (int i = sorts.length; --i >= 0; ) {
+			Assert.assertSame(sorts[i], lookup(table, "x"));
+			table.pop();
+		}
+		Assert.assertNull(lookup(table, "x"));
+	}
+
+	@Test
+	public void popTooFar() {
+		table.pop(); // the primary scope
+		try {
+			table.pop();
+			Assert.fail("Expected an InternalException");
+		} catch (SMT.InternalException e) {
+			// expected
+		}
+	}
+
+	@Test
+	public void merge() {
+		IFcnSort x = declare(table, "x", bool);
+		table.push();
+		IFcnSort y = declare(table, "y", u);
+		table.merge();
+		Assert.assertSame(x, lookup(table, "x"));
+		Assert.assertSame(y, lookup(table, "y"));
+		// y is now in the primary scope, so it survives a push and pop but not the primary scope's pop
+		table.push();
+		table.pop();
+		Assert.assertSame(y, lookup(table, "y"));
+		table.pop();
+		Assert.assertNull(lookup(table, "x"));
+		Assert.assertNull(lookup(table, "y"));
+	}
+
+	@Test
+	public void moveToBackground() {
+		table.pop();
+		declare(table, "old", bool); // with no scopes, this goes into the background
+		table.push();
+		IFcnSort x = declare(table, "x", bool);
+		table.moveToBackground();
+		Assert.assertNull(lookup(table, "old"));
+		Assert.assertSame(x, lookup(table, "x"));
+		// The background can be shadowed, and is seen again once the shadowing scope is popped
+		table.push();
+		IFcnSort shadow = declare(table, "x", u);
+		Assert.assertSame(shadow, lookup(table, "x"));
+		table.pop();
+		Assert.assertSame(x, lookup(table, "x"));
+	}
+
+	@Test
+	public void globalDeclarations() {
+		config.globalDeclarations = true;
+		table.push();
+		IFcnSort g = declare(table, "g", bool);
+		table.pop();
+		Assert.assertSame(g, lookup(table, "g"));
+		table.clear(true);
+		Assert.assertSame(g, lookup(table, "g"));
+		table.clear(false);
+		Assert.assertNull(lookup(table, "g"));
+	}
+
+	@Test
+	public void addWithoutOverloading() {
+		declare(table, "x", bool);
+		table.push();
+		IExpr.ISymbol x = config.exprFactory.symbol("x");
+		IFcnSort sort = config.sortFactory.createFcnSort(new ISort[0], u);
+		Assert.assertFalse(table.add(new SymbolTable.Entry(x, sort, null), false));
+		Assert.assertNotSame(sort, lookup(table, "x"));
+		Assert.assertTrue(table.add(new SymbolTable.Entry(x, sort, null), true));
+		Assert.assertSame(sort, lookup(table, "x"));
+	}
+
+	@Test
+	public void copy() {
+		IFcnSort x = declare(table, "x", bool);
+		SymbolTable copy = new SymbolTable(table);
+		Assert.assertSame(x, lookup(copy, "x"));
+		copy.push();
+		IFcnSort shadow = declare(copy, "x", u);
+		declare(copy, "y", bool);
+		Assert.assertSame(shadow, lookup(copy, "x"));
+		Assert.assertSame(x, lookup(table, "x"));
+		Assert.assertNull(lookup(table, "y"));
+		table.push();
+		declare(table, "z", bool);
+		Assert.assertNull(lookup(copy, "z"));
+		copy.pop();
+		Assert.assertSame(x, lookup(copy, "x"));
+		Assert.assertNull(lookup(copy, "y"));
+		table.pop();
+		Assert.assertSame(x, lookup(table, "x"));
+	}
+}
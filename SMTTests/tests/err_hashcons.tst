@@ -0,0 +1,10 @@
+(set-logic QF_UF)
+(declare-fun p () Bool)
+(declare-fun q () Bool)
+(assert (and p q))
+(assert (or p (and p q) (and p r)))
+(assert (=>   (and p r)   (and p q) (and p r)))
+(assert (and p (f q)))
+(assert (and p
+             (f q)))
+(exit)
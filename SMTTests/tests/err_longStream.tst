@@ -0,0 +1,11 @@
+; The end of a long script read from standard input (see scripts/longStream.scr), by which time
+; the text before it has been discarded; errors here are still shown against their own lines
+(set-option :print-success false)
+(set-logic QF_UF)
+(declare-fun p () Bool)
+(push 1)
+(assert (and p
+             q))
+(pop 1)
+(assert (and p (not p)))
+(check-sat)
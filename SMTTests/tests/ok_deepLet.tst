@@ -0,0 +1,7 @@
+; a long chain of directly nested lets, each shadowing the last, and of nested quantifiers
+(set-logic UF)
+(declare-fun p () Bool)
+(assert (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) (let ((x p)) x)))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))
+(assert (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (forall ((y Bool)) (exists ((z Bool)) (or y z))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))
+(assert (not p))
+(exit)
@@ -0,0 +1,5 @@
+(set-logic QF_UF)
+(declare-fun p () Bool)
+(assert p)
+(check-sat)
+; the file ends in this comment, with no final newline
\ No newline at end of file
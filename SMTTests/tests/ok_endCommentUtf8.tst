@@ -0,0 +1,5 @@
+(set-logic QF_UF)
+(declare-fun p () Bool)
+(assert p)
+(check-sat)
+; a comment with a non-ASCII character (é), with no final newline
\ No newline at end of file
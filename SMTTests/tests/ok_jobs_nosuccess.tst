@@ -0,0 +1,6 @@
+; turns print-success off, for processing alongside ok_jobs_success.tst with --jobs
+(set-option :print-success false)
+(set-logic QF_UF)
+(declare-fun p () Bool)
+(assert p)
+(exit)
@@ -0,0 +1,8 @@
+; output after a reset stays with the output of this file when processed with --jobs
+(set-logic QF_UF)
+(declare-fun p () Bool)
+(reset)
+(set-logic QF_UF)
+(declare-fun p () Bool)
+(get-option :print-success)
+(exit)
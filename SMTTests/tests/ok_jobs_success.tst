@@ -0,0 +1,7 @@
+; declarations whose success responses are expected even when a file processed alongside turns print-success off
+(set-logic QF_UF)
+(declare-fun p () Bool)
+(declare-fun q () Bool)
+(declare-fun r () Bool)
+(assert (or p q r))
+(exit)
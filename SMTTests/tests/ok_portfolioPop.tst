@@ -0,0 +1,18 @@
+(set-logic QF_UF)
+(declare-fun p () Bool)
+(push 1)
+(assert p)
+(check-sat)
+(pop 1)
+(push 2)
+(declare-fun q () Bool)
+(assert q)
+(push 1)
+(assert (not p))
+(pop 2)
+(assert (not p))
+(check-sat)
+(pop 1)
+(assert (and p p))
+(check-sat)
+(exit)
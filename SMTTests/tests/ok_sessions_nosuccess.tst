@@ -0,0 +1,5 @@
+; the first part of a session kept open while other sessions run, by scripts/sessions.scr
+(set-option :print-success false)
+(set-logic QF_UF)
+(declare-fun p () Bool)
+(assert p)
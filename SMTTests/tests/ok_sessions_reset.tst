@@ -0,0 +1,7 @@
+; the rest of the session begun by ok_sessions_nosuccess.tst, in scripts/sessions.scr: the replies after the reset
+; go back to the client, with print-success on again
+(reset)
+(set-logic QF_UF)
+(declare-fun q () Bool)
+(get-option :print-success)
+(exit)
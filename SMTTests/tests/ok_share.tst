@@ -0,0 +1,13 @@
+; Assertions and a definition with repeated subterms, which --share sends once as let bindings
+; (see scripts/share.scr)
+(set-logic QF_UF)
+(declare-fun p () Bool)
+(declare-fun q () Bool)
+(declare-fun f (Bool Bool) Bool)
+(assert (and (f (f p q) q) (not (f (f p q) q))))
+(assert (or (f p q) (f p q) p))
+(assert (or (f (f p q) (f p q)) (not (f (f p q) (f p q)))))
+(define-fun g ((x Bool)) Bool (and (f x (f p q)) (f x (f p q))))
+(assert (or (f p q) p))
+(check-sat)
+(exit)
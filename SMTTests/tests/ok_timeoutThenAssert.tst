@@ -0,0 +1,8 @@
+(set-logic QF_UF)
+(declare-fun p () Bool)
+(assert p)
+(check-sat)
+(assert (not p))
+(push 1)
+(pop 1)
+(exit)